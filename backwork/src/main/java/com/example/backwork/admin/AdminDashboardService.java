@@ -13,6 +13,8 @@ import com.example.backwork.rag.internal.PythonQueryRequest;
 import com.example.backwork.rag.internal.PythonQueryResponse;
 import com.example.backwork.schedule.entity.Schedule;
 import com.example.backwork.schedule.repository.ScheduleRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,7 +23,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +37,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -46,6 +59,7 @@ public class AdminDashboardService {
     private final ScheduleRepository scheduleRepository;
     private final RagDocumentRepository ragDocumentRepository;
     private final PythonRagClient pythonRagClient;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${rag.vector-bucket:mock-rag-dev}")
     private String vectorBucket;
@@ -56,7 +70,53 @@ public class AdminDashboardService {
     @Value("${rag.embedding-model:text-embedding-3-small}")
     private String embeddingModel;
 
-    @Transactional(readOnly = true)
+    // 캘린더별 RAG 요약 동시 호출 수 / 대기열 / 전체 마감 시간
+    @Value("${app.admin.dashboard.insight-concurrency:4}")
+    private int insightConcurrency;
+
+    @Value("${app.admin.dashboard.insight-queue-capacity:64}")
+    private int insightQueueCapacity;
+
+    @Value("${app.admin.dashboard.insight-deadline-ms:20000}")
+    private long insightDeadlineMs;
+
+    private TransactionTemplate readOnlyTransaction;
+    private ThreadPoolExecutor insightExecutor;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        int poolSize = Math.max(1, insightConcurrency);
+        AtomicInteger sequence = new AtomicInteger();
+        insightExecutor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, insightQueueCapacity)),
+                task -> {
+                    Thread thread = new Thread(task, "admin-insight-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        insightExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void stop() {
+        insightExecutor.shutdownNow();
+    }
+
+    /*
+        1) 짧은 읽기 트랜잭션에서 일정/문서를 값(DashboardSnapshot)으로 복사하고 커넥션 반환
+        2) 캘린더별 RAG 요약을 insightExecutor 에서 동시에 호출 (동시 실행 상한 = insight-concurrency)
+        3) insight-deadline-ms 안에 온 결과만 모아 응답, 늦거나 실패한 캘린더는 빼고 PARTIAL
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AdminDashboardTodayResponse getTodayDashboard() {
         ZoneId zoneId = ZoneId.of(TIMEZONE);
         ZonedDateTime now = ZonedDateTime.now(zoneId);
@@ -64,15 +124,13 @@ public class AdminDashboardService {
         LocalDateTime windowStart = today.atStartOfDay();
         LocalDateTime windowEnd = today.atTime(23, 59, 59);
 
-        long userCount = userRepository.countBy();
-        List<Schedule> todaySchedules = scheduleRepository.findByCreatedAtBetweenWithCalendarAndOwner(windowStart, windowEnd);
-        long todayScheduleCount = todaySchedules.size();
+        DashboardSnapshot snapshot = readOnlyTransaction.execute(status -> loadSnapshot(windowStart, windowEnd));
 
-        if (todaySchedules.isEmpty()) {
+        if (snapshot.todayScheduleCount() == 0) {
             return new AdminDashboardTodayResponse(
                     LocalDateTime.now(),
                     TIMEZONE,
-                    userCount,
+                    snapshot.userCount(),
                     0,
                     "오늘 생성된 일정이 없습니다.",
                     "FALLBACK",
@@ -83,96 +141,157 @@ public class AdminDashboardService {
             );
         }
 
-        Map<Long, List<Schedule>> schedulesByCalendar = todaySchedules.stream()
-                .collect(Collectors.groupingBy(item -> item.getCalendar().getId(), LinkedHashMap::new, Collectors.toList()));
-        List<Long> calendarIds = new ArrayList<>(schedulesByCalendar.keySet());
-
-        List<RagDocument> readyDocs = ragDocumentRepository.findByCalendarIdInAndStatus(calendarIds, DocumentStatus.READY);
-        Map<Long, List<RagDocument>> docsByCalendar = readyDocs.stream()
-                .collect(Collectors.groupingBy(item -> item.getCalendar().getId(), LinkedHashMap::new, Collectors.toList()));
-
-        String baseScheduleSummary = buildScheduleSummary(todaySchedules);
-        if (readyDocs.isEmpty()) {
+        if (snapshot.insightTasks().isEmpty()) {
             return new AdminDashboardTodayResponse(
                     LocalDateTime.now(),
                     TIMEZONE,
-                    userCount,
-                    todayScheduleCount,
-                    baseScheduleSummary,
+                    snapshot.userCount(),
+                    snapshot.todayScheduleCount(),
+                    snapshot.baseScheduleSummary(),
                     "PARTIAL",
                     windowStart,
                     windowEnd,
-                    calendarIds.size(),
+                    snapshot.calendarCount(),
                     0
             );
         }
 
+        List<InsightTask> tasks = snapshot.insightTasks();
+        List<Future<PythonQueryResponse>> futures = new ArrayList<>();
+        for (InsightTask task : tasks) {
+            try {
+                futures.add(insightExecutor.submit(() -> pythonRagClient.query(toQueryRequest(task))));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(insightDeadlineMs);
         int sourceCount = 0;
+        int missedCount = 0;
         List<String> insights = new ArrayList<>();
-        for (Map.Entry<Long, List<Schedule>> entry : schedulesByCalendar.entrySet()) {
-            Long calendarId = entry.getKey();
-            List<RagDocument> docs = docsByCalendar.getOrDefault(calendarId, List.of());
-            if (docs.isEmpty()) {
+        for (int i = 0; i < tasks.size(); i++) {
+            InsightTask task = tasks.get(i);
+            Future<PythonQueryResponse> future = futures.get(i);
+            if (future == null) {
+                log.warn("admin dashboard rag summary skipped (executor full). calendarId={}", task.calendarId());
+                missedCount++;
                 continue;
             }
 
-            List<Long> docIds = docs.stream().map(RagDocument::getId).toList();
-            String calendarContext = buildCalendarScheduleContext(entry.getValue());
-            String question = """
-                    관리자 운영 요약을 생성해 주세요.
-                    아래 일정 데이터와 문서를 함께 참고해 핵심 주제, 위험/충돌, 후속 액션을 3~5줄로 요약하세요.
-                    
-                    [오늘 생성 일정]
-                    %s
-                    """.formatted(calendarContext);
-
             try {
-                PythonQueryResponse response = pythonRagClient.query(new PythonQueryRequest(
-                        question,
-                        null,
-                        calendarId,
-                        docIds,
-                        vectorBucket,
-                        vectorIndex,
-                        embeddingModel,
-                        4
-                ));
+                PythonQueryResponse response = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
                 if (response != null && response.answer() != null && !response.answer().isBlank()) {
-                    String calendarName = entry.getValue().get(0).getCalendar().getName();
-                    insights.add("[%s] %s".formatted(calendarName, response.answer().trim()));
+                    insights.add("[%s] %s".formatted(task.calendarName(), response.answer().trim()));
                 }
                 if (response != null && response.retrievals() != null) {
                     sourceCount += response.retrievals().size();
                 }
-            } catch (Exception e) {
-                log.warn("admin dashboard rag summary failed. calendarId={}", calendarId, e);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                missedCount++;
+                log.warn("admin dashboard rag summary timed out. calendarId={}", task.calendarId());
+            } catch (ExecutionException e) {
+                missedCount++;
+                log.warn("admin dashboard rag summary failed. calendarId={}", task.calendarId(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                missedCount++;
             }
         }
 
         String finalSummary;
         String status;
         if (insights.isEmpty()) {
-            finalSummary = baseScheduleSummary;
+            finalSummary = snapshot.baseScheduleSummary();
             status = "PARTIAL";
         } else {
-            finalSummary = baseScheduleSummary + "\n\n[RAG 문맥 인사이트]\n" + String.join("\n", insights);
-            status = "COMPLETED";
+            finalSummary = snapshot.baseScheduleSummary() + "\n\n[RAG 문맥 인사이트]\n" + String.join("\n", insights);
+            status = missedCount == 0 ? "COMPLETED" : "PARTIAL";
+        }
+        if (missedCount > 0) {
+            finalSummary += "\n\n(응답 지연/실패로 %d개 캘린더 인사이트가 제외되었습니다.)".formatted(missedCount);
         }
 
         return new AdminDashboardTodayResponse(
                 LocalDateTime.now(),
                 TIMEZONE,
-                userCount,
-                todayScheduleCount,
+                snapshot.userCount(),
+                snapshot.todayScheduleCount(),
                 finalSummary,
                 status,
                 windowStart,
                 windowEnd,
-                calendarIds.size(),
+                snapshot.calendarCount(),
                 sourceCount
         );
     }
 
+    private DashboardSnapshot loadSnapshot(LocalDateTime windowStart, LocalDateTime windowEnd) {
+        long userCount = userRepository.countBy();
+        List<Schedule> todaySchedules = scheduleRepository.findByCreatedAtBetweenWithCalendarAndOwner(windowStart, windowEnd);
+        if (todaySchedules.isEmpty()) {
+            return new DashboardSnapshot(userCount, 0, null, 0, List.of());
+        }
+
+        Map<Long, List<Schedule>> schedulesByCalendar = todaySchedules.stream()
+                .collect(Collectors.groupingBy(item -> item.getCalendar().getId(), LinkedHashMap::new, Collectors.toList()));
+        List<Long> calendarIds = new ArrayList<>(schedulesByCalendar.keySet());
+
+        List<RagDocument> readyDocs = ragDocumentRepository.findByCalendarIdInAndStatus(calendarIds, DocumentStatus.READY);
+        Map<Long, List<Long>> docIdsByCalendar = readyDocs.stream()
+                .collect(Collectors.groupingBy(
+                        item -> item.getCalendar().getId(),
+                        LinkedHashMap::new,
+                        Collectors.mapping(RagDocument::getId, Collectors.toList())
+                ));
+
+        List<InsightTask> tasks = new ArrayList<>();
+        for (Map.Entry<Long, List<Schedule>> entry : schedulesByCalendar.entrySet()) {
+            List<Long> docIds = docIdsByCalendar.getOrDefault(entry.getKey(), List.of());
+            if (docIds.isEmpty()) {
+                continue;
+            }
+
+            String calendarContext = buildCalendarScheduleContext(entry.getValue());
+            String question = """
+                    관리자 운영 요약을 생성해 주세요.
+                    아래 일정 데이터와 문서를 함께 참고해 핵심 주제, 위험/충돌, 후속 액션을 3~5줄로 요약하세요.
+                    
+                    [오늘 생성 일정]
+                    %s
+                    """.formatted(calendarContext);
+            tasks.add(new InsightTask(
+                    entry.getKey(),
+                    entry.getValue().get(0).getCalendar().getName(),
+                    question,
+                    docIds
+            ));
+        }
+
+        return new DashboardSnapshot(
+                userCount,
+                todaySchedules.size(),
+                buildScheduleSummary(todaySchedules),
+                calendarIds.size(),
+                tasks
+        );
+    }
+
+    private PythonQueryRequest toQueryRequest(InsightTask task) {
+        return new PythonQueryRequest(
+                task.question(),
+                null,
+                task.calendarId(),
+                task.documentIds(),
+                vectorBucket,
+                vectorIndex,
+                embeddingModel,
+                4
+        );
+    }
+
     @Transactional(readOnly = true)
     public AdminUserListResponse getUsers(int page, int size, String keyword) {
         int normalizedPage = Math.max(page, 0);
@@ -281,5 +400,21 @@ public class AdminDashboardService {
         });
         return builder.toString();
     }
-}
 
+    private record DashboardSnapshot(
+            long userCount,
+            long todayScheduleCount,
+            String baseScheduleSummary,
+            int calendarCount,
+            List<InsightTask> insightTasks
+    ) {
+    }
+
+    private record InsightTask(
+            Long calendarId,
+            String calendarName,
+            String question,
+            List<Long> documentIds
+    ) {
+    }
+}
@@ -8,6 +8,8 @@ import com.example.backwork.calendar.CalendarService;
 import com.example.backwork.rag.RagDocumentService;
 import com.example.backwork.rag.dto.ChatQueryRequest;
 import com.example.backwork.rag.dto.ChatQueryResponse;
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.dto.ScheduleSlot;
 import com.example.backwork.schedule.entity.Schedule;
 import com.example.backwork.schedule.service.ScheduleService;
 import com.example.backwork.teamsch.service.TeamScheduleService;
@@ -102,33 +104,16 @@ public class AssistantChatService {
             }
             String content = parsed.content();
 
-            List<Schedule> createdSchedules = new ArrayList<>();
+            // 하루 단위 일정들을 한 번에 등록 (권한/사용자 조회 1회, batch insert, 팀 이벤트 1건)
+            List<ScheduleSlot> slots = new ArrayList<>();
             for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                LocalDateTime dayStart = date.atStartOfDay();
-                LocalDateTime dayEnd = date.atTime(23, 59, 59);
-
-                Schedule created;
-                if ("TEAM".equalsIgnoreCase(selected.type())) {
-                    created = teamScheduleService.createFromAssistant(
-                            userId,
-                            selected.id(),
-                            title,
-                            content,
-                            dayStart,
-                            dayEnd
-                    );
-                } else {
-                    created = scheduleService.createFromAssistant(
-                            userId,
-                            title,
-                            content,
-                            dayStart,
-                            dayEnd
-                    );
-                }
-                createdSchedules.add(created);
+                slots.add(new ScheduleSlot(date.atStartOfDay(), date.atTime(23, 59, 59)));
             }
 
+            List<Schedule> createdSchedules = "TEAM".equalsIgnoreCase(selected.type())
+                    ? teamScheduleService.createAllFromAssistant(userId, selected.id(), title, content, slots)
+                    : scheduleService.createAllFromAssistant(userId, title, content, slots);
+
             Schedule representative = createdSchedules.get(0);
             AssistantChatResponse.CreatedSchedule createdSchedule = new AssistantChatResponse.CreatedSchedule(
                     representative.getId(),
@@ -169,7 +154,7 @@ public class AssistantChatService {
                 endAt = lastDay.atTime(23, 59, 59);
             }
 
-            List<Schedule> schedules = "TEAM".equalsIgnoreCase(targetCalendar.type())
+            List<ScheduleResponse> schedules = "TEAM".equalsIgnoreCase(targetCalendar.type())
                     ? teamScheduleService.findByRange(userId, targetCalendar.id(), startAt, endAt)
                     : scheduleService.findByRange(userId, startAt, endAt);
 
@@ -294,13 +279,13 @@ public class AssistantChatService {
         }
     }
 
-    private String buildSummary(String calendarName, LocalDateTime startAt, LocalDateTime endAt, List<Schedule> schedules) {
+    private String buildSummary(String calendarName, LocalDateTime startAt, LocalDateTime endAt, List<ScheduleResponse> schedules) {
         if (schedules == null || schedules.isEmpty()) {
             return "%s 일정 요약 (%s ~ %s): 등록된 일정이 없습니다.".formatted(calendarName, startAt.toLocalDate(), endAt.toLocalDate());
         }
 
-        Map<LocalDate, List<Schedule>> grouped = schedules.stream()
-                .sorted(Comparator.comparing(Schedule::getStartAt, Comparator.nullsLast(Comparator.naturalOrder())))
+        Map<LocalDate, List<ScheduleResponse>> grouped = schedules.stream()
+                .sorted(Comparator.comparing(ScheduleResponse::getStartAt, Comparator.nullsLast(Comparator.naturalOrder())))
                 .collect(Collectors.groupingBy(
                         item -> item.getStartAt() == null ? startAt.toLocalDate() : item.getStartAt().toLocalDate(),
                         java.util.TreeMap::new,
@@ -309,9 +294,9 @@ public class AssistantChatService {
 
         List<String> lines = new ArrayList<>();
         lines.add("%s 일정 요약 (%s ~ %s)".formatted(calendarName, startAt.toLocalDate(), endAt.toLocalDate()));
-        for (Map.Entry<LocalDate, List<Schedule>> entry : grouped.entrySet()) {
+        for (Map.Entry<LocalDate, List<ScheduleResponse>> entry : grouped.entrySet()) {
             lines.add("%s".formatted(entry.getKey()));
-            for (Schedule schedule : entry.getValue()) {
+            for (ScheduleResponse schedule : entry.getValue()) {
                 lines.add("- %s".formatted(schedule.getTitle()));
             }
         }
@@ -2,45 +2,42 @@ package com.example.backwork.assistant;
 
 import com.example.backwork.assistant.internal.PythonAssistantParseRequest;
 import com.example.backwork.assistant.internal.PythonAssistantParseResponse;
+import com.example.backwork.python.PythonEndpoint;
+import com.example.backwork.python.PythonHttpClient;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
 
 @Component
 @RequiredArgsConstructor
 public class PythonAssistantClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final PythonHttpClient pythonHttpClient;
 
-    @Value("${python.api.base-url:http://python_api:8000}")
-    private String pythonApiBaseUrl;
+    // 파서는 짧게 끊고 실패 시 AssistantChatService 의 키워드 폴백을 쓴다.
+    @Value("${python.http.assistant-parse.read-timeout-ms:10000}")
+    private long parseReadTimeoutMs;
 
-    @Value("${internal.api.token:dev-internal-token}")
-    private String internalApiToken;
+    @Value("${python.http.assistant-parse.max-concurrent:16}")
+    private int parseMaxConcurrent;
 
-    public PythonAssistantParseResponse parse(PythonAssistantParseRequest request) {
-        // Spring -> Python 내부 파서 호출(의도/날짜 추출 전용)
-        HttpEntity<PythonAssistantParseRequest> entity = new HttpEntity<>(request, buildHeaders());
-        ResponseEntity<PythonAssistantParseResponse> response = restTemplate.exchange(
-                pythonApiBaseUrl + "/internal/assistant/parse",
-                HttpMethod.POST,
-                entity,
-                PythonAssistantParseResponse.class
+    private PythonEndpoint parseEndpoint;
+
+    @PostConstruct
+    public void init() {
+        parseEndpoint = pythonHttpClient.endpoint(
+                "assistant-parse",
+                "/internal/assistant/parse",
+                Duration.ofMillis(parseReadTimeoutMs),
+                parseMaxConcurrent
         );
-        return response.getBody();
     }
 
-    private HttpHeaders buildHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        // 내부 엔드포인트는 공유 토큰으로만 접근 허용
-        headers.set("X-Internal-Token", internalApiToken);
-        return headers;
+    public PythonAssistantParseResponse parse(PythonAssistantParseRequest request) {
+        // Spring -> Python 내부 파서 호출(의도/날짜 추출 전용)
+        return parseEndpoint.post(request, PythonAssistantParseResponse.class);
     }
 }
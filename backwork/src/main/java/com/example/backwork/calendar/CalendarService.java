@@ -1,11 +1,13 @@
 package com.example.backwork.calendar;
 
+import com.example.backwork.calendar.share.CalendarAccessChangedEvent;
 import com.example.backwork.calendar.share.ShareMember;
 import com.example.backwork.calendar.share.ShareMemberRepository;
 import com.example.backwork.member.User;
 import com.example.backwork.member.UserRepository;
 import com.example.backwork.assistant.dto.AssistantChatResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class CalendarService {
     private final CalendarRepository calendarRepository;
     private final UserRepository userRepository;
     private final ShareMemberRepository shareMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 사용자의 팀 캘린더 목록 조회
     public List<CalendarResponse> getTeamCalendars(Long userId) {
@@ -123,6 +126,7 @@ public class CalendarService {
         }
         
         calendarRepository.delete(calendar);
+        eventPublisher.publishEvent(new CalendarAccessChangedEvent(calendarId, null));
     }
 }
 
@@ -0,0 +1,24 @@
+package com.example.backwork.calendar.share;
+
+/**
+ * (calendarId, userId) 기준으로 해석된 접근 정보.
+ * role 은 팀 캘린더 공유 멤버일 때만 채워지며, owner 이거나 비멤버면 null.
+ */
+public record CalendarAccess(
+        Long calendarId,
+        String calendarType,
+        boolean owner,
+        RoleRw role
+) {
+    public boolean isTeam() {
+        return "TEAM".equals(calendarType);
+    }
+
+    public boolean isMember() {
+        return owner || role != null;
+    }
+
+    public boolean isWritable() {
+        return owner || role == RoleRw.WRITE;
+    }
+}
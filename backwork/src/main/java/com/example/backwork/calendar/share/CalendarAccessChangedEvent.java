@@ -0,0 +1,10 @@
+package com.example.backwork.calendar.share;
+
+/**
+ * 멤버 추가/권한 변경/제거, 팀 캘린더 삭제 시 발행. userId 가 null 이면 캘린더 전체 대상.
+ */
+public record CalendarAccessChangedEvent(
+        Long calendarId,
+        Long userId
+) {
+}
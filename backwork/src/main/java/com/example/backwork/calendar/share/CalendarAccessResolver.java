@@ -0,0 +1,112 @@
+package com.example.backwork.calendar.share;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.redis.RedisPublisher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    팀 캘린더/RAG 권한 확인 공용 캐시
+    key   = (calendarId, userId)
+    value = CalendarAccess (캘린더 타입, owner 여부, 공유 멤버 role)
+
+    - 매 요청(락 heartbeat 포함)마다 calendar + share_id 두 번 조회하던 것을 메모리 조회로 대체
+    - 멤버/캘린더 변경 시 CalendarAccessChangedEvent(커밋 이후) → 로컬 제거 + calendar:access 채널로 다른 노드에 전파
+    - 전파가 유실돼도 TTL(app.cache.calendar-access.ttl-seconds) 이후에는 DB 기준으로 다시 해석
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarAccessResolver {
+
+    public static final String CACHE_NAME = "calendarAccess";
+    public static final String INVALIDATION_CHANNEL = "calendar:access";
+
+    private final CalendarRepository calendarRepository;
+    private final ShareMemberRepository shareMemberRepository;
+    private final RedisPublisher redisPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.calendar-access.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.cache.calendar-access.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private Cache<AccessKey, CalendarAccess> accessCache;
+
+    @PostConstruct
+    public void init() {
+        accessCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, accessCache, CACHE_NAME);
+    }
+
+    public CalendarAccess resolve(Long calendarId, Long userId) {
+        if (calendarId == null || userId == null) {
+            throw new IllegalArgumentException("calendarId와 userId는 필수입니다.");
+        }
+        // 존재하지 않는 캘린더는 예외로 빠지므로 캐시에 남지 않는다.
+        return accessCache.get(new AccessKey(calendarId, userId), key -> load(key.calendarId(), key.userId()));
+    }
+
+    public void evict(Long calendarId, Long userId) {
+        if (calendarId == null) {
+            return;
+        }
+        if (userId == null) {
+            accessCache.asMap().keySet().removeIf(key -> key.calendarId().equals(calendarId));
+            return;
+        }
+        accessCache.invalidate(new AccessKey(calendarId, userId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccessChanged(CalendarAccessChangedEvent event) {
+        evict(event.calendarId(), event.userId());
+
+        try {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("calendarId", event.calendarId());
+            payload.put("userId", event.userId());
+            redisPublisher.publish(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료로 정리된다.
+            log.warn("calendar access invalidation broadcast failed. calendarId={}", event.calendarId(), e);
+        }
+    }
+
+    private CalendarAccess load(Long calendarId, Long userId) {
+        Calendar calendar = calendarRepository.findById(calendarId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 캘린더입니다."));
+
+        boolean owner = calendar.getOwner().getId().equals(userId);
+        RoleRw role = null;
+        if (!owner && "TEAM".equals(calendar.getType())) {
+            role = shareMemberRepository.findByCalendarIdAndUserId(calendarId, userId)
+                    .map(ShareMember::getRoleRw)
+                    .orElse(null);
+        }
+
+        return new CalendarAccess(calendarId, calendar.getType(), owner, role);
+    }
+
+    private record AccessKey(Long calendarId, Long userId) {
+    }
+}
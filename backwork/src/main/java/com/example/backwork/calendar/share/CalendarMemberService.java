@@ -5,6 +5,7 @@ import com.example.backwork.calendar.CalendarRepository;
 import com.example.backwork.member.User;
 import com.example.backwork.member.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,7 @@ public class CalendarMemberService {
     private final ShareMemberRepository shareMemberRepository;
     private final CalendarRepository calendarRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<CalendarMemberResponse> getMembers(Long calendarId, Long actorUserId) {
@@ -53,6 +55,7 @@ public class CalendarMemberService {
         }
 
         ShareMember saved = shareMemberRepository.save(new ShareMember(calendarId, member.getId(), roleRw));
+        eventPublisher.publishEvent(new CalendarAccessChangedEvent(calendarId, member.getId()));
         return CalendarMemberResponse.from(saved, member.getUserid());
     }
 
@@ -75,6 +78,7 @@ public class CalendarMemberService {
                 .orElseThrow(() -> new IllegalArgumentException("공유 멤버를 찾을 수 없습니다"));
 
         shareMember.updateRole(roleRw);
+        eventPublisher.publishEvent(new CalendarAccessChangedEvent(calendarId, memberUserId));
         return toResponse(shareMember);
     }
 
@@ -94,6 +98,7 @@ public class CalendarMemberService {
         }
 
         shareMemberRepository.deleteByCalendarIdAndUserId(calendarId, memberUserId);
+        eventPublisher.publishEvent(new CalendarAccessChangedEvent(calendarId, memberUserId));
     }
 
     private Calendar getCalendarOrThrow(Long calendarId) {
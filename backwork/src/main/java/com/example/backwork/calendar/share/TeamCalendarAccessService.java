@@ -10,48 +10,37 @@ import org.springframework.stereotype.Service;
 public class TeamCalendarAccessService {
 
     private final CalendarRepository calendarRepository;
-    private final ShareMemberRepository shareMemberRepository;
+    private final CalendarAccessResolver calendarAccessResolver;
 
+    // 권한 판정은 캐시된 CalendarAccess 로 하고, 반환 Calendar 는 조회 없는 참조(프록시)로 돌려준다.
     public Calendar requireMember(Long calendarId, Long userId) {
-        Calendar calendar = getTeamCalendar(calendarId);
-        if (isOwner(calendar, userId)) {
-            return calendar;
-        }
-
-        if (!shareMemberRepository.existsByCalendarIdAndUserId(calendarId, userId)) {
+        CalendarAccess access = getTeamAccess(calendarId, userId);
+        if (!access.isMember()) {
             throw new SecurityException("팀 캘린더 접근 권한이 없습니다.");
         }
 
-        return calendar;
+        return calendarRepository.getReferenceById(calendarId);
     }
 
     public Calendar requireWritable(Long calendarId, Long userId) {
-        Calendar calendar = getTeamCalendar(calendarId);
-        if (isOwner(calendar, userId)) {
-            return calendar;
+        CalendarAccess access = getTeamAccess(calendarId, userId);
+        if (!access.isMember()) {
+            throw new SecurityException("팀 캘린더 접근 권한이 없습니다.");
         }
 
-        ShareMember member = shareMemberRepository.findByCalendarIdAndUserId(calendarId, userId)
-                .orElseThrow(() -> new SecurityException("팀 캘린더 접근 권한이 없습니다."));
-
-        if (member.getRoleRw() != RoleRw.WRITE) {
+        if (!access.isWritable()) {
             throw new SecurityException("쓰기 권한이 없습니다.");
         }
 
-        return calendar;
+        return calendarRepository.getReferenceById(calendarId);
     }
 
-    private Calendar getTeamCalendar(Long calendarId) {
-        Calendar calendar = calendarRepository.findById(calendarId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 캘린더입니다."));
+    private CalendarAccess getTeamAccess(Long calendarId, Long userId) {
+        CalendarAccess access = calendarAccessResolver.resolve(calendarId, userId);
 
-        if (!"TEAM".equals(calendar.getType())) {
+        if (!access.isTeam()) {
             throw new IllegalArgumentException("팀 캘린더가 아닙니다.");
         }
-        return calendar;
-    }
-
-    private boolean isOwner(Calendar calendar, Long userId) {
-        return calendar.getOwner().getId().equals(userId);
+        return access;
     }
-}
\ No newline at end of file
+}
@@ -12,6 +12,9 @@ import org.springframework.stereotype.Component;
 @Order(1)
 public class DatabaseInitializer {
 
+    // 엔티티 @TableGenerator allocationSize 와 같게 유지
+    private static final int ID_ALLOCATION_SIZE = 50;
+
     private final JdbcTemplate jdbcTemplate;
 
     @PostConstruct
@@ -21,6 +24,13 @@ public class DatabaseInitializer {
             ensureMustChangePasswordColumn();
             ensureMemoPriorityColumn();
             ensureMainNoteColumns();
+            ensureScheduleRangeIndexes();
+            ensureIdGeneratorRow("schedule", "schedule");
+            ensureIdGeneratorRow("memopost", "memopost");
+            ensureIdGeneratorRow("documents", "documents");
+            ensureIdGeneratorRow("ingest_jobs", "ingest_jobs");
+            ensureScheduleRecurrence();
+            ensureIngestJobQueue();
         }
 
 
@@ -100,6 +110,137 @@ public class DatabaseInitializer {
             }
 
 
+            // 월/기간 조회(findOverlappingBy...)가 캘린더·작성자 기준으로 시작일 범위 스캔을 하도록 복합 인덱스 보장
+            private void ensureScheduleRangeIndexes() {
+                try {
+                    if (!hasIndex("schedule", "idx_schedule_calendar_period")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_schedule_calendar_period` ON `schedule` (`calendar_id`, `start_datetime`, `end_datetime`)");
+                        System.out.println("schedule 테이블에 idx_schedule_calendar_period 인덱스가 추가되었습니다.");
+                    } else {
+                        System.out.println("schedule 테이블에 idx_schedule_calendar_period 인덱스가 이미 존재합니다.");
+                    }
+
+                    if (!hasIndex("schedule", "idx_schedule_owner_period")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_schedule_owner_period` ON `schedule` (`created_by`, `start_datetime`, `end_datetime`)");
+                        System.out.println("schedule 테이블에 idx_schedule_owner_period 인덱스가 추가되었습니다.");
+                    } else {
+                        System.out.println("schedule 테이블에 idx_schedule_owner_period 인덱스가 이미 존재합니다.");
+                    }
+
+                    // 내보내기 keyset 페이지(ORDER BY start_datetime, id) 용: 기간 인덱스는 end_datetime 이 끼어 있어 filesort 가 생긴다.
+                    if (!hasIndex("schedule", "idx_schedule_calendar_start_id")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_schedule_calendar_start_id` ON `schedule` (`calendar_id`, `start_datetime`, `id`)");
+                        System.out.println("schedule 테이블에 idx_schedule_calendar_start_id 인덱스가 추가되었습니다.");
+                    }
+
+                    if (!hasIndex("schedule", "idx_schedule_owner_start_id")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_schedule_owner_start_id` ON `schedule` (`created_by`, `start_datetime`, `id`)");
+                        System.out.println("schedule 테이블에 idx_schedule_owner_start_id 인덱스가 추가되었습니다.");
+                    }
+                } catch (Exception e) {
+                    System.out.println("⚠️ schedule 기간 인덱스 확인 중 오류 발생 (무시됨): " + e.getMessage());
+                }
+            }
+
+            // 반복 일정: schedule 에 규칙/마지막 발생 컬럼, 회차 예외 테이블
+            // (신규 테이블은 id_generator 행이 없어도 Hibernate 가 첫 할당 때 만든다)
+            private void ensureScheduleRecurrence() {
+                try {
+                    if (!hasColumn("schedule", "recurrence_rule")) {
+                        jdbcTemplate.execute("ALTER TABLE `schedule` ADD COLUMN `recurrence_rule` VARCHAR(255) NULL");
+                        System.out.println("schedule 테이블에 recurrence_rule 컬럼이 추가되었습니다.");
+                    }
+                    if (!hasColumn("schedule", "recurrence_end")) {
+                        jdbcTemplate.execute("ALTER TABLE `schedule` ADD COLUMN `recurrence_end` DATETIME NULL");
+                        System.out.println("schedule 테이블에 recurrence_end 컬럼이 추가되었습니다.");
+                    }
+                    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS `schedule_occurrence` (" +
+                            "`id` BIGINT NOT NULL PRIMARY KEY, " +
+                            "`schedule_id` BIGINT NOT NULL, " +
+                            "`original_start` DATETIME NOT NULL, " +
+                            "`cancelled` TINYINT(1) NOT NULL DEFAULT 0, " +
+                            "`title` VARCHAR(255) NULL, " +
+                            "`content` TEXT NULL, " +
+                            "`start_datetime` DATETIME NULL, " +
+                            "`end_datetime` DATETIME NULL, " +
+                            "UNIQUE KEY `uk_schedule_occurrence_original` (`schedule_id`, `original_start`))");
+                    // 구간 조회(findWindowExceptions): 옮긴 회차를 시작/종료 시각 범위로 찾는다.
+                    if (!hasIndex("schedule_occurrence", "idx_schedule_occurrence_start")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_schedule_occurrence_start` ON `schedule_occurrence` (`schedule_id`, `start_datetime`)");
+                        System.out.println("schedule_occurrence 테이블에 idx_schedule_occurrence_start 인덱스가 추가되었습니다.");
+                    }
+                    if (!hasIndex("schedule_occurrence", "idx_schedule_occurrence_end")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_schedule_occurrence_end` ON `schedule_occurrence` (`schedule_id`, `end_datetime`)");
+                        System.out.println("schedule_occurrence 테이블에 idx_schedule_occurrence_end 인덱스가 추가되었습니다.");
+                    }
+                } catch (Exception e) {
+                    System.out.println("⚠️ 반복 일정 스키마 확인 중 오류 발생 (무시됨): " + e.getMessage());
+                }
+            }
+
+            // 색인 작업 대기열: 재시도 횟수/다음 시도 시각 + worker claim 용 인덱스
+            private void ensureIngestJobQueue() {
+                try {
+                    if (!hasColumn("ingest_jobs", "attempts")) {
+                        jdbcTemplate.execute("ALTER TABLE `ingest_jobs` ADD COLUMN `attempts` INT NOT NULL DEFAULT 0");
+                        System.out.println("ingest_jobs 테이블에 attempts 컬럼이 추가되었습니다.");
+                    }
+                    if (!hasColumn("ingest_jobs", "next_attempt_at")) {
+                        jdbcTemplate.execute("ALTER TABLE `ingest_jobs` ADD COLUMN `next_attempt_at` DATETIME NULL");
+                        System.out.println("ingest_jobs 테이블에 next_attempt_at 컬럼이 추가되었습니다.");
+                    }
+                    if (!hasIndex("ingest_jobs", "idx_ingest_jobs_claim")) {
+                        jdbcTemplate.execute("CREATE INDEX `idx_ingest_jobs_claim` ON `ingest_jobs` (`job_status`, `next_attempt_at`)");
+                        System.out.println("ingest_jobs 테이블에 idx_ingest_jobs_claim 인덱스가 추가되었습니다.");
+                    }
+                } catch (Exception e) {
+                    System.out.println("⚠️ 색인 작업 대기열 스키마 확인 중 오류 발생 (무시됨): " + e.getMessage());
+                }
+            }
+
+            // IDENTITY → @TableGenerator 전환: 기존 행의 최대 id 뒤에서 시작하도록 id_generator 행을 미리 만든다.
+            // (이미 있으면 건드리지 않음, allocationSize 만큼 여유를 둬 첫 블록이 기존 id 와 겹치지 않게 함)
+            private void ensureIdGeneratorRow(String generatorName, String tableName) {
+                try {
+                    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS `id_generator` (" +
+                            "`gen_name` VARCHAR(255) NOT NULL PRIMARY KEY, " +
+                            "`gen_value` BIGINT)");
+                    Integer exists = jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM `id_generator` WHERE `gen_name` = ?",
+                            Integer.class,
+                            generatorName
+                    );
+                    if (exists != null && exists > 0) {
+                        return;
+                    }
+                    Long maxId = jdbcTemplate.queryForObject(
+                            "SELECT COALESCE(MAX(`id`), 0) FROM `" + tableName + "`",
+                            Long.class
+                    );
+                    long start = (maxId == null ? 0 : maxId) + ID_ALLOCATION_SIZE + 1;
+                    jdbcTemplate.update("INSERT INTO `id_generator` (`gen_name`, `gen_value`) VALUES (?, ?)", generatorName, start);
+                    System.out.println("id_generator 에 " + generatorName + " 시작값(" + start + ")을 등록했습니다.");
+                } catch (Exception e) {
+                    System.out.println("⚠️ id_generator(" + generatorName + ") 확인 중 오류 발생 (무시됨): " + e.getMessage());
+                }
+            }
+
+            private boolean hasIndex(String tableName, String indexName) {
+                String checkIndexSql = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() " +
+                        "AND TABLE_NAME = ? " +
+                        "AND INDEX_NAME = ?";
+
+                Integer count = jdbcTemplate.queryForObject(
+                        checkIndexSql,
+                        Integer.class,
+                        tableName,
+                        indexName
+                );
+
+                return count != null && count > 0;
+            }
+
             private boolean hasColumn(String tableName, String columnName) {
                 String checkColumnSql = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS " +
                         "WHERE TABLE_SCHEMA = DATABASE() " +
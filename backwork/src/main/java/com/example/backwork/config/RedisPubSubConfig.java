@@ -1,15 +1,35 @@
 package com.example.backwork.config;
 
+import com.example.backwork.calendar.share.CalendarAccessResolver;
 import com.example.backwork.redis.RedisSubscriber;
+import com.example.backwork.teamsch.event.ScheduleEventChannels;
+import com.example.backwork.teamsch.event.TeamTopicDispatcher;
+import com.example.backwork.teamsch.event.TeamTopicShardSubscriptions;
+import com.example.backwork.teamsch.lock.event.LockExpiryListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.Properties;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
 @Configuration
 @ConditionalOnProperty(
         name = "app.redis.pubsub.enabled",
@@ -18,26 +38,189 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 )
 public class RedisPubSubConfig {
 
+    // 락 키 만료 통지(LOCK_EXPIRED)
+    private static final String KEY_EXPIRED_PATTERN = "__keyevent@*__:expired";
+
+    @Value("${app.redis.keyspace-notifications.configure:true}")
+    private boolean configureKeyspaceNotifications;
+
+    @Value("${app.redis.listener.queue-capacity:10000}")
+    private int listenerQueueCapacity;
+
+    @Value("${app.redis.listener.control-queue-capacity:1000}")
+    private int controlListenerQueueCapacity;
+
+    // 일정 변경 header 만 오는 채널. 월 캐시 정리를 위해 모든 노드가 구독한다.
+    @Bean
+    public ChannelTopic scheduleInvalidationTopic() {
+        return new ChannelTopic(ScheduleEventChannels.INVALIDATION_CHANNEL);
+    }
+
     @Bean
-    public ChannelTopic scheduleUpdateTopic() {
-        return new ChannelTopic("schedule:updates");
+    public ChannelTopic calendarAccessTopic() {
+        return new ChannelTopic(CalendarAccessResolver.INVALIDATION_CHANNEL);
     }
 
+    /*
+        listener 컨테이너를 둘로 나눈다. (컨테이너마다 실행기가 하나라 채널별로 정책을 다르게 줄 수 없음)
+        - redisMessageListenerContainer : 캐시/권한 무효화, 락 만료 → 절대 버리지 않는다
+        - redisShardListenerContainer   : schedule:updates:{shard} 전체 이벤트 → 밀리면 버린다
+          (무효화는 따로 보장되므로 놓친 변경은 다음 조회나 재연결 replay 에서 반영된다)
+     */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            MessageListenerAdapter listenerAdapter,
-            ChannelTopic scheduleUpdateTopic
+            @Qualifier("scheduleInvalidationListenerAdapter") MessageListenerAdapter scheduleInvalidationListenerAdapter,
+            @Qualifier("scheduleInvalidationTopic") ChannelTopic scheduleInvalidationTopic,
+            @Qualifier("calendarAccessListenerAdapter") MessageListenerAdapter calendarAccessListenerAdapter,
+            @Qualifier("calendarAccessTopic") ChannelTopic calendarAccessTopic,
+            LockExpiryListener lockExpiryListener,
+            @Qualifier("redisControlListenerTaskExecutor") ThreadPoolTaskExecutor redisControlListenerTaskExecutor
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, scheduleUpdateTopic);
+        container.setTaskExecutor(redisControlListenerTaskExecutor);
+        container.addMessageListener(scheduleInvalidationListenerAdapter, scheduleInvalidationTopic);
+        container.addMessageListener(calendarAccessListenerAdapter, calendarAccessTopic);
+        container.addMessageListener(lockExpiryListener, new PatternTopic(KEY_EXPIRED_PATTERN));
         return container;
     }
 
+    // schedule:updates:{shard} 는 TeamTopicShardSubscriptions 가 로컬 STOMP 구독에 따라 추가/제거
+    @Bean
+    public RedisMessageListenerContainer redisShardListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            @Qualifier("redisListenerTaskExecutor") ThreadPoolTaskExecutor redisListenerTaskExecutor
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(redisListenerTaskExecutor);
+        return container;
+    }
+
+    /*
+        무효화/권한/락 만료 listener 실행기
+        - 단일 스레드: 채널 수신 순서 유지, 작업은 캐시 정리 정도라 짧다
+        - 큐가 가득 차면 caller-runs (Redis 수신 스레드에서 직접 처리), 오래된 권한/캐시가 남는 것보다 잠깐 밀리는 편이 낫다
+     */
+    @Bean
+    public ThreadPoolTaskExecutor redisControlListenerTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(controlListenerQueueCapacity);
+        executor.setThreadNamePrefix("redis-control-listener-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /*
+        schedule:updates:{shard} listener 디스패치 실행기 (기본값은 메시지마다 스레드를 만드는 SimpleAsyncTaskExecutor)
+        - 단일 스레드: 채널 수신 순서 유지, 여기서는 header 해석/lane 적재만 한다
+        - 큐가 가득 차면 버리고 redis.listener.dropped 카운트 (Redis I/O 스레드를 막지 않기 위해 caller-runs 미사용)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor redisListenerTaskExecutor(MeterRegistry meterRegistry) {
+        Counter droppedCounter = Counter.builder("redis.listener.dropped").register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(listenerQueueCapacity);
+        executor.setThreadNamePrefix("redis-listener-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            droppedCounter.increment();
+            log.warn("redis shard listener queue full. schedule event dropped");
+        });
+        return executor;
+    }
+
+    /*
+        shard 채널 구독/해제 실행기 (TeamTopicShardSubscriptions)
+        - 단일 스레드: 0 → 1 / 1 → 0 전환 순서대로 add/removeMessageListener 를 호출해야 구독 상태가 뒤집히지 않는다.
+        - 큐 제한 없음: 전환은 shard 수만큼만 생기고, 버리면 구독이 새거나 빠진다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor redisShardSubscriptionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("redis-shard-subscription-");
+        return executor;
+    }
+
+    @Bean
+    public TeamTopicShardSubscriptions teamTopicShardSubscriptions(
+            @Qualifier("redisShardListenerContainer") RedisMessageListenerContainer redisShardListenerContainer,
+            @Qualifier("listenerAdapter") MessageListenerAdapter listenerAdapter,
+            @Qualifier("redisShardSubscriptionTaskExecutor") ThreadPoolTaskExecutor redisShardSubscriptionTaskExecutor,
+            ScheduleEventChannels scheduleEventChannels,
+            TeamTopicDispatcher teamTopicDispatcher,
+            MeterRegistry meterRegistry
+    ) {
+        return new TeamTopicShardSubscriptions(
+                redisShardListenerContainer,
+                listenerAdapter,
+                redisShardSubscriptionTaskExecutor,
+                scheduleEventChannels,
+                teamTopicDispatcher,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public LockExpiryListener lockExpiryListener(
+            RedisConnectionFactory connectionFactory,
+            SimpMessagingTemplate messagingTemplate,
+            StringRedisTemplate redisTemplate,
+            TeamTopicDispatcher teamTopicDispatcher
+    ) {
+        if (configureKeyspaceNotifications) {
+            enableExpiredKeyEvents(connectionFactory);
+        }
+        return new LockExpiryListener(messagingTemplate, redisTemplate, teamTopicDispatcher);
+    }
+
+    // 기존 설정은 유지하고 E(keyevent) + x(expired) 만 추가. 관리형 Redis 처럼 CONFIG 가 막혀 있으면 서버 설정에 맡긴다.
+    private void enableExpiredKeyEvents(RedisConnectionFactory connectionFactory) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+            String current = config == null ? "" : config.getProperty("notify-keyspace-events", "");
+
+            String flags = current;
+            if (!flags.contains("E")) {
+                flags += "E";
+            }
+            if (!flags.contains("x") && !flags.contains("A")) {
+                flags += "x";
+            }
+            if (!flags.equals(current)) {
+                connection.serverCommands().setConfig("notify-keyspace-events", flags);
+            }
+        } catch (Exception e) {
+            log.warn("notify-keyspace-events 설정을 변경하지 못했습니다. LOCK_EXPIRED 이벤트가 필요하면 Redis 에 'Ex' 를 설정하세요.", e);
+        }
+    }
+
     @Bean
     public MessageListenerAdapter listenerAdapter(RedisSubscriber subscriber) {
+        // body 를 문자열로 바꾸지 않고 byte[] 그대로 전달
         MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, "onMessage");
+        adapter.setSerializer(RedisSerializer.byteArray());
+        return adapter;
+    }
+
+    @Bean
+    public MessageListenerAdapter scheduleInvalidationListenerAdapter(RedisSubscriber subscriber) {
+        MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, "onInvalidationMessage");
+        adapter.setSerializer(RedisSerializer.byteArray());
+        return adapter;
+    }
+
+    // 다른 노드에서 발생한 멤버/권한 변경 → 이 노드의 권한 캐시 정리
+    @Bean
+    public MessageListenerAdapter calendarAccessListenerAdapter(RedisSubscriber subscriber) {
+        MessageListenerAdapter adapter = new MessageListenerAdapter(subscriber, "onCalendarAccessMessage");
         adapter.setSerializer(new StringRedisSerializer());
         return adapter;
     }
@@ -0,0 +1,13 @@
+package com.example.backwork.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/*
+    @Scheduled 작업 활성화
+    - WebSocket 락 lease 일괄 연장(LockLeaseHeartbeatScheduler)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
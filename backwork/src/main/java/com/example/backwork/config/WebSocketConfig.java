@@ -2,9 +2,17 @@ package com.example.backwork.config;
 
 
 
+import com.example.backwork.teamsch.event.TeamTopicSubscriptionInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 @Configuration
 @EnableWebSocketMessageBroker
 
@@ -12,23 +20,141 @@ import org.springframework.web.socket.config.annotation.*;
 /*
     WebSocket 활용 선언부입니다
     /topic = sub 해당 채널 구독
+    /queue = 세션 단위 응답(/user/queue/locks : 락 lease 결과)
     /app = pub 해당 채널 전체에 메시지 발행
     /ws websocket 종점 선언
+    handshake 시 HTTP 세션의 LOGIN_USER, HTTP_SESSION_ID 를 WebSocket 세션 속성으로 복사한다.
+    /topic/team/{calendarId} SUBSCRIBE 는 TeamTopicSubscriptionInterceptor 가 팀 멤버인지 확인한다.
+
+    broker 모드 (app.websocket.broker.mode)
+    - simple : 노드 메모리 브로커, 노드 간 전달은 Redis schedule:updates:{shard} 브리지(RedisSubscriber)
+    - relay  : 외부 STOMP 브로커(ActiveMQ Artemis 등)로 relay, 노드 간 전달은 브로커가 담당
+               → Redis 브리지는 캐시 정리만 하고 STOMP 전달은 발행 노드가 1회 (TeamTopicDispatcher)
  */
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${app.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.broker.relay-login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.broker.relay-passcode:guest}")
+    private String relayPasscode;
+
+    // [서버 → 클라이언트, 클라이언트 → 서버] heartbeat 간격(ms), 끊긴 연결을 빨리 정리해 구독/lease 를 회수한다.
+    @Value("${app.websocket.heartbeat.server-ms:10000}")
+    private long serverHeartbeatMillis;
+
+    @Value("${app.websocket.heartbeat.client-ms:10000}")
+    private long clientHeartbeatMillis;
+
+    @Value("${app.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${app.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${app.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${app.websocket.outbound.core-pool-size:16}")
+    private int outboundCorePoolSize;
+
+    @Value("${app.websocket.outbound.max-pool-size:64}")
+    private int outboundMaxPoolSize;
+
+    @Value("${app.websocket.outbound.queue-capacity:50000}")
+    private int outboundQueueCapacity;
+
+    // 느린 클라이언트 하나가 outbound 스레드를 붙잡지 않도록 세션별 송신 버퍼/시간 제한
+    @Value("${app.websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${app.websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${app.websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
+    private TeamTopicSubscriptionInterceptor teamTopicSubscriptionInterceptor;
+
+    @Autowired
+    public void setTeamTopicSubscriptionInterceptor(@Lazy TeamTopicSubscriptionInterceptor interceptor) {
+        this.teamTopicSubscriptionInterceptor = interceptor;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");   // subscribe
+        long[] heartbeat = {serverHeartbeatMillis, clientHeartbeatMillis};
+
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(serverHeartbeatMillis)
+                    .setSystemHeartbeatReceiveInterval(clientHeartbeatMillis);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue")   // subscribe
+                    .setHeartbeatValue(heartbeat)
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
         config.setApplicationDestinationPrefixes("/app"); // publish
+        // outbound 채널이 스레드 풀이라 같은 세션으로 가는 메시지 순서가 뒤바뀔 수 있다.
+        // 세션별로 순서를 보장해 schedule 이벤트 event-id 가 역순으로 도착하지 않게 한다.
+        config.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+        registration.interceptors(teamTopicSubscriptionInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMillis)
+                .setMessageSizeLimit(messageSizeLimit);
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-native")
-                .setAllowedOriginPatterns("*");
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(new HttpSessionHandshakeInterceptor());
 
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*")
+                .addInterceptors(new HttpSessionHandshakeInterceptor())
                 .withSockJS();
     }
 
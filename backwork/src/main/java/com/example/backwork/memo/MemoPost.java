@@ -14,8 +14,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class MemoPost {
 
+    // Schedule 과 같은 id_generator 테이블 사용 (IDENTITY 는 JDBC batch insert 를 막는다)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "memopost_id")
+    @TableGenerator(
+            name = "memopost_id",
+            table = "id_generator",
+            pkColumnName = "gen_name",
+            valueColumnName = "gen_value",
+            pkColumnValue = "memopost",
+            allocationSize = 50
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -120,6 +120,6 @@ public class MemoService {
             memo.setMainNoteOrder(request.getMainNoteOrder());
         }
 
-        memoPostRepository.saveAll(memos);
+        // 조회한 엔티티는 영속 상태 → 커밋 시 dirty checking 으로 UPDATE 가 JDBC batch(order_updates)로 묶여 나간다.
     }
 }
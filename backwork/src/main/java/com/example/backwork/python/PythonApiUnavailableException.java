@@ -0,0 +1,9 @@
+package com.example.backwork.python;
+
+// 회로 차단(open) 또는 동시 호출 상한 초과로 Python 을 호출하지 않고 바로 거절한 경우
+public class PythonApiUnavailableException extends RuntimeException {
+
+    public PythonApiUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.backwork.python;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/*
+    Python 엔드포인트 1개 호출기 (PythonHttpClient.endpoint 로 생성)
+    bulkhead → 회로 차단 확인 → 호출 → 결과 기록 순서
+    - I/O 오류(타임아웃 포함), 5xx, 스트림 중간 error 줄(PythonStreamErrorException)만 실패로 센다.
+      4xx 는 서버가 살아 있다는 뜻이므로 성공 취급
+    - python.api.requests{endpoint, outcome} 타이머 (히스토그램), python.api.rejected{endpoint, reason} 카운터
+ */
+public class PythonEndpoint {
+
+    private final String name;
+    private final String url;
+    private final RestTemplate restTemplate;
+    private final Supplier<HttpHeaders> headers;
+    private final ObjectMapper objectMapper;
+    private final Semaphore bulkhead;
+    private final Duration bulkheadWait;
+    private final int failureThreshold;
+    private final long circuitOpenMillis;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean halfOpenTrial = new AtomicBoolean();
+    private volatile long openUntil;
+
+    private final Counter bulkheadRejected;
+    private final Counter circuitRejected;
+
+    PythonEndpoint(
+            String name,
+            String url,
+            RestTemplate restTemplate,
+            Supplier<HttpHeaders> headers,
+            ObjectMapper objectMapper,
+            int maxConcurrent,
+            Duration bulkheadWait,
+            int failureThreshold,
+            Duration circuitOpen,
+            MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.url = url;
+        this.restTemplate = restTemplate;
+        this.headers = headers;
+        this.objectMapper = objectMapper;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.bulkheadWait = bulkheadWait;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.circuitOpenMillis = circuitOpen.toMillis();
+        this.meterRegistry = meterRegistry;
+        this.bulkheadRejected = Counter.builder("python.api.rejected")
+                .tag("endpoint", name)
+                .tag("reason", "bulkhead")
+                .register(meterRegistry);
+        this.circuitRejected = Counter.builder("python.api.rejected")
+                .tag("endpoint", name)
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+    }
+
+    public <T> T post(Object body, Class<T> responseType) {
+        return guarded(() -> restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers.get()), responseType)
+                .getBody());
+    }
+
+    /**
+     * 응답 본문을 한 줄(NDJSON)씩 lineHandler 로 넘긴다. 스트림이 끝날 때까지 bulkhead 슬롯을 잡고 있는다.
+     * lineHandler 가 예외를 던지면(예: 브라우저 연결 끊김) 연결을 닫고 그대로 전파한다.
+     * Python 이 보낸 error 줄은 lineHandler 에서 PythonStreamErrorException 으로 던져야 회로 실패로 기록된다.
+     */
+    public void stream(Object body, Consumer<String> lineHandler) {
+        guarded(() -> restTemplate.execute(
+                url,
+                HttpMethod.POST,
+                request -> {
+                    request.getHeaders().putAll(headers.get());
+                    request.getBody().write(objectMapper.writeValueAsBytes(body));
+                },
+                response -> {
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.isBlank()) {
+                                lineHandler.accept(line);
+                            }
+                        }
+                    }
+                    return null;
+                }
+        ));
+    }
+
+    private <T> T guarded(Supplier<T> call) {
+        acquire();
+        try {
+            if (!allowRequest()) {
+                circuitRejected.increment();
+                throw new PythonApiUnavailableException("Python API 회로가 열려 있습니다. endpoint=" + name);
+            }
+            return execute(call);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public boolean isOpen() {
+        return openUntil != 0L;
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (HttpClientErrorException e) {
+            outcome = "client_error";
+            onSuccess();
+            throw e;
+        } catch (HttpServerErrorException e) {
+            outcome = "server_error";
+            onFailure();
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = "io_error";
+            onFailure();
+            throw e;
+        } catch (PythonStreamErrorException e) {
+            // 스트림 중간 error 줄은 5xx 와 같게 본다.
+            outcome = "server_error";
+            onFailure();
+            throw e;
+        } catch (RuntimeException e) {
+            // 응답 변환 오류 등: 회로 상태는 건드리지 않고 half-open 시도만 풀어 준다.
+            outcome = "error";
+            halfOpenTrial.set(false);
+            throw e;
+        } finally {
+            Timer.builder("python.api.requests")
+                    .tag("endpoint", name)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void acquire() {
+        try {
+            if (bulkhead.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        bulkheadRejected.increment();
+        throw new PythonApiUnavailableException("Python API 동시 호출 한도를 초과했습니다. endpoint=" + name);
+    }
+
+    private boolean allowRequest() {
+        long until = openUntil;
+        if (until == 0L) {
+            return true;
+        }
+        if (System.currentTimeMillis() < until) {
+            return false;
+        }
+        // half-open: 1건만 통과
+        return halfOpenTrial.compareAndSet(false, true);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        openUntil = 0L;
+        halfOpenTrial.set(false);
+    }
+
+    private void onFailure() {
+        // half-open 시도 실패는 카운트가 이미 임계치 이상이라 바로 다시 열린다.
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openUntil = System.currentTimeMillis() + circuitOpenMillis;
+        }
+        halfOpenTrial.set(false);
+    }
+}
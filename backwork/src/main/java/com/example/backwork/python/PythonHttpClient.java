@@ -0,0 +1,86 @@
+package com.example.backwork.python;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/*
+    Spring -> Python 내부 API 공용 HTTP 클라이언트
+    - JDK HttpClient 1개를 공유 (HTTP/1.1 keep-alive 커넥션 풀, connect timeout)
+    - 엔드포인트마다 read timeout / 동시 호출 상한(bulkhead) / 회로 차단기 / 지연 히스토그램을 따로 둔다.
+      → 느린 ingest 가 query·assistant 호출 슬롯이나 서블릿 스레드를 잡아먹지 않게
+ */
+@Component
+@RequiredArgsConstructor
+public class PythonHttpClient {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${python.api.base-url:http://python_api:8000}")
+    private String pythonApiBaseUrl;
+
+    @Value("${internal.api.token:dev-internal-token}")
+    private String internalApiToken;
+
+    @Value("${python.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    // 동시 호출 상한에 걸렸을 때 슬롯을 기다리는 최대 시간
+    @Value("${python.http.bulkhead-wait-ms:200}")
+    private long bulkheadWaitMs;
+
+    // 연속 실패(I/O 오류, 5xx)가 이 횟수에 도달하면 open
+    @Value("${python.http.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    // open 유지 시간. 지나면 요청 1건만 통과시켜(half-open) 결과로 닫거나 다시 연다.
+    @Value("${python.http.circuit.open-ms:30000}")
+    private long circuitOpenMs;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    public PythonEndpoint endpoint(String name, String path, Duration readTimeout, int maxConcurrent) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        return new PythonEndpoint(
+                name,
+                pythonApiBaseUrl + path,
+                new RestTemplate(requestFactory),
+                this::buildHeaders,
+                objectMapper,
+                Math.max(1, maxConcurrent),
+                Duration.ofMillis(bulkheadWaitMs),
+                failureThreshold,
+                Duration.ofMillis(circuitOpenMs),
+                meterRegistry
+        );
+    }
+
+    private HttpHeaders buildHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        // 내부 엔드포인트는 공유 토큰으로만 접근 허용
+        headers.set("X-Internal-Token", internalApiToken);
+        return headers;
+    }
+}
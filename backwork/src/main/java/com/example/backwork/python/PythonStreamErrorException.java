@@ -0,0 +1,9 @@
+package com.example.backwork.python;
+
+// 스트리밍 응답 도중 Python 이 error 줄을 보낸 경우 (연결은 됐지만 서버 쪽 처리 실패 → 회로 실패로 센다)
+public class PythonStreamErrorException extends PythonApiUnavailableException {
+
+    public PythonStreamErrorException(String message) {
+        super(message);
+    }
+}
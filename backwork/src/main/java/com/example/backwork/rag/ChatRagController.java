@@ -4,6 +4,7 @@ import com.example.backwork.assistant.AssistantChatService;
 import com.example.backwork.assistant.dto.AssistantChatRequest;
 import com.example.backwork.assistant.dto.AssistantChatResponse;
 import com.example.backwork.member.SessionUser;
+import com.example.backwork.python.PythonApiUnavailableException;
 import com.example.backwork.rag.dto.ChatQueryRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -23,6 +25,7 @@ public class ChatRagController {
     private final RagDocumentService ragDocumentService;
     private final SessionUserResolver sessionUserResolver;
     private final AssistantChatService assistantChatService;
+    private final ChatStreamService chatStreamService;
 
     @PostMapping("/query")
     public ResponseEntity<?> query(
@@ -50,6 +53,27 @@ public class ChatRagController {
         return ResponseEntity.ok(response);
     }
 
+    // SSE: sources → delta ... → done (실패 시 error 이벤트)
+    @PostMapping("/query/stream")
+    public ResponseEntity<SseEmitter> queryStream(
+            @RequestBody ChatQueryRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = sessionUserResolver.resolve(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        return ResponseEntity.ok(chatStreamService.streamQuery(user.getId(), request));
+    }
+
+    @PostMapping("/assistant/stream")
+    public ResponseEntity<SseEmitter> assistantStream(
+            @RequestBody AssistantChatRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = sessionUserResolver.resolve(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        return ResponseEntity.ok(chatStreamService.streamAssistant(user.getId(), request));
+    }
+
     @ExceptionHandler(SecurityException.class)
     public ResponseEntity<Map<String, Object>> handleSecurityException(SecurityException e) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(Map.of(
@@ -74,6 +98,15 @@ public class ChatRagController {
         ));
     }
 
+    // 회로 차단/동시 호출 한도 초과: 잠시 후 재시도하도록 503
+    @ExceptionHandler(PythonApiUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handlePythonUnavailable(PythonApiUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                "code", "PYTHON_UNAVAILABLE",
+                "message", e.getMessage()
+        ));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleUnhandled(Exception e) {
         log.error("Unhandled exception in /api/chat", e);
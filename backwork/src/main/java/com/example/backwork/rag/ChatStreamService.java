@@ -0,0 +1,200 @@
+package com.example.backwork.rag;
+
+import com.example.backwork.assistant.AssistantChatService;
+import com.example.backwork.assistant.dto.AssistantChatRequest;
+import com.example.backwork.python.PythonApiUnavailableException;
+import com.example.backwork.rag.dto.ChatQueryRequest;
+import com.example.backwork.rag.dto.ChatQueryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/*
+    /api/chat/** 스트리밍(SSE) 응답
+    - 요청 검증/권한 확인은 서블릿 스레드에서 먼저 (실패 시 일반 JSON 400/403)
+    - 이후 Python 스트림 중계는 전용 풀에서 → 서블릿 스레드는 바로 반환
+    - 이벤트: sources(검색 결과) → delta({text}) ... → done(전체 응답) / 실패 시 error({code, message})
+    - 풀이 가득 차면 503 (Java 17 이라 가상 스레드 대신 크기 제한 풀)
+    - 시간 초과/연결 끊김 시 다음 줄에서 Python 스트림 읽기를 중단해 bulkhead 슬롯과 풀 스레드를 돌려준다.
+    - Python 쪽 실패(회로 차단, 5xx, 스트림 중간 error 줄)는 PYTHON_UNAVAILABLE
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatStreamService {
+
+    private final RagDocumentService ragDocumentService;
+    private final AssistantChatService assistantChatService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.chat.stream.max-concurrent:32}")
+    private int maxConcurrent;
+
+    @Value("${app.chat.stream.timeout-ms:180000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        int poolSize = Math.max(1, maxConcurrent);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "chat-stream-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("chat.stream.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public SseEmitter streamQuery(Long userId, ChatQueryRequest request) {
+        RagDocumentService.QueryPlan plan = ragDocumentService.prepareQuery(userId, request);
+        return start(stream -> {
+            ChatQueryResponse response = ragDocumentService.streamQuery(
+                    userId,
+                    plan,
+                    sources -> stream.send("sources", sources),
+                    delta -> stream.send("delta", Map.of("text", delta))
+            );
+            stream.send("done", response);
+        });
+    }
+
+    // 어시스턴트는 의도 파싱 + 일정 처리라 토큰 스트림이 없다. 서블릿 스레드만 풀어 주고 결과를 done 으로 보낸다.
+    public SseEmitter streamAssistant(Long userId, AssistantChatRequest request) {
+        return start(stream -> stream.send("done", assistantChatService.chat(userId, request)));
+    }
+
+    private SseEmitter start(Consumer<ChatStream> body) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        ChatStream stream = new ChatStream(emitter);
+        // 시간 초과/연결 끊김/완료 후에는 다음 줄을 받는 즉시 Python 스트림을 닫는다.
+        emitter.onTimeout(stream::cancel);
+        emitter.onError(e -> stream.cancel());
+        emitter.onCompletion(stream::cancel);
+        try {
+            executor.execute(() -> {
+                try {
+                    body.accept(stream);
+                    emitter.complete();
+                } catch (StreamCancelledException e) {
+                    log.debug("chat stream cancelled");
+                } catch (UncheckedIOException e) {
+                    // 브라우저가 연결을 끊음 → Python 스트림도 이미 닫혔다.
+                    log.debug("chat stream client disconnected", e);
+                    emitter.completeWithError(e);
+                } catch (Exception e) {
+                    sendError(stream, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new PythonApiUnavailableException("동시 스트리밍 요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return emitter;
+    }
+
+    private void sendError(ChatStream stream, Exception e) {
+        if (stream.isCancelled()) {
+            return;
+        }
+
+        String code;
+        String message;
+        if (e instanceof PythonApiUnavailableException) {
+            // 회로 차단/동시 호출 초과 + 스트림 중간 Python error 줄
+            code = "PYTHON_UNAVAILABLE";
+            message = e.getMessage();
+        } else if (e instanceof HttpServerErrorException || e instanceof ResourceAccessException) {
+            code = "PYTHON_UNAVAILABLE";
+            message = "답변 서버에 연결하지 못했습니다. 잠시 후 다시 시도해 주세요.";
+        } else if (e instanceof IllegalArgumentException || e instanceof IllegalStateException
+                || e instanceof SecurityException) {
+            code = "BAD_REQUEST";
+            message = e.getMessage();
+        } else {
+            log.error("chat stream failed", e);
+            code = "INTERNAL_ERROR";
+            message = "답변 생성 중 오류가 발생했습니다.";
+        }
+
+        SseEmitter emitter = stream.emitter;
+        try {
+            emitter.send(SseEmitter.event().name("error").data(Map.of(
+                    "code", code,
+                    "message", message == null ? code : message
+            )));
+            emitter.complete();
+        } catch (Exception sendError) {
+            emitter.completeWithError(sendError);
+        }
+    }
+
+    // 요청 1건의 SSE 연결. cancelled 이후의 send 는 StreamCancelledException 으로 Python 읽기를 끊는다.
+    private static final class ChatStream {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private ChatStream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void send(String name, Object data) {
+            if (cancelled.get()) {
+                throw new StreamCancelledException();
+            }
+            try {
+                emitter.send(SseEmitter.event().name(name).data(data));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void cancel() {
+            cancelled.set(true);
+        }
+
+        boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+
+    private static final class StreamCancelledException extends RuntimeException {
+
+        private StreamCancelledException() {
+            super("chat stream cancelled", null, false, false);
+        }
+    }
+}
@@ -7,13 +7,25 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "ingest_jobs")
+@Table(
+        name = "ingest_jobs",
+        indexes = @Index(name = "idx_ingest_jobs_claim", columnList = "job_status, next_attempt_at")
+)
 @Getter
 @NoArgsConstructor
 public class IngestJob {
 
+    // Schedule 과 같은 id_generator 테이블 사용 (IDENTITY 는 JDBC batch insert 를 막는다)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ingest_jobs_id")
+    @TableGenerator(
+            name = "ingest_jobs_id",
+            table = "id_generator",
+            pkColumnName = "gen_name",
+            valueColumnName = "gen_value",
+            pkColumnValue = "ingest_jobs",
+            allocationSize = 50
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -27,6 +39,14 @@ public class IngestJob {
     @Column(name = "error_message", length = 4000)
     private String errorMessage;
 
+    // 실행(claim) 횟수. 재시도 한도/백오프 계산에 사용
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // QUEUED 상태에서 이 시각 이후에만 worker 가 가져간다 (재시도 백오프)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
@@ -42,14 +62,27 @@ public class IngestJob {
     public IngestJob(RagDocument document) {
         this.document = document;
         this.jobStatus = IngestJobStatus.QUEUED;
+        this.nextAttemptAt = LocalDateTime.now();
     }
 
     public void markRunning() {
         this.jobStatus = IngestJobStatus.RUNNING;
+        this.attempts++;
         this.startedAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void scheduleRetry(String errorMessage, LocalDateTime nextAttemptAt) {
+        this.jobStatus = IngestJobStatus.QUEUED;
+        this.errorMessage = errorMessage;
+        this.nextAttemptAt = nextAttemptAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isActive() {
+        return jobStatus == IngestJobStatus.QUEUED || jobStatus == IngestJobStatus.RUNNING;
+    }
+
     public void markSuccess() {
         this.jobStatus = IngestJobStatus.SUCCESS;
         this.finishedAt = LocalDateTime.now();
@@ -0,0 +1,5 @@
+package com.example.backwork.rag;
+
+// 색인 작업 적재 (커밋 이후 worker 를 바로 깨우는 용도)
+public record IngestJobQueuedEvent(Long jobId) {
+}
@@ -1,9 +1,49 @@
 package com.example.backwork.rag;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IngestJobRepository extends JpaRepository<IngestJob, Long> {
     Optional<IngestJob> findTopByDocumentIdOrderByCreatedAtDesc(Long documentId);
+
+    // 다른 worker(노드)가 잡고 있는 행은 건너뛰고 실행 가능한 QUEUED 작업만 잠근다. (MySQL 8+)
+    @Query(value = """
+            SELECT id
+            FROM ingest_jobs
+            WHERE job_status = 'QUEUED'
+              AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query("""
+            SELECT j
+            FROM IngestJob j
+            JOIN FETCH j.document d
+            JOIN FETCH d.calendar
+            JOIN FETCH d.owner
+            WHERE j.id IN :ids
+            """)
+    List<IngestJob> findWithDocumentByIdIn(@Param("ids") Collection<Long> ids);
+
+    // worker 가 죽어 RUNNING 으로 남은 작업을 다시 대기열로
+    @Modifying
+    @Query("""
+            UPDATE IngestJob j
+            SET j.jobStatus = com.example.backwork.rag.IngestJobStatus.QUEUED,
+                j.nextAttemptAt = :now,
+                j.updatedAt = :now
+            WHERE j.jobStatus = com.example.backwork.rag.IngestJobStatus.RUNNING
+              AND j.startedAt < :staleBefore
+            """)
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,113 @@
+package com.example.backwork.rag;
+
+import com.example.backwork.rag.internal.PythonIngestRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    ingest_jobs 상태 전이 (worker 전용, 각 메서드는 짧은 트랜잭션)
+    - claim: SKIP LOCKED 로 잠근 QUEUED 행을 같은 트랜잭션에서 RUNNING 으로 바꾸고 커밋 → 잠금은 바로 풀린다.
+      Python 호출은 트랜잭션 밖에서 하므로 임베딩 중에 DB 커넥션을 잡고 있지 않는다.
+    - 결과 반영: 작업 + 문서 상태를 한 트랜잭션으로, 해당 캘린더 답변 캐시 제거
+ */
+@Service
+@RequiredArgsConstructor
+public class IngestJobStore {
+
+    private final IngestJobRepository ingestJobRepository;
+    private final RagAnswerCache ragAnswerCache;
+
+    public record ClaimedIngestJob(
+            Long jobId,
+            Long documentId,
+            Long calendarId,
+            boolean teamCalendar,
+            int attempts,
+            PythonIngestRequest request
+    ) {
+    }
+
+    @Transactional
+    public List<ClaimedIngestJob> claim(int limit) {
+        List<Long> ids = ingestJobRepository.lockClaimableIds(LocalDateTime.now(), limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return ingestJobRepository.findWithDocumentByIdIn(ids).stream()
+                .map(job -> {
+                    job.markRunning();
+                    RagDocument document = job.getDocument();
+                    return new ClaimedIngestJob(
+                            job.getId(),
+                            document.getId(),
+                            document.getCalendar().getId(),
+                            "TEAM".equals(document.getCalendar().getType()),
+                            job.getAttempts(),
+                            new PythonIngestRequest(
+                                    document.getId(),
+                                    document.getOwner().getId(),
+                                    document.getCalendar().getId(),
+                                    document.getS3Bucket(),
+                                    document.getS3Key(),
+                                    document.getVectorBucket(),
+                                    document.getVectorIndex(),
+                                    document.getEmbeddingModel(),
+                                    splitTags(document.getTagsCsv())
+                            )
+                    );
+                })
+                .toList();
+    }
+
+    @Transactional
+    public int requeueStale(LocalDateTime staleBefore) {
+        return ingestJobRepository.requeueStale(staleBefore, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void markSucceeded(Long jobId, int chunkCount) {
+        IngestJob job = getJob(jobId);
+        job.getDocument().markReady(chunkCount);
+        job.markSuccess();
+        ragAnswerCache.evictCalendar(job.getDocument().getCalendar().getId());
+    }
+
+    // 문서는 INDEXING 그대로 두고 작업만 다시 대기열로
+    @Transactional
+    public void scheduleRetry(Long jobId, String errorMessage, LocalDateTime nextAttemptAt) {
+        getJob(jobId).scheduleRetry(truncate(errorMessage), nextAttemptAt);
+    }
+
+    @Transactional
+    public void markFailed(Long jobId, String errorMessage) {
+        IngestJob job = getJob(jobId);
+        job.getDocument().markFailed();
+        job.markFailed(truncate(errorMessage));
+        ragAnswerCache.evictCalendar(job.getDocument().getCalendar().getId());
+    }
+
+    private IngestJob getJob(Long jobId) {
+        return ingestJobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("색인 작업을 찾을 수 없습니다. jobId=" + jobId));
+    }
+
+    private List<String> splitTags(String tagsCsv) {
+        if (tagsCsv == null || tagsCsv.isBlank()) {
+            return List.of();
+        }
+        return List.of(tagsCsv.split(","));
+    }
+
+    // error_message 컬럼 길이(4000)
+    private String truncate(String message) {
+        if (message == null || message.length() <= 4000) {
+            return message;
+        }
+        return message.substring(0, 4000);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.backwork.rag;
+
+import com.example.backwork.rag.internal.PythonIngestResponse;
+import com.example.backwork.teamsch.event.ScheduleEventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    RAG 색인 worker
+    - poller 스레드 1개가 빈 슬롯 수만큼 QUEUED 작업을 claim (SELECT ... FOR UPDATE SKIP LOCKED) → 여러 노드가 동시에 돌아도 중복 실행 없음
+    - 실행은 concurrency 크기의 고정 풀 (Python 임베딩 서버 보호용 동시 실행 상한)
+    - 실패 시 지수 백오프(+jitter)로 next_attempt_at 을 미뤄 재시도, max-attempts 를 넘거나 4xx 면 FAILED
+    - 상태 변경은 팀 캘린더면 /topic/team/{calendarId} 로 DOCUMENT_STATUS 알림
+    - 새 작업이 커밋되면 poll 간격을 기다리지 않고 바로 깨운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestJobWorker {
+
+    public static final String STATUS_ACTION = "DOCUMENT_STATUS";
+
+    private final IngestJobStore ingestJobStore;
+    private final PythonRagClient pythonRagClient;
+    private final ScheduleEventPublisher scheduleEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rag.ingest.worker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rag.ingest.worker.concurrency:4}")
+    private int concurrency;
+
+    @Value("${app.rag.ingest.worker.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @Value("${app.rag.ingest.worker.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.rag.ingest.worker.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    @Value("${app.rag.ingest.worker.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    // RUNNING 으로 이 시간 이상 남은 작업은 worker 가 죽은 것으로 보고 다시 대기열로
+    @Value("${app.rag.ingest.worker.stale-running-seconds:1800}")
+    private long staleRunningSeconds;
+
+    private final Semaphore wakeSignal = new Semaphore(0);
+    private Semaphore slots;
+    private ExecutorService executor;
+    private Thread poller;
+    private volatile boolean running;
+    private long lastStaleCheckAt;
+
+    private Counter successCounter;
+    private Counter retryCounter;
+    private Counter failedCounter;
+    private Timer ingestTimer;
+
+    @PostConstruct
+    public void start() {
+        successCounter = Counter.builder("rag.ingest.jobs").tag("result", "success").register(meterRegistry);
+        retryCounter = Counter.builder("rag.ingest.jobs").tag("result", "retry").register(meterRegistry);
+        failedCounter = Counter.builder("rag.ingest.jobs").tag("result", "failed").register(meterRegistry);
+        ingestTimer = Timer.builder("rag.ingest.duration").register(meterRegistry);
+
+        if (!enabled) {
+            log.info("rag ingest worker disabled");
+            return;
+        }
+
+        int poolSize = Math.max(1, concurrency);
+        slots = new Semaphore(poolSize);
+        AtomicInteger sequence = new AtomicInteger();
+        // slots 로 제출 수를 제한하므로 큐는 넘치지 않는다.
+        executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "rag-ingest-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        meterRegistry.gauge("rag.ingest.worker.busy", slots, semaphore -> poolSize - semaphore.availablePermits());
+
+        running = true;
+        poller = new Thread(this::pollLoop, "rag-ingest-poller");
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (executor != null) {
+            executor.shutdown();
+            // 실행 중인 작업은 끝나지 않으면 stale 처리로 다른 노드가 이어받는다.
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQueued(IngestJobQueuedEvent event) {
+        wakeSignal.release();
+    }
+
+    private void pollLoop() {
+        while (running) {
+            int claimed = 0;
+            try {
+                requeueStaleIfDue();
+                int free = slots.availablePermits();
+                if (free > 0) {
+                    List<IngestJobStore.ClaimedIngestJob> jobs = ingestJobStore.claim(free);
+                    for (IngestJobStore.ClaimedIngestJob job : jobs) {
+                        slots.acquire();
+                        executor.execute(() -> {
+                            try {
+                                process(job);
+                            } finally {
+                                slots.release();
+                                wakeSignal.release();
+                            }
+                        });
+                    }
+                    claimed = jobs.size();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("rag ingest claim failed", e);
+            }
+
+            if (claimed == 0) {
+                try {
+                    wakeSignal.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                    wakeSignal.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void process(IngestJobStore.ClaimedIngestJob job) {
+        publishStatus(job, DocumentStatus.INDEXING, IngestJobStatus.RUNNING, null);
+        long startedAt = System.nanoTime();
+        try {
+            PythonIngestResponse response = pythonRagClient.ingest(job.request());
+            int chunkCount = response != null && response.chunkCount() != null ? response.chunkCount() : 0;
+
+            ingestJobStore.markSucceeded(job.jobId(), chunkCount);
+            successCounter.increment();
+            publishStatus(job, DocumentStatus.READY, IngestJobStatus.SUCCESS, chunkCount);
+        } catch (Exception e) {
+            handleFailure(job, e);
+        } finally {
+            ingestTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void handleFailure(IngestJobStore.ClaimedIngestJob job, Exception e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        try {
+            if (job.attempts() < maxAttempts && isRetryable(e)) {
+                Duration delay = backoff(job.attempts());
+                ingestJobStore.scheduleRetry(job.jobId(), message, LocalDateTime.now().plus(delay));
+                retryCounter.increment();
+                log.info("rag ingest retry scheduled. jobId={} attempts={} delayMs={}",
+                        job.jobId(), job.attempts(), delay.toMillis());
+                publishStatus(job, DocumentStatus.INDEXING, IngestJobStatus.QUEUED, null);
+                return;
+            }
+
+            ingestJobStore.markFailed(job.jobId(), message);
+            failedCounter.increment();
+            log.warn("rag ingest failed. jobId={} attempts={}", job.jobId(), job.attempts(), e);
+            publishStatus(job, DocumentStatus.FAILED, IngestJobStatus.FAILED, null);
+        } catch (Exception stateError) {
+            // 상태 반영 실패 시 RUNNING 으로 남고 stale 처리로 다시 시도된다.
+            log.warn("rag ingest state update failed. jobId={}", job.jobId(), stateError);
+        }
+    }
+
+    // 요청 자체가 잘못된 4xx 는 다시 보내도 같으므로 바로 실패 (408/429 는 재시도)
+    private boolean isRetryable(Exception e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            int status = clientError.getStatusCode().value();
+            return status == 408 || status == 429;
+        }
+        return true;
+    }
+
+    // base * 2^(attempts-1) 상한 backoffMax, 절반은 고정 + 절반은 무작위(jitter) → 동시에 실패한 작업이 한꺼번에 몰리지 않게
+    Duration backoff(int attempts) {
+        long exponential = backoffBaseMs << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(backoffMaxMs, exponential);
+        long half = capped / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private void requeueStaleIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastStaleCheckAt < TimeUnit.SECONDS.toMillis(60)) {
+            return;
+        }
+        lastStaleCheckAt = now;
+        int requeued = ingestJobStore.requeueStale(LocalDateTime.now().minusSeconds(staleRunningSeconds));
+        if (requeued > 0) {
+            log.warn("rag ingest stale jobs requeued. count={}", requeued);
+        }
+    }
+
+    private void publishStatus(
+            IngestJobStore.ClaimedIngestJob job,
+            DocumentStatus documentStatus,
+            IngestJobStatus jobStatus,
+            Integer chunkCount
+    ) {
+        if (!job.teamCalendar()) {
+            return;
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", STATUS_ACTION);
+        payload.put("calendarId", job.calendarId());
+        payload.put("documentId", job.documentId());
+        payload.put("jobId", job.jobId());
+        payload.put("status", documentStatus.name());
+        payload.put("jobStatus", jobStatus.name());
+        payload.put("attempts", job.attempts());
+        payload.put("chunkCount", chunkCount);
+        payload.put("timestamp", LocalDateTime.now().toString());
+        scheduleEventPublisher.publishStatus(job.calendarId(), payload);
+    }
+}
@@ -1,57 +1,84 @@
 package com.example.backwork.rag;
 
+import com.example.backwork.python.PythonEndpoint;
+import com.example.backwork.python.PythonHttpClient;
 import com.example.backwork.rag.internal.PythonIngestRequest;
 import com.example.backwork.rag.internal.PythonIngestResponse;
 import com.example.backwork.rag.internal.PythonQueryRequest;
 import com.example.backwork.rag.internal.PythonQueryResponse;
+import com.example.backwork.rag.internal.PythonQueryStreamEvent;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class PythonRagClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final PythonHttpClient pythonHttpClient;
+    private final ObjectMapper objectMapper;
 
-    @Value("${python.api.base-url:http://python_api:8000}")
-    private String pythonApiBaseUrl;
+    // 임베딩 생성이 포함되어 오래 걸린다. IngestJobWorker 에서만 호출
+    @Value("${python.http.rag-ingest.read-timeout-ms:120000}")
+    private long ingestReadTimeoutMs;
 
-    @Value("${internal.api.token:dev-internal-token}")
-    private String internalApiToken;
+    @Value("${python.http.rag-ingest.max-concurrent:4}")
+    private int ingestMaxConcurrent;
 
-    public PythonIngestResponse ingest(PythonIngestRequest request) {
-        HttpEntity<PythonIngestRequest> entity = new HttpEntity<>(request, buildHeaders());
-        ResponseEntity<PythonIngestResponse> response = restTemplate.exchange(
-                pythonApiBaseUrl + "/internal/rag/ingest",
-                HttpMethod.POST,
-                entity,
-                PythonIngestResponse.class
+    @Value("${python.http.rag-query.read-timeout-ms:30000}")
+    private long queryReadTimeoutMs;
+
+    @Value("${python.http.rag-query.max-concurrent:16}")
+    private int queryMaxConcurrent;
+
+    // 스트리밍은 답변 생성이 끝날 때까지 연결을 유지하므로 전체 상한으로 둔다.
+    @Value("${python.http.rag-query-stream.read-timeout-ms:120000}")
+    private long queryStreamReadTimeoutMs;
+
+    @Value("${python.http.rag-query-stream.max-concurrent:32}")
+    private int queryStreamMaxConcurrent;
+
+    private PythonEndpoint ingestEndpoint;
+    private PythonEndpoint queryEndpoint;
+    private PythonEndpoint queryStreamEndpoint;
+
+    @PostConstruct
+    public void init() {
+        ingestEndpoint = pythonHttpClient.endpoint(
+                "rag-ingest",
+                "/internal/rag/ingest",
+                Duration.ofMillis(ingestReadTimeoutMs),
+                ingestMaxConcurrent
         );
-        return response.getBody();
+        queryEndpoint = pythonHttpClient.endpoint(
+                "rag-query",
+                "/internal/rag/query",
+                Duration.ofMillis(queryReadTimeoutMs),
+                queryMaxConcurrent
+        );
+        queryStreamEndpoint = pythonHttpClient.endpoint(
+                "rag-query-stream",
+                "/internal/rag/query/stream",
+                Duration.ofMillis(queryStreamReadTimeoutMs),
+                queryStreamMaxConcurrent
+        );
+    }
+
+    public PythonIngestResponse ingest(PythonIngestRequest request) {
+        return ingestEndpoint.post(request, PythonIngestResponse.class);
     }
 
     public PythonQueryResponse query(PythonQueryRequest request) {
-        HttpEntity<PythonQueryRequest> entity = new HttpEntity<>(request, buildHeaders());
-        ResponseEntity<PythonQueryResponse> response = restTemplate.exchange(
-                pythonApiBaseUrl + "/internal/rag/query",
-                HttpMethod.POST,
-                entity,
-                PythonQueryResponse.class
-        );
-        return response.getBody();
+        return queryEndpoint.post(request, PythonQueryResponse.class);
     }
 
-    private HttpHeaders buildHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-Internal-Token", internalApiToken);
-        return headers;
+    public void queryStream(PythonQueryRequest request, Consumer<PythonQueryStreamEvent> eventHandler) {
+        queryStreamEndpoint.stream(request, line -> eventHandler.accept(
+                objectMapper.readValue(line, PythonQueryStreamEvent.class)));
     }
 }
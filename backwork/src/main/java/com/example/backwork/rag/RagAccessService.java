@@ -2,9 +2,8 @@ package com.example.backwork.rag;
 
 import com.example.backwork.calendar.Calendar;
 import com.example.backwork.calendar.CalendarRepository;
-import com.example.backwork.calendar.share.RoleRw;
-import com.example.backwork.calendar.share.ShareMember;
-import com.example.backwork.calendar.share.ShareMemberRepository;
+import com.example.backwork.calendar.share.CalendarAccess;
+import com.example.backwork.calendar.share.CalendarAccessResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,40 +12,31 @@ import org.springframework.stereotype.Service;
 public class RagAccessService {
 
     private final CalendarRepository calendarRepository;
-    private final ShareMemberRepository shareMemberRepository;
+    private final CalendarAccessResolver calendarAccessResolver;
 
     public Calendar requireMember(Long calendarId, Long userId) {
-        Calendar calendar = calendarRepository.findById(calendarId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 캘린더입니다."));
+        CalendarAccess access = calendarAccessResolver.resolve(calendarId, userId);
 
-        if (calendar.getOwner().getId().equals(userId)) {
-            return calendar;
+        if (access.owner()) {
+            return calendarRepository.getReferenceById(calendarId);
         }
 
-        if ("TEAM".equals(calendar.getType())) {
-            boolean member = shareMemberRepository.existsByCalendarIdAndUserId(calendarId, userId);
-            if (member) {
-                return calendar;
-            }
+        if (access.isTeam() && access.isMember()) {
+            return calendarRepository.getReferenceById(calendarId);
         }
 
         throw new SecurityException("문서 접근 권한이 없습니다.");
     }
 
     public Calendar requireWritable(Long calendarId, Long userId) {
-        Calendar calendar = calendarRepository.findById(calendarId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 캘린더입니다."));
+        CalendarAccess access = calendarAccessResolver.resolve(calendarId, userId);
 
-        if (calendar.getOwner().getId().equals(userId)) {
-            return calendar;
+        if (access.owner()) {
+            return calendarRepository.getReferenceById(calendarId);
         }
 
-        if ("TEAM".equals(calendar.getType())) {
-            ShareMember member = shareMemberRepository.findByCalendarIdAndUserId(calendarId, userId)
-                    .orElseThrow(() -> new SecurityException("문서 쓰기 권한이 없습니다."));
-            if (member.getRoleRw() == RoleRw.WRITE) {
-                return calendar;
-            }
+        if (access.isTeam() && access.isWritable()) {
+            return calendarRepository.getReferenceById(calendarId);
         }
 
         throw new SecurityException("문서 쓰기 권한이 없습니다.");
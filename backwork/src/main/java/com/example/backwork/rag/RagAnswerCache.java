@@ -0,0 +1,127 @@
+package com.example.backwork.rag;
+
+import com.example.backwork.rag.dto.ChatQueryResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/*
+    RAG 답변 캐시 (노드 로컬 Caffeine)
+    key   = (calendarId, 정렬된 문서 id, 문서 version, 정규화한 질문, topK)
+    value = ChatQueryResponse
+    - 문서가 다시 색인되면(markReady/markFailed) version 이 올라 키가 달라지므로 다른 노드의 오래된 항목은 TTL 로 자연 소멸
+    - 같은 노드에서는 IngestJobStore 가 해당 캘린더 항목을 바로 제거
+    - 답변 생성 실패(Python 응답 없음)는 캐시하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RagAnswerCache {
+
+    public static final String CACHE_NAME = "ragAnswer";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.rag-answer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.rag-answer.max-size:5000}")
+    private long maxSize;
+
+    @Value("${app.cache.rag-answer.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Cache<AnswerKey, ChatQueryResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 actuator /metrics 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 동일 키 동시 요청은 각자 Python 을 호출한다. (원격 호출 동안 캐시 내부 잠금을 잡지 않기 위해 compute 를 쓰지 않음)
+     */
+    public ChatQueryResponse getOrLoad(AnswerKey key, Supplier<ChatQueryResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        ChatQueryResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ChatQueryResponse loaded = loader.get();
+        put(key, loaded);
+        return loaded;
+    }
+
+    public ChatQueryResponse find(AnswerKey key) {
+        return enabled ? cache.getIfPresent(key) : null;
+    }
+
+    public void put(AnswerKey key, ChatQueryResponse response) {
+        if (enabled && response != null && response.answer() != null) {
+            cache.put(key, new ChatQueryResponse(response.answer(), List.copyOf(response.sources())));
+        }
+    }
+
+    public void evictCalendar(Long calendarId) {
+        if (calendarId == null) {
+            return;
+        }
+        cache.asMap().keySet().removeIf(key -> key.calendarId().equals(calendarId));
+    }
+
+    public static AnswerKey keyOf(Long calendarId, List<RagDocument> documents, String question, int topK) {
+        List<RagDocument> sorted = documents.stream()
+                .sorted(Comparator.comparing(RagDocument::getId))
+                .toList();
+        return new AnswerKey(
+                calendarId,
+                sorted.stream().map(RagDocument::getId).toList(),
+                sorted.stream().map(RagDocument::getVersion).toList(),
+                normalize(question),
+                topK
+        );
+    }
+
+    // 전각/반각, 대소문자, 공백 수, 끝 문장부호 차이는 같은 질문으로 본다.
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String text = Normalizer.normalize(question, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+        return text.replaceAll("[\\s?!.。？！~]+$", "");
+    }
+
+    public record AnswerKey(
+            Long calendarId,
+            List<Long> documentIds,
+            List<Integer> documentVersions,
+            String question,
+            int topK
+    ) {
+    }
+}
@@ -14,8 +14,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class RagDocument {
 
+    // Schedule 과 같은 id_generator 테이블 사용 (IDENTITY 는 JDBC batch insert 를 막는다)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "documents_id")
+    @TableGenerator(
+            name = "documents_id",
+            table = "id_generator",
+            pkColumnName = "gen_name",
+            valueColumnName = "gen_value",
+            pkColumnValue = "documents",
+            allocationSize = 50
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -115,14 +124,17 @@ public class RagDocument {
         this.updatedAt = LocalDateTime.now();
     }
 
+    // 색인 결과가 바뀔 때마다 version 증가 → 이전 버전으로 만든 답변 캐시 키와 겹치지 않는다 (RagAnswerCache)
     public void markReady(int chunkCount) {
         this.status = DocumentStatus.READY;
         this.chunkCount = chunkCount;
+        this.version = this.version == null ? 1 : this.version + 1;
         this.updatedAt = LocalDateTime.now();
     }
 
     public void markFailed() {
         this.status = DocumentStatus.FAILED;
+        this.version = this.version == null ? 1 : this.version + 1;
         this.updatedAt = LocalDateTime.now();
     }
 
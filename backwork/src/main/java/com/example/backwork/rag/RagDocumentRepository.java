@@ -1,12 +1,18 @@
 package com.example.backwork.rag;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface RagDocumentRepository extends JpaRepository<RagDocument, Long> {
     Optional<RagDocument> findByIdAndOwnerId(Long id, Long ownerId);
+
+    // 색인 요청 직렬화용 (SELECT ... FOR UPDATE): 같은 문서에 대기/실행 작업이 둘 생기지 않게 한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RagDocument> findLockedByIdAndOwnerId(Long id, Long ownerId);
     List<RagDocument> findByCalendarIdAndOwnerId(Long calendarId, Long ownerId);
     List<RagDocument> findByCalendarIdInAndStatus(List<Long> calendarIds, DocumentStatus status);
 }
@@ -3,20 +3,22 @@ package com.example.backwork.rag;
 import com.example.backwork.calendar.Calendar;
 import com.example.backwork.member.User;
 import com.example.backwork.member.UserRepository;
+import com.example.backwork.python.PythonStreamErrorException;
 import com.example.backwork.rag.dto.*;
-import com.example.backwork.rag.internal.PythonIngestRequest;
-import com.example.backwork.rag.internal.PythonIngestResponse;
 import com.example.backwork.rag.internal.PythonQueryRequest;
 import com.example.backwork.rag.internal.PythonQueryResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +32,10 @@ public class RagDocumentService {
     private final RagAccessService ragAccessService;
     private final PythonRagClient pythonRagClient;
     private final S3PresignService s3PresignService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final RagAnswerCache ragAnswerCache;
+
+    private static final String NO_ANSWER = "답변을 생성하지 못했습니다.";
 
     @Value("${rag.raw-bucket:mock-documents-dev}")
     private String rawBucket;
@@ -96,43 +102,27 @@ public class RagDocumentService {
         return new DocumentCompleteResponse(document.getId(), document.getStatus());
     }
 
+    // 색인은 대기열 적재만 하고 바로 반환한다. 실제 임베딩은 IngestJobWorker 가 트랜잭션 밖에서 수행
     public DocumentIndexResponse startIndex(Long userId, Long documentId) {
-        RagDocument document = getOwnedDocument(userId, documentId);
+        // 문서 행을 잠근 뒤 확인 → 적재해야 동시 요청이 둘 다 "작업 없음"을 보고 중복 적재하지 않는다.
+        RagDocument document = ragDocumentRepository.findLockedByIdAndOwnerId(documentId, userId)
+                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다."));
         ragAccessService.requireWritable(document.getCalendar().getId(), userId);
 
+        // 이미 대기/실행 중인 작업이 있으면 중복 적재하지 않는다.
+        IngestJob active = ingestJobRepository.findTopByDocumentIdOrderByCreatedAtDesc(documentId)
+                .filter(IngestJob::isActive)
+                .orElse(null);
+        if (active != null) {
+            return new DocumentIndexResponse(active.getId(), active.getJobStatus());
+        }
+
         IngestJob job = new IngestJob(document);
         ingestJobRepository.save(job);
         document.markIndexing();
         ragDocumentRepository.save(document);
-        job.markRunning();
-        ingestJobRepository.save(job);
-
-        try {
-            List<String> tags = splitTags(document.getTagsCsv());
-            PythonIngestResponse ingestResponse = pythonRagClient.ingest(new PythonIngestRequest(
-                    document.getId(),
-                    userId,
-                    document.getCalendar().getId(),
-                    document.getS3Bucket(),
-                    document.getS3Key(),
-                    document.getVectorBucket(),
-                    document.getVectorIndex(),
-                    document.getEmbeddingModel(),
-                    tags
-            ));
-
-            int chunkCount = ingestResponse != null && ingestResponse.chunkCount() != null
-                    ? ingestResponse.chunkCount()
-                    : 0;
-            document.markReady(chunkCount);
-            job.markSuccess();
-        } catch (Exception e) {
-            document.markFailed();
-            job.markFailed(e.getMessage());
-        }
 
-        ragDocumentRepository.save(document);
-        ingestJobRepository.save(job);
+        applicationEventPublisher.publishEvent(new IngestJobQueuedEvent(job.getId()));
         return new DocumentIndexResponse(job.getId(), job.getJobStatus());
     }
 
@@ -150,6 +140,30 @@ public class RagDocumentService {
 
     @Transactional(readOnly = true)
     public ChatQueryResponse query(Long userId, ChatQueryRequest request) {
+        QueryPlan plan = prepareQuery(userId, request);
+
+        // 같은 문서 집합(version 포함)에 같은 질문이면 Python(임베딩 + LLM) 호출 없이 캐시 응답
+        ChatQueryResponse response = ragAnswerCache.getOrLoad(plan.cacheKey(), () -> {
+            PythonQueryResponse pythonResponse = pythonRagClient.query(toPythonRequest(userId, plan));
+            List<ChatSourceResponse> sources = toSources(
+                    pythonResponse == null ? null : pythonResponse.retrievals(),
+                    plan.allowedDocMap()
+            );
+            // answer 가 null 이면 캐시하지 않는다.
+            return new ChatQueryResponse(pythonResponse == null ? null : pythonResponse.answer(), sources);
+        });
+
+        if (response.answer() == null) {
+            return new ChatQueryResponse(NO_ANSWER, response.sources());
+        }
+        return response;
+    }
+
+    /**
+     * 권한/대상 문서 확인만 먼저 한다. 스트리밍 응답을 열기 전에 400/403 을 일반 응답으로 돌려주기 위함
+     */
+    @Transactional(readOnly = true)
+    public QueryPlan prepareQuery(Long userId, ChatQueryRequest request) {
         if (request.question() == null || request.question().isBlank()) {
             throw new IllegalArgumentException("question은 필수입니다.");
         }
@@ -169,41 +183,103 @@ public class RagDocumentService {
         } else {
             targetDocIds = requestedIds.stream()
                     .filter(allowedDocMap::containsKey)
+                    .distinct()
                     .toList();
         }
         if (targetDocIds.isEmpty()) {
             throw new IllegalArgumentException("조회 가능한 문서가 없습니다.");
         }
 
-        PythonQueryResponse pythonResponse = pythonRagClient.query(new PythonQueryRequest(
+        int topK = request.topK() == null ? 6 : request.topK();
+        RagAnswerCache.AnswerKey cacheKey = RagAnswerCache.keyOf(
+                request.calendarId(),
+                targetDocIds.stream().map(allowedDocMap::get).toList(),
                 request.question(),
+                topK
+        );
+        return new QueryPlan(request.calendarId(), request.question(), targetDocIds, allowedDocMap, topK, cacheKey);
+    }
+
+    /**
+     * 스트리밍 질의. 검색 결과(sources)를 먼저 넘기고 답변은 토큰 단위(delta)로 넘긴다.
+     * 캐시 적중 시 sources + 전체 답변을 한 번에 넘긴다. 수 초~수십 초 걸리므로 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatQueryResponse streamQuery(
+            Long userId,
+            QueryPlan plan,
+            Consumer<List<ChatSourceResponse>> onSources,
+            Consumer<String> onDelta
+    ) {
+        ChatQueryResponse cached = ragAnswerCache.find(plan.cacheKey());
+        if (cached != null) {
+            onSources.accept(cached.sources());
+            onDelta.accept(cached.answer());
+            return cached;
+        }
+
+        List<ChatSourceResponse> sources = new ArrayList<>();
+        StringBuilder answer = new StringBuilder();
+        pythonRagClient.queryStream(toPythonRequest(userId, plan), event -> {
+            switch (event.type() == null ? "" : event.type()) {
+                case "sources" -> {
+                    sources.addAll(toSources(event.retrievals(), plan.allowedDocMap()));
+                    onSources.accept(List.copyOf(sources));
+                }
+                case "delta" -> {
+                    if (event.text() != null && !event.text().isEmpty()) {
+                        answer.append(event.text());
+                        onDelta.accept(event.text());
+                    }
+                }
+                case "error" -> throw new PythonStreamErrorException(
+                        event.message() == null ? "답변 생성 중 오류가 발생했습니다." : event.message());
+                default -> {
+                }
+            }
+        });
+
+        if (answer.isEmpty()) {
+            onDelta.accept(NO_ANSWER);
+            return new ChatQueryResponse(NO_ANSWER, List.copyOf(sources));
+        }
+        ChatQueryResponse response = new ChatQueryResponse(answer.toString(), List.copyOf(sources));
+        ragAnswerCache.put(plan.cacheKey(), response);
+        return response;
+    }
+
+    private PythonQueryRequest toPythonRequest(Long userId, QueryPlan plan) {
+        return new PythonQueryRequest(
+                plan.question(),
                 userId,
-                request.calendarId(),
-                targetDocIds,
+                plan.calendarId(),
+                plan.targetDocIds(),
                 vectorBucket,
                 vectorIndex,
                 embeddingModel,
-                request.topK() == null ? 6 : request.topK()
-        ));
+                plan.topK()
+        );
+    }
 
+    private List<ChatSourceResponse> toSources(
+            List<PythonQueryResponse.PythonRetrieval> retrievals,
+            Map<Long, RagDocument> allowedDocMap
+    ) {
         List<ChatSourceResponse> sources = new ArrayList<>();
-        if (pythonResponse != null && pythonResponse.retrievals() != null) {
-            for (PythonQueryResponse.PythonRetrieval retrieval : pythonResponse.retrievals()) {
-                Map<String, Object> metadata = retrieval.metadata();
-                Long documentId = toLong(metadata == null ? null : metadata.get("documentId"));
-                String title = documentId != null && allowedDocMap.containsKey(documentId)
-                        ? allowedDocMap.get(documentId).getTitle()
-                        : "Unknown";
-                String preview = metadata == null ? null : String.valueOf(metadata.getOrDefault("preview", ""));
-                Double score = retrieval.distance() == null ? null : (1.0d - retrieval.distance());
-                sources.add(new ChatSourceResponse(documentId, title, retrieval.key(), score, preview));
-            }
+        if (retrievals == null) {
+            return sources;
         }
-
-        String answer = pythonResponse == null || pythonResponse.answer() == null
-                ? "답변을 생성하지 못했습니다."
-                : pythonResponse.answer();
-        return new ChatQueryResponse(answer, sources);
+        for (PythonQueryResponse.PythonRetrieval retrieval : retrievals) {
+            Map<String, Object> metadata = retrieval.metadata();
+            Long documentId = toLong(metadata == null ? null : metadata.get("documentId"));
+            String title = documentId != null && allowedDocMap.containsKey(documentId)
+                    ? allowedDocMap.get(documentId).getTitle()
+                    : "Unknown";
+            String preview = metadata == null ? null : String.valueOf(metadata.getOrDefault("preview", ""));
+            Double score = retrieval.distance() == null ? null : (1.0d - retrieval.distance());
+            sources.add(new ChatSourceResponse(documentId, title, retrieval.key(), score, preview));
+        }
+        return sources;
     }
 
     private RagDocument getOwnedDocument(Long userId, Long documentId) {
@@ -215,13 +291,6 @@ public class RagDocumentService {
         return fileName.replaceAll("[^a-zA-Z0-9._-]", "_");
     }
 
-    private List<String> splitTags(String tagsCsv) {
-        if (tagsCsv == null || tagsCsv.isBlank()) {
-            return List.of();
-        }
-        return List.of(tagsCsv.split(","));
-    }
-
     private Long toLong(Object value) {
         if (value instanceof Number number) {
             return number.longValue();
@@ -231,4 +300,14 @@ public class RagDocumentService {
         }
         return null;
     }
+
+    public record QueryPlan(
+            Long calendarId,
+            String question,
+            List<Long> targetDocIds,
+            Map<Long, RagDocument> allowedDocMap,
+            int topK,
+            RagAnswerCache.AnswerKey cacheKey
+    ) {
+    }
 }
@@ -0,0 +1,13 @@
+package com.example.backwork.rag.internal;
+
+import java.util.List;
+
+// /internal/rag/query/stream NDJSON 한 줄 (type = sources | delta | done | error)
+public record PythonQueryStreamEvent(
+        String type,
+        String text,
+        List<PythonQueryResponse.PythonRetrieval> retrievals,
+        String code,
+        String message
+) {
+}
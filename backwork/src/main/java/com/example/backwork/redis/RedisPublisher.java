@@ -18,4 +18,9 @@ public class RedisPublisher {
         String json = objectMapper.writeValueAsString(message);
         redisTemplate.convertAndSend(channel,json);
     }
+
+    // 이미 직렬화된 메시지를 그대로 발행 (schedule:updates 등 자체 형식 사용 채널)
+    public void publishRaw(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
 }
@@ -1,27 +1,57 @@
 package com.example.backwork.redis;
 
+import com.example.backwork.calendar.share.CalendarAccessResolver;
+import com.example.backwork.teamsch.cache.TeamScheduleMonthCache;
+import com.example.backwork.teamsch.event.CalendarOrderedExecutor;
+import com.example.backwork.teamsch.event.ScheduleEventCodec;
+import com.example.backwork.teamsch.event.TeamTopicDispatcher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisSubscriber {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TeamTopicDispatcher teamTopicDispatcher;
+    private final CalendarOrderedExecutor calendarOrderedExecutor;
     private final ObjectMapper objectMapper;
+    private final TeamScheduleMonthCache teamScheduleMonthCache;
+    private final CalendarAccessResolver calendarAccessResolver;
 
-    public void onMessage(String message, String pattern) throws Exception {
+    // schedule:updates:{shard} - header 만 읽어 라우팅, body(JSON) 바이트는 파싱 없이 그대로 STOMP 로 전달
+    // STOMP 전달은 캘린더별 lane 으로 넘겨 listener 스레드를 붙잡지 않는다.
+    public void onMessage(byte[] message, String channel) {
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(message);
+        if (envelope == null) {
+            log.debug("unknown schedule event format on {}", channel);
+            return;
+        }
+
+        calendarOrderedExecutor.execute(envelope.calendarId(), () -> teamTopicDispatcher.onBridgeMessage(envelope));
+    }
+
+    // schedule:invalidations - 다른 노드에서 발생한 변경이라도 이 노드의 월 캐시 버킷을 정리 (구독자 유무와 무관)
+    public void onInvalidationMessage(byte[] message, String channel) {
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(message);
+        if (envelope == null || !envelope.isScheduleChange()) {
+            return;
+        }
+
+        teamScheduleMonthCache.evictLocal(envelope.calendarId(), envelope.months());
+    }
+
+    public void onCalendarAccessMessage(String message, String pattern) throws Exception {
         JsonNode event = objectMapper.readTree(message);
         JsonNode calendarIdNode = event.get("calendarId");
         if (calendarIdNode == null || calendarIdNode.isNull()) {
             return;
         }
 
-        messagingTemplate.convertAndSend(
-                "/topic/team/" + calendarIdNode.asLong(),
-                event
-        );
+        JsonNode userIdNode = event.get("userId");
+        Long userId = (userIdNode == null || userIdNode.isNull()) ? null : userIdNode.asLong();
+        calendarAccessResolver.evict(calendarIdNode.asLong(), userId);
     }
 }
@@ -2,16 +2,25 @@ package com.example.backwork.schedule.controller;
 
 import com.example.backwork.member.SessionUser;
 import com.example.backwork.schedule.dto.ScheduleCreateRequest;
+import com.example.backwork.schedule.dto.ScheduleOccurrenceRequest;
 import com.example.backwork.schedule.dto.ScheduleResponse;
 import com.example.backwork.schedule.dto.ScheduleUpdateRequest;
 import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.export.ScheduleExportFormat;
+import com.example.backwork.schedule.export.ScheduleExportService;
 import com.example.backwork.schedule.service.ScheduleService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
@@ -22,6 +31,7 @@ import java.util.List;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleExportService scheduleExportService;
 
     // 일정 생성
     @PostMapping
@@ -53,14 +63,41 @@ public class ScheduleController {
         LocalDateTime end = ym.atEndOfMonth().atTime(23, 59, 59);
 
         List<ScheduleResponse> schedules =
-                scheduleService.findByMonth(user.getId(), start, end)
-                        .stream()
-                        .map(ScheduleResponse::new)
-                        .toList();
+                scheduleService.findMonthView(user.getId(), start, end);
 
         return ResponseEntity.ok(schedules);
     }
 
+    // 기간 내보내기 (format=ndjson|ics), keyset 페이지 단위로 바로 응답 스트림에 쓴다.
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(401).build();
+
+        ScheduleExportFormat exportFormat;
+        StreamingResponseBody body;
+        try {
+            exportFormat = ScheduleExportFormat.from(format);
+            // 월 화면(findMonthView)과 같은 작성자 기준 범위
+            body = scheduleExportService.streamOwned(user.getId(), from, to, exportFormat);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(ScheduleExportService.fileName("schedules", from, to, exportFormat))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     //일정 수정
     @PutMapping("/{scheduleId}")
     public ResponseEntity<?> update(
@@ -81,6 +118,34 @@ public class ScheduleController {
         return ResponseEntity.ok(new ScheduleResponse(schedule));
     }
 
+    // 반복 일정 한 회차 수정
+    @PutMapping("/{scheduleId}/occurrences")
+    public ResponseEntity<?> updateOccurrence(
+            @PathVariable Long scheduleId,
+            @RequestBody ScheduleOccurrenceRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(401).build();
+
+        scheduleService.updateOccurrence(user.getId(), scheduleId, request);
+        return ResponseEntity.ok().build();
+    }
+
+    // 반복 일정 한 회차 취소
+    @DeleteMapping("/{scheduleId}/occurrences")
+    public ResponseEntity<?> cancelOccurrence(
+            @PathVariable Long scheduleId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartAt,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(401).build();
+
+        scheduleService.cancelOccurrence(user.getId(), scheduleId, originalStartAt);
+        return ResponseEntity.ok().build();
+    }
+
     //일정 삭제
     @DeleteMapping("/{scheduleId}")
     public ResponseEntity<?> delete(
@@ -12,4 +12,6 @@ public class ScheduleCreateRequest {
     private LocalDateTime endAt;
     private Long memoId;
     private Integer priority;
+    // RRULE 형식 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231)
+    private String recurrenceRule;
 }
@@ -0,0 +1,15 @@
+package com.example.backwork.schedule.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 반복 일정의 한 회차 수정. 값이 없는 필드는 시리즈 값을 그대로 쓴다.
+@Getter
+public class ScheduleOccurrenceRequest {
+    private LocalDateTime originalStartAt;
+    private String title;
+    private String content;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+}
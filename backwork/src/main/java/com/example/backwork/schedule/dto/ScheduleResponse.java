@@ -15,15 +15,72 @@ public class ScheduleResponse {
     private Integer priority;
     private Long memoId;
     private Long version;
+    // 반복 일정이면 규칙, 펼쳐진 회차라면 규칙상 원래 시작 시각(회차 수정/취소 시 식별자)
+    private String recurrenceRule;
+    private LocalDateTime originalStartAt;
+
+    public ScheduleResponse(
+            Long id,
+            String title,
+            String content,
+            LocalDateTime startAt,
+            LocalDateTime endAt,
+            Integer priority,
+            Long memoId,
+            Long version
+    ) {
+        this(id, title, content, startAt, endAt, priority, memoId, version, null);
+    }
+
+    // 월 화면 projection (JPQL constructor expression)
+    public ScheduleResponse(
+            Long id,
+            String title,
+            String content,
+            LocalDateTime startAt,
+            LocalDateTime endAt,
+            Integer priority,
+            Long memoId,
+            Long version,
+            String recurrenceRule
+    ) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.priority = priority;
+        this.memoId = memoId;
+        this.version = version;
+        this.recurrenceRule = recurrenceRule;
+    }
 
     public ScheduleResponse(Schedule schedule) {
-        this.id = schedule.getId();
-        this.title = schedule.getTitle();
-        this.content = schedule.getContent();
-        this.startAt = schedule.getStartAt();
-        this.endAt = schedule.getEndAt();
-        this.priority = schedule.getPriority();
-        this.memoId = schedule.getMemoId();
-        this.version = schedule.getVersion();
+        this(
+                schedule.getId(),
+                schedule.getTitle(),
+                schedule.getContent(),
+                schedule.getStartAt(),
+                schedule.getEndAt(),
+                schedule.getPriority(),
+                schedule.getMemoId(),
+                schedule.getVersion(),
+                schedule.getRecurrenceRule()
+        );
+    }
+
+    // 시리즈 한 건에서 회차 한 건을 만든다 (id/version 은 시리즈 것을 그대로 사용)
+    public ScheduleResponse toOccurrence(
+            LocalDateTime originalStartAt,
+            String title,
+            String content,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        ScheduleResponse occurrence = new ScheduleResponse(
+                id, title, content, startAt, endAt, priority, memoId, version, recurrenceRule
+        );
+        occurrence.originalStartAt = originalStartAt;
+        return occurrence;
     }
 }
@@ -0,0 +1,9 @@
+package com.example.backwork.schedule.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 등록 시 일정 한 건의 기간. (제목/내용은 묶음 전체가 같다)
+ */
+public record ScheduleSlot(LocalDateTime startAt, LocalDateTime endAt) {
+}
@@ -12,4 +12,6 @@ public class ScheduleUpdateRequest {
     private LocalDateTime endAt;
     private Long memoId;
     private Integer priority;
+    // RRULE 형식 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231), null 이면 기존 규칙 유지 / 빈 문자열이면 반복 해제
+    private String recurrenceRule;
 }
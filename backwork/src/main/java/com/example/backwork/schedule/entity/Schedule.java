@@ -11,11 +11,29 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "schedule")
+@Table(
+        name = "schedule",
+        indexes = {
+                @Index(name = "idx_schedule_calendar_period", columnList = "calendar_id, start_datetime, end_datetime"),
+                @Index(name = "idx_schedule_owner_period", columnList = "created_by, start_datetime, end_datetime"),
+                // 내보내기 keyset 페이지(ORDER BY start_datetime, id)가 filesort 없이 인덱스 순서로 읽도록
+                @Index(name = "idx_schedule_calendar_start_id", columnList = "calendar_id, start_datetime, id"),
+                @Index(name = "idx_schedule_owner_start_id", columnList = "created_by, start_datetime, id")
+        }
+)
 public class Schedule {
 
+    // IDENTITY 는 insert 마다 즉시 실행되어 JDBC batch 가 꺼진다 → id_generator 테이블에서 50개씩 선점
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_id")
+    @TableGenerator(
+            name = "schedule_id",
+            table = "id_generator",
+            pkColumnName = "gen_name",
+            valueColumnName = "gen_value",
+            pkColumnValue = "schedule",
+            allocationSize = 50
+    )
     private Long id;
 
     @Version
@@ -50,6 +68,14 @@ public class Schedule {
     @Column(name = "memo_id")
     private Long memoId;
 
+    // RRULE 형식(FREQ=WEEKLY;BYDAY=MO,WE ...). null 이면 단일 일정
+    @Column(name = "recurrence_rule")
+    private String recurrenceRule;
+
+    // 마지막 발생의 종료 시각(무기한이면 null). 기간 조회에서 시리즈 후보를 거르는 용도
+    @Column(name = "recurrence_end")
+    private LocalDateTime recurrenceEnd;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -89,6 +115,15 @@ public class Schedule {
         this.priority = priority;
     }
 
+    public void applyRecurrence(String recurrenceRule, LocalDateTime recurrenceEnd) {
+        this.recurrenceRule = recurrenceRule;
+        this.recurrenceEnd = recurrenceRule == null ? null : recurrenceEnd;
+    }
+
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt==null){
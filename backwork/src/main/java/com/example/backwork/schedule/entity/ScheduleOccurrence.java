@@ -0,0 +1,85 @@
+package com.example.backwork.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+    반복 일정의 특정 회차 예외
+    - (schedule_id, original_start) 로 회차를 식별 → 규칙이 만든 시작 시각 그대로
+    - cancelled = true 면 그 회차는 보이지 않는다.
+    - 아니면 값이 있는 필드만 원본 대신 사용 (제목/내용/시작/종료)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(
+        name = "schedule_occurrence",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_schedule_occurrence_original",
+                columnNames = {"schedule_id", "original_start"}
+        ),
+        // 구간 조회(findWindowExceptions)에서 옮긴 회차를 시작/종료 시각으로 찾는다.
+        indexes = {
+                @Index(name = "idx_schedule_occurrence_start", columnList = "schedule_id, start_datetime"),
+                @Index(name = "idx_schedule_occurrence_end", columnList = "schedule_id, end_datetime")
+        }
+)
+public class ScheduleOccurrence {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "schedule_occurrence_id")
+    @TableGenerator(
+            name = "schedule_occurrence_id",
+            table = "id_generator",
+            pkColumnName = "gen_name",
+            valueColumnName = "gen_value",
+            pkColumnValue = "schedule_occurrence",
+            allocationSize = 50
+    )
+    private Long id;
+
+    // 시리즈 조회 후 IN 조건 한 번으로 모아 읽기만 하므로 연관 대신 id 만 보관
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    @Column(name = "original_start", nullable = false)
+    private LocalDateTime originalStart;
+
+    @Column(nullable = false)
+    private boolean cancelled;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "start_datetime")
+    private LocalDateTime startAt;
+
+    @Column(name = "end_datetime")
+    private LocalDateTime endAt;
+
+    public ScheduleOccurrence(Long scheduleId, LocalDateTime originalStart) {
+        this.scheduleId = scheduleId;
+        this.originalStart = originalStart;
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+        this.title = null;
+        this.content = null;
+        this.startAt = null;
+        this.endAt = null;
+    }
+
+    public void override(String title, String content, LocalDateTime startAt, LocalDateTime endAt) {
+        this.cancelled = false;
+        this.title = title;
+        this.content = content;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.backwork.schedule.export;
+
+import java.util.Locale;
+
+public enum ScheduleExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    ICS("text/calendar", "ics");
+
+    private final String contentType;
+    private final String extension;
+
+    ScheduleExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ScheduleExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.example.backwork.schedule.export;
+
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.entity.ScheduleOccurrence;
+import com.example.backwork.schedule.recurrence.RecurrenceRule;
+import com.example.backwork.schedule.repository.ScheduleOccurrenceRepository;
+import com.example.backwork.schedule.service.ScheduleOccurrenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+    기간 일정 내보내기 (NDJSON / ICS)
+    - (start_datetime, id) keyset 페이지: 직전 페이지 마지막 행 다음부터 LIMIT → OFFSET 없이 몇 년치도 페이지당 같은 비용
+    - 페이지마다 커넥션을 잠깐 빌리고 바로 출력 후 flush → 느린 클라이언트가 커넥션/커서를 붙잡지 않음
+    - 메모리는 페이지 하나 분량만 사용
+    - 반복 일정은 펼치지 않고 시리즈 그대로 (NDJSON: recurrenceRule + exceptions, ICS: RRULE/EXDATE/RECURRENCE-ID)
+      회차 예외는 내보내는 구간에 걸친 것만 싣는다 (findWindowExceptions)
+    - 범위: 팀 = calendar_id, 개인 = 개인 월 화면과 같은 작성자(created_by) 기준 (Scope)
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleExportService {
+
+    private static final DateTimeFormatter ICS_LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter ICS_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int ICS_LINE_OCTETS = 75;
+
+    // 기간 겹침 조건은 ScheduleRepository.findOverlappingByCalendarId / findOverlappingByOwnerId 와 같다.
+    private static final String RANGE_SQL = """
+            SELECT id, title, content, start_datetime, end_datetime, priority, memo_id, version, recurrence_rule
+            FROM schedule
+            WHERE %s = ?
+              AND start_datetime <= ?
+              AND (
+                    COALESCE(end_datetime, start_datetime) >= ?
+                    OR (recurrence_rule IS NOT NULL AND (recurrence_end IS NULL OR recurrence_end >= ?))
+              )
+            """;
+    private static final String FIRST_PAGE_SQL = RANGE_SQL + """
+            ORDER BY start_datetime ASC, id ASC
+            LIMIT ?
+            """;
+    private static final String NEXT_PAGE_SQL = RANGE_SQL + """
+              AND (start_datetime > ? OR (start_datetime = ? AND id > ?))
+            ORDER BY start_datetime ASC, id ASC
+            LIMIT ?
+            """;
+
+    /*
+        내보내기 범위
+        - CALENDAR : 팀 캘린더 (calendar_id)
+        - OWNER    : 개인 내보내기. 개인 월 화면(findMonthViewByOwnerId)과 같은 작성자(created_by) 기준이라
+                     내가 만든 팀 일정도 포함된다.
+        페이지는 idx_schedule_calendar_start_id / idx_schedule_owner_start_id 순서 그대로 읽는다 (filesort 없음).
+     */
+    enum Scope {
+        CALENDAR("calendar_id"),
+        OWNER("created_by");
+
+        private final String firstPageSql;
+        private final String nextPageSql;
+
+        Scope(String column) {
+            this.firstPageSql = FIRST_PAGE_SQL.formatted(column);
+            this.nextPageSql = NEXT_PAGE_SQL.formatted(column);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+
+    @Value("${app.schedule-export.page-size:500}")
+    private int pageSize;
+
+    /**
+     * 캘린더 접근 권한 확인은 호출 전(요청 스레드)에 끝나 있어야 한다.
+     */
+    public StreamingResponseBody stream(
+            Long calendarId,
+            LocalDate from,
+            LocalDate to,
+            ScheduleExportFormat format
+    ) {
+        return stream(Scope.CALENDAR, calendarId, from, to, format);
+    }
+
+    /**
+     * 개인 내보내기: 개인 월 화면과 같은 범위(작성자 기준).
+     */
+    public StreamingResponseBody streamOwned(
+            Long ownerId,
+            LocalDate from,
+            LocalDate to,
+            ScheduleExportFormat format
+    ) {
+        return stream(Scope.OWNER, ownerId, from, to, format);
+    }
+
+    private StreamingResponseBody stream(
+            Scope scope,
+            Long scopeId,
+            LocalDate from,
+            LocalDate to,
+            ScheduleExportFormat format
+    ) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("종료일이 시작일보다 빠릅니다.");
+        }
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime rangeEnd = to.atTime(23, 59, 59);
+        return outputStream -> export(scope, scopeId, rangeStart, rangeEnd, format, outputStream);
+    }
+
+    public static String fileName(String prefix, LocalDate from, LocalDate to, ScheduleExportFormat format) {
+        return "%s-%s-%s.%s".formatted(prefix, from.format(DateTimeFormatter.BASIC_ISO_DATE),
+                to.format(DateTimeFormatter.BASIC_ISO_DATE), format.extension());
+    }
+
+    public void export(
+            Long calendarId,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd,
+            ScheduleExportFormat format,
+            OutputStream outputStream
+    ) throws IOException {
+        export(Scope.CALENDAR, calendarId, rangeStart, rangeEnd, format, outputStream);
+    }
+
+    void export(
+            Scope scope,
+            Long scopeId,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd,
+            ScheduleExportFormat format,
+            OutputStream outputStream
+    ) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        String dtStamp = LocalDateTime.now(ZoneOffset.UTC).format(ICS_UTC);
+
+        if (format == ScheduleExportFormat.ICS) {
+            writeIcsLine(writer, "BEGIN:VCALENDAR");
+            writeIcsLine(writer, "VERSION:2.0");
+            writeIcsLine(writer, "PRODID:-//backwork//schedule export//KO");
+            writeIcsLine(writer, "CALSCALE:GREGORIAN");
+        }
+
+        List<ScheduleResponse> page = fetchPage(scope, scopeId, rangeStart, rangeEnd, null);
+        while (!page.isEmpty()) {
+            Map<Long, List<ScheduleOccurrence>> exceptions = loadExceptions(page, rangeStart, rangeEnd);
+            for (ScheduleResponse row : page) {
+                List<ScheduleOccurrence> rowExceptions = exceptions.getOrDefault(row.getId(), List.of());
+                if (format == ScheduleExportFormat.ICS) {
+                    writeIcsEvent(writer, row, rowExceptions, dtStamp);
+                } else {
+                    writeNdjson(writer, row, rowExceptions);
+                }
+            }
+            writer.flush();
+
+            if (page.size() < pageSize) {
+                break;
+            }
+            page = fetchPage(scope, scopeId, rangeStart, rangeEnd, page.get(page.size() - 1));
+        }
+
+        if (format == ScheduleExportFormat.ICS) {
+            writeIcsLine(writer, "END:VCALENDAR");
+        }
+        writer.flush();
+    }
+
+    private List<ScheduleResponse> fetchPage(
+            Scope scope,
+            Long scopeId,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd,
+            ScheduleResponse after
+    ) {
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(after == null ? scope.firstPageSql : scope.nextPageSql);
+                    statement.setFetchSize(pageSize);
+                    int index = 1;
+                    statement.setLong(index++, scopeId);
+                    statement.setTimestamp(index++, Timestamp.valueOf(rangeEnd));
+                    statement.setTimestamp(index++, Timestamp.valueOf(rangeStart));
+                    statement.setTimestamp(index++, Timestamp.valueOf(rangeStart));
+                    if (after != null) {
+                        statement.setTimestamp(index++, Timestamp.valueOf(after.getStartAt()));
+                        statement.setTimestamp(index++, Timestamp.valueOf(after.getStartAt()));
+                        statement.setLong(index++, after.getId());
+                    }
+                    statement.setInt(index, pageSize);
+                    return statement;
+                },
+                (resultSet, rowNum) -> mapRow(resultSet)
+        );
+    }
+
+    // 페이지 안의 반복 일정 회차 예외 중 내보내는 구간에 걸친 것만 IN 한 번으로 (반복 일정이 없으면 조회 안 함)
+    private Map<Long, List<ScheduleOccurrence>> loadExceptions(
+            List<ScheduleResponse> page,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd
+    ) {
+        List<Long> seriesIds = page.stream()
+                .filter(row -> row.getRecurrenceRule() != null)
+                .map(ScheduleResponse::getId)
+                .toList();
+        if (seriesIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime windowStart = ScheduleOccurrenceService.exceptionWindowStart(page, rangeStart);
+        return scheduleOccurrenceRepository.findWindowExceptions(seriesIds, windowStart, rangeEnd).stream()
+                .collect(Collectors.groupingBy(ScheduleOccurrence::getScheduleId));
+    }
+
+    private ScheduleResponse mapRow(ResultSet resultSet) throws SQLException {
+        return new ScheduleResponse(
+                resultSet.getLong("id"),
+                resultSet.getString("title"),
+                resultSet.getString("content"),
+                toLocalDateTime(resultSet.getTimestamp("start_datetime")),
+                toLocalDateTime(resultSet.getTimestamp("end_datetime")),
+                resultSet.getObject("priority", Integer.class),
+                resultSet.getObject("memo_id", Long.class),
+                resultSet.getObject("version", Long.class),
+                resultSet.getString("recurrence_rule")
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private void writeNdjson(Writer writer, ScheduleResponse row, List<ScheduleOccurrence> exceptions) throws IOException {
+        if (row.getRecurrenceRule() == null) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            ObjectNode node = objectMapper.valueToTree(row);
+            node.set("exceptions", objectMapper.valueToTree(exceptions.stream()
+                    .map(ExportedException::from)
+                    .toList()));
+            writer.write(objectMapper.writeValueAsString(node));
+        }
+        writer.write('\n');
+    }
+
+    private void writeIcsEvent(
+            Writer writer,
+            ScheduleResponse row,
+            List<ScheduleOccurrence> exceptions,
+            String dtStamp
+    ) throws IOException {
+        String uid = "schedule-" + row.getId() + "@backwork";
+
+        writeIcsLine(writer, "BEGIN:VEVENT");
+        writeIcsLine(writer, "UID:" + uid);
+        writeIcsLine(writer, "DTSTAMP:" + dtStamp);
+        writeIcsLine(writer, "DTSTART:" + row.getStartAt().format(ICS_LOCAL));
+        if (row.getEndAt() != null) {
+            writeIcsLine(writer, "DTEND:" + row.getEndAt().format(ICS_LOCAL));
+        }
+        writeIcsLine(writer, "SUMMARY:" + escapeIcsText(row.getTitle()));
+        if (row.getContent() != null && !row.getContent().isBlank()) {
+            writeIcsLine(writer, "DESCRIPTION:" + escapeIcsText(row.getContent()));
+        }
+        if (row.getRecurrenceRule() != null) {
+            writeIcsLine(writer, "RRULE:" + RecurrenceRule.parse(row.getRecurrenceRule()).formatIcs());
+            for (ScheduleOccurrence exception : exceptions) {
+                if (exception.isCancelled()) {
+                    writeIcsLine(writer, "EXDATE:" + exception.getOriginalStart().format(ICS_LOCAL));
+                }
+            }
+        }
+        writeIcsLine(writer, "END:VEVENT");
+
+        // 수정된 회차는 같은 UID + RECURRENCE-ID 로 별도 VEVENT
+        for (ScheduleOccurrence exception : exceptions) {
+            if (exception.isCancelled()) {
+                continue;
+            }
+            LocalDateTime startAt = exception.getStartAt() != null ? exception.getStartAt() : exception.getOriginalStart();
+            // 종료 시각 없이 시작만 옮긴 회차는 시리즈 길이를 유지 (ScheduleOccurrenceService 펼침과 같음)
+            LocalDateTime endAt = exception.getEndAt() != null
+                    ? exception.getEndAt()
+                    : (row.getEndAt() != null ? startAt.plus(Duration.between(row.getStartAt(), row.getEndAt())) : null);
+            String title = exception.getTitle() != null ? exception.getTitle() : row.getTitle();
+
+            writeIcsLine(writer, "BEGIN:VEVENT");
+            writeIcsLine(writer, "UID:" + uid);
+            writeIcsLine(writer, "DTSTAMP:" + dtStamp);
+            writeIcsLine(writer, "RECURRENCE-ID:" + exception.getOriginalStart().format(ICS_LOCAL));
+            writeIcsLine(writer, "DTSTART:" + startAt.format(ICS_LOCAL));
+            if (endAt != null) {
+                writeIcsLine(writer, "DTEND:" + endAt.format(ICS_LOCAL));
+            }
+            writeIcsLine(writer, "SUMMARY:" + escapeIcsText(title));
+            writeIcsLine(writer, "END:VEVENT");
+        }
+    }
+
+    // RFC 5545: 75 octet 마다 CRLF + 공백으로 접는다 (UTF-8 멀티바이트 문자는 자르지 않음)
+    private void writeIcsLine(Writer writer, String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int width = utf8Length(codePoint);
+            if (octets + width > ICS_LINE_OCTETS) {
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(Character.toChars(codePoint));
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+
+    private int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private String escapeIcsText(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    record ExportedException(
+            LocalDateTime originalStartAt,
+            boolean cancelled,
+            String title,
+            String content,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        static ExportedException from(ScheduleOccurrence occurrence) {
+            return new ExportedException(
+                    occurrence.getOriginalStart(),
+                    occurrence.isCancelled(),
+                    occurrence.getTitle(),
+                    occurrence.getContent(),
+                    occurrence.getStartAt(),
+                    occurrence.getEndAt()
+            );
+        }
+    }
+}
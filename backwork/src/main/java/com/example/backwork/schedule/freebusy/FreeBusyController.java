@@ -0,0 +1,72 @@
+package com.example.backwork.schedule.freebusy;
+
+import com.example.backwork.member.SessionUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/free-busy")
+@RequiredArgsConstructor
+public class FreeBusyController {
+
+    private final FreeBusyService freeBusyService;
+
+    // 내가 볼 수 있는 모든 캘린더(개인 + 팀) 기준 바쁜 구간
+    @GetMapping
+    public ResponseEntity<?> mine(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        return ResponseEntity.ok(freeBusyService.forUser(user.getId(), from, to));
+    }
+
+    // 팀 캘린더 구성원 각각의 바쁜 구간 (각자 볼 수 있는 모든 캘린더 기준)
+    @GetMapping("/team")
+    public ResponseEntity<?> team(
+            @RequestParam Long calendarId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        return ResponseEntity.ok(freeBusyService.forTeam(user.getId(), calendarId, from, to));
+    }
+
+    @ExceptionHandler(SecurityException.class)
+    public ResponseEntity<Map<String, Object>> handleSecurityException(SecurityException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Map.of(
+                        "code", "FORBIDDEN",
+                        "message", e.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest()
+                .body(Map.of(
+                        "code", "BAD_REQUEST",
+                        "message", e.getMessage()
+                ));
+    }
+
+    private SessionUser getLoginUser(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) return null;
+        return (SessionUser) session.getAttribute("LOGIN_USER");
+    }
+}
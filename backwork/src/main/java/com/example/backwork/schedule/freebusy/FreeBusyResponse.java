@@ -0,0 +1,17 @@
+package com.example.backwork.schedule.freebusy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * busy 는 [시작, 종료, 시작, 종료, ...] 형태의 분 단위 오프셋(from 기준, 종료 미포함).
+ * 일정 제목/내용은 담지 않는다.
+ */
+public record FreeBusyResponse(
+        LocalDateTime from,
+        LocalDateTime to,
+        List<MemberBusy> members
+) {
+    public record MemberBusy(Long userId, int[] busy) {
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.backwork.schedule.freebusy;
+
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.calendar.share.ShareMember;
+import com.example.backwork.calendar.share.ShareMemberRepository;
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.service.ScheduleOccurrenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+    free/busy (누가 언제 바쁜지만, 일정 내용 없음)
+    - 대상 사용자들이 볼 수 있는 캘린더(소유 + 공유 멤버) 전체의 일정을 한 번의 조회로 가져온다.
+      → 사용자 x 캘린더 x 월 단위로 반복 조회하던 클라이언트 계산을 대체
+    - 반복 일정은 같은 구간으로 펼친 뒤 합친다.
+    - 사용자별로 시작 순 정렬 후 한 번 훑어(sweep) 겹치거나 맞닿은 구간을 합친다.
+ */
+@Service
+@RequiredArgsConstructor
+public class FreeBusyService {
+
+    // 최대 조회 기간 (일)
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private static final String VISIBLE_SCHEDULES_SQL = """
+            SELECT v.user_id, s.id, s.start_datetime, s.end_datetime, s.recurrence_rule
+            FROM (
+                SELECT c.id AS calendar_id, c.owner_id AS user_id FROM calendar c WHERE c.owner_id IN (:userIds)
+                UNION
+                SELECT sm.calendar_id, sm.user_id FROM share_id sm WHERE sm.user_id IN (:userIds)
+            ) v
+            JOIN schedule s ON s.calendar_id = v.calendar_id
+            WHERE s.start_datetime < :rangeEnd
+              AND (
+                    COALESCE(s.end_datetime, s.start_datetime) >= :rangeStart
+                    OR (s.recurrence_rule IS NOT NULL AND (s.recurrence_end IS NULL OR s.recurrence_end >= :rangeStart))
+              )
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final CalendarRepository calendarRepository;
+    private final ShareMemberRepository shareMemberRepository;
+    private final TeamCalendarAccessService teamCalendarAccessService;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
+
+    // 종료 시각이 없는 일정이 차지하는 시간
+    @Value("${app.free-busy.default-duration-minutes:60}")
+    private long defaultDurationMinutes;
+
+    @Transactional(readOnly = true)
+    public FreeBusyResponse forUser(Long userId, LocalDate from, LocalDate to) {
+        return compute(List.of(userId), from, to);
+    }
+
+    // 팀 캘린더 구성원(소유자 + 공유 멤버) 각각의 free/busy
+    @Transactional(readOnly = true)
+    public FreeBusyResponse forTeam(Long requesterId, Long calendarId, LocalDate from, LocalDate to) {
+        teamCalendarAccessService.requireMember(calendarId, requesterId);
+
+        Set<Long> memberIds = new LinkedHashSet<>();
+        calendarRepository.findById(calendarId)
+                .ifPresent(calendar -> memberIds.add(calendar.getOwner().getId()));
+        shareMemberRepository.findByCalendarId(calendarId).stream()
+                .map(ShareMember::getUserId)
+                .forEach(memberIds::add);
+
+        return compute(List.copyOf(memberIds), from, to);
+    }
+
+    FreeBusyResponse compute(List<Long> userIds, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("free/busy 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime rangeEnd = to.plusDays(1).atStartOfDay();
+        int rangeMinutes = (int) Duration.between(rangeStart, rangeEnd).toMinutes();
+
+        List<VisibleSchedule> rows = namedParameterJdbcTemplate.query(
+                VISIBLE_SCHEDULES_SQL,
+                new MapSqlParameterSource()
+                        .addValue("userIds", userIds)
+                        .addValue("rangeStart", Timestamp.valueOf(rangeStart))
+                        .addValue("rangeEnd", Timestamp.valueOf(rangeEnd)),
+                (resultSet, rowNum) -> new VisibleSchedule(
+                        resultSet.getLong("user_id"),
+                        new ScheduleResponse(
+                                resultSet.getLong("id"),
+                                null,
+                                null,
+                                resultSet.getTimestamp("start_datetime").toLocalDateTime(),
+                                toLocalDateTime(resultSet.getTimestamp("end_datetime")),
+                                null,
+                                null,
+                                null,
+                                resultSet.getString("recurrence_rule")
+                        )
+                )
+        );
+
+        // 같은 팀 캘린더 일정이 여러 사용자 행으로 나오므로 반복 일정은 시리즈별로 한 번만 펼친다.
+        Map<Long, ScheduleResponse> series = new LinkedHashMap<>();
+        for (VisibleSchedule row : rows) {
+            if (row.schedule().getRecurrenceRule() != null) {
+                series.putIfAbsent(row.schedule().getId(), row.schedule());
+            }
+        }
+        Map<Long, List<ScheduleResponse>> occurrences = series.isEmpty()
+                ? Map.of()
+                : scheduleOccurrenceService.expand(new ArrayList<>(series.values()), rangeStart, rangeEnd).stream()
+                        .collect(Collectors.groupingBy(ScheduleResponse::getId));
+
+        Map<Long, List<int[]>> intervalsByUser = new HashMap<>();
+        for (VisibleSchedule row : rows) {
+            List<int[]> intervals = intervalsByUser.computeIfAbsent(row.userId(), key -> new ArrayList<>());
+            if (row.schedule().getRecurrenceRule() == null) {
+                addInterval(intervals, row.schedule(), rangeStart, rangeMinutes);
+                continue;
+            }
+            for (ScheduleResponse occurrence : occurrences.getOrDefault(row.schedule().getId(), List.of())) {
+                addInterval(intervals, occurrence, rangeStart, rangeMinutes);
+            }
+        }
+
+        List<FreeBusyResponse.MemberBusy> members = userIds.stream()
+                .map(userId -> new FreeBusyResponse.MemberBusy(
+                        userId,
+                        merge(intervalsByUser.getOrDefault(userId, List.of()))
+                ))
+                .toList();
+        return new FreeBusyResponse(rangeStart, rangeEnd, members);
+    }
+
+    /**
+     * 시작 순으로 정렬한 뒤 한 번 훑으며 겹치거나 맞닿은 구간을 합친다. 결과는 [s0, e0, s1, e1, ...].
+     */
+    static int[] merge(List<int[]> intervals) {
+        if (intervals.isEmpty()) {
+            return new int[0];
+        }
+
+        List<int[]> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingInt(interval -> interval[0]));
+
+        int[] merged = new int[sorted.size() * 2];
+        int size = 0;
+        int currentStart = sorted.get(0)[0];
+        int currentEnd = sorted.get(0)[1];
+        for (int i = 1; i < sorted.size(); i++) {
+            int[] interval = sorted.get(i);
+            if (interval[0] <= currentEnd) {
+                currentEnd = Math.max(currentEnd, interval[1]);
+                continue;
+            }
+            merged[size++] = currentStart;
+            merged[size++] = currentEnd;
+            currentStart = interval[0];
+            currentEnd = interval[1];
+        }
+        merged[size++] = currentStart;
+        merged[size++] = currentEnd;
+        return Arrays.copyOf(merged, size);
+    }
+
+    // 구간 밖은 잘라내고 분 단위로 (시작 내림, 종료 올림)
+    private void addInterval(List<int[]> intervals, ScheduleResponse schedule, LocalDateTime rangeStart, int rangeMinutes) {
+        LocalDateTime startAt = schedule.getStartAt();
+        LocalDateTime endAt = schedule.getEndAt() != null && schedule.getEndAt().isAfter(startAt)
+                ? schedule.getEndAt()
+                : startAt.plusMinutes(defaultDurationMinutes);
+
+        long start = Math.floorDiv(Duration.between(rangeStart, startAt).toSeconds(), 60);
+        long end = Math.floorDiv(Duration.between(rangeStart, endAt).toSeconds() + 59, 60);
+        start = Math.max(0, start);
+        end = Math.min(rangeMinutes, end);
+        if (end > start) {
+            intervals.add(new int[]{(int) start, (int) end});
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private record VisibleSchedule(Long userId, ScheduleResponse schedule) {
+    }
+}
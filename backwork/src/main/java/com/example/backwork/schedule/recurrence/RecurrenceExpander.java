@@ -0,0 +1,158 @@
+package com.example.backwork.schedule.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    반복 일정 발생(occurrence) 계산
+    - 요청 구간 [windowStart, windowEnd] 과 겹치는 발생만 만든다.
+    - COUNT 가 없으면 구간 직전 주기로 바로 건너뛰어 계산 → 시리즈가 몇 년짜리여도 비용은 구간 크기에 비례
+    - COUNT 가 있으면 순번이 필요하므로 처음부터 세지만 최대 MAX_COUNT 회
+    - 발생 기간(종료 - 시작)은 원본 일정과 같다. 종료일이 없는 일정은 길이 0.
+ */
+public final class RecurrenceExpander {
+
+    // 한 번의 조회에서 시리즈 하나가 만들 수 있는 최대 발생 수 (월 화면 기준 충분)
+    public static final int MAX_OCCURRENCES_PER_WINDOW = 500;
+
+    private RecurrenceExpander() {
+    }
+
+    public record Occurrence(LocalDateTime startAt, LocalDateTime endAt) {
+    }
+
+    public static List<Occurrence> expand(
+            LocalDateTime seriesStart,
+            LocalDateTime seriesEnd,
+            RecurrenceRule rule,
+            LocalDateTime windowStart,
+            LocalDateTime windowEnd
+    ) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        if (seriesStart == null || windowEnd.isBefore(seriesStart)) {
+            return occurrences;
+        }
+
+        Duration duration = (seriesEnd == null || seriesEnd.isBefore(seriesStart))
+                ? Duration.ZERO
+                : Duration.between(seriesStart, seriesEnd);
+        boolean openEnded = seriesEnd == null;
+
+        // 이 시각 이전에 시작한 발생은 구간과 겹칠 수 없다.
+        LocalDateTime earliestRelevantStart = windowStart.minus(duration);
+        LocalDateTime untilLimit = rule.until() == null ? null : rule.until().atTime(LocalTime.MAX);
+        boolean counting = rule.count() != null;
+
+        int emitted = 0;
+        long period = counting ? 0 : firstRelevantPeriod(seriesStart, rule, earliestRelevantStart);
+        while (true) {
+            List<LocalDateTime> starts = startsInPeriod(seriesStart, rule, period);
+            if (starts == null) {
+                break;
+            }
+            for (LocalDateTime start : starts) {
+                if (start.isBefore(seriesStart)) {
+                    continue;
+                }
+                if (start.isAfter(windowEnd) || (untilLimit != null && start.isAfter(untilLimit))) {
+                    return occurrences;
+                }
+                if (counting && ++emitted > rule.count()) {
+                    return occurrences;
+                }
+                if (!start.isBefore(earliestRelevantStart)) {
+                    occurrences.add(new Occurrence(start, openEnded ? null : start.plus(duration)));
+                    if (occurrences.size() >= MAX_OCCURRENCES_PER_WINDOW) {
+                        return occurrences;
+                    }
+                }
+            }
+            period++;
+        }
+        return occurrences;
+    }
+
+    /**
+     * 마지막 발생의 종료 시각 (조회 조건용). 무기한이면 null.
+     * UNTIL 은 그날 끝 + 길이로 넉넉히 잡는다.
+     */
+    public static LocalDateTime seriesLastEnd(LocalDateTime seriesStart, LocalDateTime seriesEnd, RecurrenceRule rule) {
+        Duration duration = (seriesEnd == null || seriesEnd.isBefore(seriesStart))
+                ? Duration.ZERO
+                : Duration.between(seriesStart, seriesEnd);
+
+        if (rule.until() != null) {
+            return rule.until().atTime(LocalTime.MAX).plus(duration);
+        }
+        if (rule.count() == null) {
+            return null;
+        }
+
+        LocalDateTime lastStart = seriesStart;
+        int emitted = 0;
+        for (long period = 0; emitted < rule.count(); period++) {
+            for (LocalDateTime start : startsInPeriod(seriesStart, rule, period)) {
+                if (start.isBefore(seriesStart)) {
+                    continue;
+                }
+                lastStart = start;
+                if (++emitted == rule.count()) {
+                    break;
+                }
+            }
+        }
+        return lastStart.plus(duration);
+    }
+
+    // period 번째 주기(일/주/월)의 발생 시작 후보
+    private static List<LocalDateTime> startsInPeriod(LocalDateTime seriesStart, RecurrenceRule rule, long period) {
+        long step = period * rule.interval();
+        LocalTime time = seriesStart.toLocalTime();
+        LocalDate startDate = seriesStart.toLocalDate();
+
+        return switch (rule.frequency()) {
+            case DAILY -> List.of(startDate.plusDays(step).atTime(time));
+            case WEEKLY -> {
+                LocalDate weekStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(step);
+                if (rule.byDays().isEmpty()) {
+                    yield List.of(weekStart.with(TemporalAdjusters.nextOrSame(startDate.getDayOfWeek())).atTime(time));
+                }
+                List<LocalDateTime> starts = new ArrayList<>();
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    if (rule.byDays().contains(day)) {
+                        starts.add(weekStart.with(TemporalAdjusters.nextOrSame(day)).atTime(time));
+                    }
+                }
+                yield starts;
+            }
+            case MONTHLY -> {
+                YearMonth month = YearMonth.from(startDate).plusMonths(step);
+                int day = startDate.getDayOfMonth();
+                yield day > month.lengthOfMonth() ? List.of() : List.of(month.atDay(day).atTime(time));
+            }
+        };
+    }
+
+    // earliestRelevantStart 직전 주기 (한 주기 여유)
+    private static long firstRelevantPeriod(LocalDateTime seriesStart, RecurrenceRule rule, LocalDateTime earliestRelevantStart) {
+        if (!earliestRelevantStart.isAfter(seriesStart)) {
+            return 0;
+        }
+        LocalDate from = seriesStart.toLocalDate();
+        LocalDate to = earliestRelevantStart.toLocalDate();
+        long units = switch (rule.frequency()) {
+            case DAILY -> ChronoUnit.DAYS.between(from, to);
+            case WEEKLY -> ChronoUnit.WEEKS.between(from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), to);
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(from), YearMonth.from(to));
+        };
+        return Math.max(0, units / rule.interval() - 1);
+    }
+}
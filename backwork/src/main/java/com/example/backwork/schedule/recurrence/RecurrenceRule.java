@@ -0,0 +1,169 @@
+package com.example.backwork.schedule.recurrence;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+    RRULE(RFC 5545) 부분 집합
+      FREQ=DAILY|WEEKLY|MONTHLY (필수)
+      INTERVAL=n            (기본 1)
+      BYDAY=MO,TU,...       (WEEKLY 전용, 기본 = 시작일 요일)
+      COUNT=n | UNTIL=yyyyMMdd (둘 중 하나, 없으면 무기한)
+    MONTHLY 는 시작일의 "일"을 반복하고 그 날짜가 없는 달(31일 등)은 건너뛴다.
+    주 시작은 월요일(WKST=MO).
+ */
+public record RecurrenceRule(
+        Frequency frequency,
+        int interval,
+        Set<DayOfWeek> byDays,
+        Integer count,
+        LocalDate until
+) {
+
+    public static final int MAX_COUNT = 1000;
+    public static final int MAX_INTERVAL = 366;
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Map<String, DayOfWeek> DAY_CODES = Map.of(
+            "MO", DayOfWeek.MONDAY,
+            "TU", DayOfWeek.TUESDAY,
+            "WE", DayOfWeek.WEDNESDAY,
+            "TH", DayOfWeek.THURSDAY,
+            "FR", DayOfWeek.FRIDAY,
+            "SA", DayOfWeek.SATURDAY,
+            "SU", DayOfWeek.SUNDAY
+    );
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    /**
+     * 비어 있으면 null(반복 없음). 형식이 맞지 않으면 IllegalArgumentException.
+     */
+    public static RecurrenceRule parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        String rule = value.trim().toUpperCase(Locale.ROOT);
+        if (rule.startsWith("RRULE:")) {
+            rule = rule.substring("RRULE:".length());
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDays = EnumSet.noneOf(DayOfWeek.class);
+        Integer count = null;
+        LocalDate until = null;
+
+        for (String part : rule.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw invalid(value);
+            }
+            String name = part.substring(0, eq);
+            String partValue = part.substring(eq + 1);
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = parseFrequency(partValue, value);
+                    case "INTERVAL" -> interval = Integer.parseInt(partValue);
+                    case "COUNT" -> count = Integer.parseInt(partValue);
+                    case "UNTIL" -> until = LocalDate.parse(partValue.length() > 8 ? partValue.substring(0, 8) : partValue, UNTIL_FORMAT);
+                    case "BYDAY" -> {
+                        for (String code : partValue.split(",")) {
+                            DayOfWeek day = DAY_CODES.get(code);
+                            if (day == null) {
+                                throw invalid(value);
+                            }
+                            byDays.add(day);
+                        }
+                    }
+                    default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw invalid(value);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 규칙에 FREQ 가 필요합니다.");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL 은 1~" + MAX_INTERVAL + " 사이여야 합니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT 와 UNTIL 은 함께 쓸 수 없습니다.");
+        }
+        if (count != null && (count < 1 || count > MAX_COUNT)) {
+            throw new IllegalArgumentException("COUNT 는 1~" + MAX_COUNT + " 사이여야 합니다.");
+        }
+        if (!byDays.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY 는 FREQ=WEEKLY 에서만 사용할 수 있습니다.");
+        }
+
+        return new RecurrenceRule(frequency, interval, Collections.unmodifiableSet(byDays), count, until);
+    }
+
+    /**
+     * 저장용 정규화 문자열 (항목 순서 고정).
+     */
+    public String format() {
+        return format(until == null ? null : "UNTIL=" + until.format(UNTIL_FORMAT));
+    }
+
+    /**
+     * ICS 내보내기용. DTSTART 가 (floating) DATE-TIME 이므로 UNTIL 도 같은 형식이어야 한다 (RFC 5545 3.3.10).
+     * 저장된 UNTIL 은 그날 전체를 포함하므로 23:59:59 로 쓴다.
+     */
+    public String formatIcs() {
+        return format(until == null ? null : "UNTIL=" + until.format(UNTIL_FORMAT) + "T235959");
+    }
+
+    private String format(String untilPart) {
+        List<String> parts = new ArrayList<>();
+        parts.add("FREQ=" + frequency);
+        if (interval != 1) {
+            parts.add("INTERVAL=" + interval);
+        }
+        if (!byDays.isEmpty()) {
+            parts.add("BYDAY=" + byDays.stream()
+                    .sorted()
+                    .map(day -> day.name().substring(0, 2))
+                    .collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            parts.add("COUNT=" + count);
+        }
+        if (untilPart != null) {
+            parts.add(untilPart);
+        }
+        return String.join(";", parts);
+    }
+
+    private static Frequency parseFrequency(String frequency, String value) {
+        for (Frequency candidate : Frequency.values()) {
+            if (candidate.name().equals(frequency)) {
+                return candidate;
+            }
+        }
+        throw invalid(value);
+    }
+
+    private static IllegalArgumentException invalid(String value) {
+        return new IllegalArgumentException("반복 규칙 형식이 올바르지 않습니다: " + value);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backwork.schedule.repository;
+
+import com.example.backwork.schedule.entity.ScheduleOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleOccurrenceRepository extends JpaRepository<ScheduleOccurrence, Long> {
+
+    /*
+        조회 구간에 영향을 주는 회차 예외만 (시리즈가 지금까지 쌓은 예외 전체가 아니라)
+        - original_start : 구간과 겹치는 규칙상 회차의 취소/수정 → from 은 rangeStart - 시리즈 길이
+        - start_datetime : 다른 회차를 구간 안으로 옮긴 경우
+        - end_datetime   : 종료만 늘려 구간까지 이어진 경우
+        (schedule_id, original_start) 유니크 키 + idx_schedule_occurrence_start / _end 로 범위 스캔
+     */
+    @Query("""
+            SELECT o
+            FROM ScheduleOccurrence o
+            WHERE o.scheduleId IN :scheduleIds
+              AND (
+                    o.originalStart BETWEEN :from AND :to
+                    OR o.startAt BETWEEN :from AND :to
+                    OR o.endAt BETWEEN :from AND :to
+              )
+            """)
+    List<ScheduleOccurrence> findWindowExceptions(
+            @Param("scheduleIds") Collection<Long> scheduleIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    Optional<ScheduleOccurrence> findByScheduleIdAndOriginalStart(Long scheduleId, LocalDateTime originalStart);
+
+    @Modifying
+    @Query("DELETE FROM ScheduleOccurrence o WHERE o.scheduleId = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+}
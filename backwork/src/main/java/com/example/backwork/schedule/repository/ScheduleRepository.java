@@ -1,5 +1,6 @@
 package com.example.backwork.schedule.repository;
 
+import com.example.backwork.schedule.dto.ScheduleResponse;
 import com.example.backwork.schedule.entity.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,29 +10,79 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    List<Schedule> findByOwnerId(Long ownerId);
-
-    List<Schedule> findByOwnerIdAndStartAtLessThanEqualAndEndAtGreaterThanEqual(
-            Long ownerId,
-            LocalDateTime monthEnd,
-            LocalDateTime monthStart
+    // 종료일이 없는 일정은 시작일을 종료일로 간주(effective end)해 한 번의 기간 겹침 조건으로 조회
+    // 반복 일정은 시리즈 행 1건만 있으므로 시작이 구간 이전이어도 마지막 발생(recurrence_end)이 구간에 닿으면 후보로 포함
+    @Query("""
+            SELECT s
+            FROM Schedule s
+            WHERE s.owner.id = :ownerId
+              AND s.startAt <= :rangeEnd
+              AND (
+                    COALESCE(s.endAt, s.startAt) >= :rangeStart
+                    OR (s.recurrenceRule IS NOT NULL AND (s.recurrenceEnd IS NULL OR s.recurrenceEnd >= :rangeStart))
+              )
+            ORDER BY s.startAt ASC, s.id ASC
+            """)
+    List<Schedule> findOverlappingByOwnerId(
+            @Param("ownerId") Long ownerId,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd
     );
 
-    List<Schedule> findByOwnerIdAndEndAtIsNullAndStartAtBetween(
-            Long ownerId,
-            LocalDateTime monthStart,
-            LocalDateTime monthEnd
+    @Query("""
+            SELECT s
+            FROM Schedule s
+            WHERE s.calendar.id = :calendarId
+              AND s.startAt <= :rangeEnd
+              AND (
+                    COALESCE(s.endAt, s.startAt) >= :rangeStart
+                    OR (s.recurrenceRule IS NOT NULL AND (s.recurrenceEnd IS NULL OR s.recurrenceEnd >= :rangeStart))
+              )
+            ORDER BY s.startAt ASC, s.id ASC
+            """)
+    List<Schedule> findOverlappingByCalendarId(
+            @Param("calendarId") Long calendarId,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd
     );
-    List<Schedule> findByCalendarIdAndStartAtLessThanEqualAndEndAtGreaterThanEqual(
-            Long calendarId,
-            LocalDateTime monthEnd,
-            LocalDateTime monthStart
+
+    // 월 화면 전용 읽기 모델: 엔티티/연관 프록시 없이 응답 컬럼만 DTO로 바로 조회
+    @Query("""
+            SELECT new com.example.backwork.schedule.dto.ScheduleResponse(
+                s.id, s.title, s.content, s.startAt, s.endAt, s.priority, s.memoId, s.version, s.recurrenceRule
+            )
+            FROM Schedule s
+            WHERE s.owner.id = :ownerId
+              AND s.startAt <= :rangeEnd
+              AND (
+                    COALESCE(s.endAt, s.startAt) >= :rangeStart
+                    OR (s.recurrenceRule IS NOT NULL AND (s.recurrenceEnd IS NULL OR s.recurrenceEnd >= :rangeStart))
+              )
+            ORDER BY s.startAt ASC, s.id ASC
+            """)
+    List<ScheduleResponse> findMonthViewByOwnerId(
+            @Param("ownerId") Long ownerId,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd
     );
 
-    List<Schedule> findByCalendarIdAndEndAtIsNullAndStartAtBetween(
-            Long calendarId,
-            LocalDateTime monthStart,
-            LocalDateTime monthEnd
+    @Query("""
+            SELECT new com.example.backwork.schedule.dto.ScheduleResponse(
+                s.id, s.title, s.content, s.startAt, s.endAt, s.priority, s.memoId, s.version, s.recurrenceRule
+            )
+            FROM Schedule s
+            WHERE s.calendar.id = :calendarId
+              AND s.startAt <= :rangeEnd
+              AND (
+                    COALESCE(s.endAt, s.startAt) >= :rangeStart
+                    OR (s.recurrenceRule IS NOT NULL AND (s.recurrenceEnd IS NULL OR s.recurrenceEnd >= :rangeStart))
+              )
+            ORDER BY s.startAt ASC, s.id ASC
+            """)
+    List<ScheduleResponse> findMonthViewByCalendarId(
+            @Param("calendarId") Long calendarId,
+            @Param("rangeStart") LocalDateTime rangeStart,
+            @Param("rangeEnd") LocalDateTime rangeEnd
     );
 
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
@@ -0,0 +1,269 @@
+package com.example.backwork.schedule.service;
+
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.entity.ScheduleOccurrence;
+import com.example.backwork.schedule.recurrence.RecurrenceExpander;
+import com.example.backwork.schedule.recurrence.RecurrenceRule;
+import com.example.backwork.schedule.repository.ScheduleOccurrenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+    반복 일정 (개인/팀 공통)
+    - DB 에는 시리즈 1행 + 회차 예외(schedule_occurrence)만 저장하고, 회차는 조회 구간만큼 그때그때 펼친다.
+    - 조회 구간에 반복 일정이 없으면 예외 테이블은 읽지 않는다 (기존 월 조회 1 statement 유지)
+    - 예외는 시리즈 id IN (...) 한 번으로 모아 읽되, 조회 구간에 영향을 주는 것만 (findWindowExceptions)
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleOccurrenceService {
+
+    private static final Comparator<ScheduleResponse> START_ORDER = Comparator
+            .comparing(ScheduleResponse::getStartAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ScheduleResponse::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+
+    // 생성 시 규칙 검증 + 정규화, 마지막 발생 시각 계산
+    public void applyRule(Schedule schedule, String ruleText) {
+        RecurrenceRule rule = RecurrenceRule.parse(ruleText);
+        if (rule == null) {
+            schedule.applyRecurrence(null, null);
+            return;
+        }
+        if (schedule.getStartAt() == null) {
+            throw new IllegalArgumentException("반복 일정은 시작 시각이 필요합니다.");
+        }
+        schedule.applyRecurrence(
+                rule.format(),
+                RecurrenceExpander.seriesLastEnd(schedule.getStartAt(), schedule.getEndAt(), rule)
+        );
+    }
+
+    // 수정 시: 규칙이나 시작 시각이 바뀌면 기존 회차 예외는 더 이상 같은 회차를 가리키지 않으므로 정리
+    public void reapplyRule(Schedule schedule, String ruleText, String previousRule, LocalDateTime previousStart) {
+        applyRule(schedule, ruleText);
+        if (previousRule == null) {
+            return;
+        }
+        if (!Objects.equals(previousRule, schedule.getRecurrenceRule())
+                || !Objects.equals(previousStart, schedule.getStartAt())) {
+            scheduleOccurrenceRepository.deleteByScheduleId(schedule.getId());
+        }
+    }
+
+    public List<ScheduleResponse> expandEntities(List<Schedule> schedules, LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        return expand(schedules.stream().map(ScheduleResponse::new).toList(), rangeStart, rangeEnd);
+    }
+
+    // 반복 일정 행을 [rangeStart, rangeEnd] 와 겹치는 회차들로 바꾼다. 단일 일정은 그대로
+    public List<ScheduleResponse> expand(List<ScheduleResponse> rows, LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        List<Long> seriesIds = rows.stream()
+                .filter(row -> row.getRecurrenceRule() != null)
+                .map(ScheduleResponse::getId)
+                .toList();
+        if (seriesIds.isEmpty()) {
+            return rows;
+        }
+
+        Map<Long, Map<LocalDateTime, ScheduleOccurrence>> exceptions = scheduleOccurrenceRepository
+                .findWindowExceptions(seriesIds, exceptionWindowStart(rows, rangeStart), rangeEnd)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        ScheduleOccurrence::getScheduleId,
+                        Collectors.toMap(ScheduleOccurrence::getOriginalStart, occurrence -> occurrence)
+                ));
+
+        List<ScheduleResponse> expanded = new ArrayList<>(rows.size());
+        for (ScheduleResponse row : rows) {
+            if (row.getRecurrenceRule() == null) {
+                expanded.add(row);
+                continue;
+            }
+            expandSeries(row, exceptions.getOrDefault(row.getId(), Map.of()), rangeStart, rangeEnd, expanded);
+        }
+        expanded.sort(START_ORDER);
+        return expanded;
+    }
+
+    /*
+        회차 예외 조회 구간의 시작: 구간 시작 직전에 시작해 구간까지 이어지는 회차도 잡도록
+        가장 긴 시리즈 길이만큼 앞당긴다. (ScheduleExportService 도 같은 구간으로 읽는다)
+     */
+    public static LocalDateTime exceptionWindowStart(List<ScheduleResponse> rows, LocalDateTime rangeStart) {
+        Duration longest = Duration.ZERO;
+        for (ScheduleResponse row : rows) {
+            if (row.getRecurrenceRule() == null || row.getStartAt() == null || row.getEndAt() == null) {
+                continue;
+            }
+            Duration duration = Duration.between(row.getStartAt(), row.getEndAt());
+            if (duration.compareTo(longest) > 0) {
+                longest = duration;
+            }
+        }
+        return rangeStart.minus(longest);
+    }
+
+    public void cancel(Schedule schedule, LocalDateTime originalStart) {
+        findOrCreate(schedule, originalStart).cancel();
+    }
+
+    public void override(
+            Schedule schedule,
+            LocalDateTime originalStart,
+            String title,
+            String content,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        if (startAt != null && endAt != null && endAt.isBefore(startAt)) {
+            throw new IllegalArgumentException("종료 시각이 시작 시각보다 빠릅니다.");
+        }
+        requireWithinSeries(schedule, originalStart, startAt, endAt);
+        findOrCreate(schedule, originalStart).override(title, content, startAt, endAt);
+    }
+
+    public void deleteAll(Long scheduleId) {
+        scheduleOccurrenceRepository.deleteByScheduleId(scheduleId);
+    }
+
+    private ScheduleOccurrence findOrCreate(Schedule schedule, LocalDateTime originalStart) {
+        requireOccurrence(schedule, originalStart);
+        return scheduleOccurrenceRepository
+                .findByScheduleIdAndOriginalStart(schedule.getId(), originalStart)
+                .orElseGet(() -> scheduleOccurrenceRepository.save(new ScheduleOccurrence(schedule.getId(), originalStart)));
+    }
+
+    private void requireOccurrence(Schedule schedule, LocalDateTime originalStart) {
+        if (!schedule.isRecurring()) {
+            throw new IllegalArgumentException("반복 일정이 아닙니다.");
+        }
+        if (originalStart == null) {
+            throw new IllegalArgumentException("originalStartAt 값이 필요합니다.");
+        }
+
+        RecurrenceRule rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+        boolean exists = RecurrenceExpander
+                .expand(schedule.getStartAt(), schedule.getEndAt(), rule, originalStart, originalStart)
+                .stream()
+                .anyMatch(occurrence -> occurrence.startAt().equals(originalStart));
+        if (!exists) {
+            throw new IllegalArgumentException("해당 시각에 반복 일정 회차가 없습니다.");
+        }
+    }
+
+    /*
+        구간 조회는 시리즈 행의 start_at / recurrence_end 로 후보를 고르므로
+        회차를 시리즈 시작 이전이나 마지막 발생 이후로 옮기면 어느 구간에서도 조회되지 않는다.
+        → 옮긴 회차(종료 시각이 없으면 원래 회차 길이 기준)가 시리즈 범위 안에 있어야 한다.
+     */
+    private void requireWithinSeries(
+            Schedule schedule,
+            LocalDateTime originalStart,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        if (!schedule.isRecurring() || originalStart == null) {
+            return; // requireOccurrence 에서 거절
+        }
+        LocalDateTime effectiveStart = startAt != null ? startAt : originalStart;
+        LocalDateTime effectiveEnd = endAt != null
+                ? endAt
+                : shiftedEnd(effectiveStart, schedule.getStartAt(), schedule.getEndAt());
+        if (effectiveEnd == null) {
+            effectiveEnd = effectiveStart;
+        }
+
+        if (effectiveStart.isBefore(schedule.getStartAt())) {
+            throw new IllegalArgumentException("반복 일정 시작 이전으로 회차를 옮길 수 없습니다.");
+        }
+        if (schedule.getRecurrenceEnd() != null && effectiveEnd.isAfter(schedule.getRecurrenceEnd())) {
+            throw new IllegalArgumentException("반복 일정 종료 이후로 회차를 옮길 수 없습니다.");
+        }
+    }
+
+    // 종료 시각 없이 시작만 옮긴 회차는 시리즈 길이를 유지한다.
+    private static LocalDateTime shiftedEnd(LocalDateTime startAt, LocalDateTime seriesStart, LocalDateTime seriesEnd) {
+        if (seriesEnd == null) {
+            return null;
+        }
+        return startAt.plus(Duration.between(seriesStart, seriesEnd));
+    }
+
+    private void expandSeries(
+            ScheduleResponse series,
+            Map<LocalDateTime, ScheduleOccurrence> exceptions,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd,
+            List<ScheduleResponse> out
+    ) {
+        RecurrenceRule rule = RecurrenceRule.parse(series.getRecurrenceRule());
+        Set<LocalDateTime> handled = new HashSet<>();
+
+        for (RecurrenceExpander.Occurrence occurrence : RecurrenceExpander.expand(
+                series.getStartAt(), series.getEndAt(), rule, rangeStart, rangeEnd)) {
+            handled.add(occurrence.startAt());
+            ScheduleOccurrence exception = exceptions.get(occurrence.startAt());
+            if (exception == null) {
+                out.add(series.toOccurrence(
+                        occurrence.startAt(), series.getTitle(), series.getContent(), occurrence.startAt(), occurrence.endAt()));
+            } else {
+                addOverridden(series, occurrence.startAt(), occurrence.endAt(), exception, rangeStart, rangeEnd, out);
+            }
+        }
+
+        // 다른 구간의 회차를 이 구간 안으로 옮긴 경우
+        for (ScheduleOccurrence exception : exceptions.values()) {
+            if (handled.contains(exception.getOriginalStart())) {
+                continue;
+            }
+            LocalDateTime originalEnd = series.getEndAt() == null
+                    ? null
+                    : exception.getOriginalStart().plus(Duration.between(series.getStartAt(), series.getEndAt()));
+            addOverridden(series, exception.getOriginalStart(), originalEnd, exception, rangeStart, rangeEnd, out);
+        }
+    }
+
+    private void addOverridden(
+            ScheduleResponse series,
+            LocalDateTime originalStart,
+            LocalDateTime originalEnd,
+            ScheduleOccurrence exception,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd,
+            List<ScheduleResponse> out
+    ) {
+        if (exception.isCancelled()) {
+            return;
+        }
+
+        LocalDateTime startAt = exception.getStartAt() != null ? exception.getStartAt() : originalStart;
+        LocalDateTime endAt = exception.getEndAt() != null
+                ? exception.getEndAt()
+                : (exception.getStartAt() != null ? shiftedEnd(startAt, series.getStartAt(), series.getEndAt()) : originalEnd);
+        LocalDateTime effectiveEnd = endAt == null ? startAt : endAt;
+        if (startAt.isAfter(rangeEnd) || effectiveEnd.isBefore(rangeStart)) {
+            return;
+        }
+
+        out.add(series.toOccurrence(
+                originalStart,
+                exception.getTitle() != null ? exception.getTitle() : series.getTitle(),
+                exception.getContent() != null ? exception.getContent() : series.getContent(),
+                startAt,
+                endAt
+        ));
+    }
+}
@@ -6,6 +6,9 @@ import com.example.backwork.member.User;
 import com.example.backwork.member.UserRepository;
 import com.example.backwork.memo.MemoPostRepository;
 import com.example.backwork.schedule.dto.ScheduleCreateRequest;
+import com.example.backwork.schedule.dto.ScheduleOccurrenceRequest;
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.dto.ScheduleSlot;
 import com.example.backwork.schedule.dto.ScheduleUpdateRequest;
 import com.example.backwork.schedule.entity.Schedule;
 import com.example.backwork.schedule.repository.ScheduleRepository;
@@ -14,10 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,8 +26,10 @@ public class ScheduleService {
     private final CalendarRepository calendarRepository;
     private final UserRepository userRepository;
     private final MemoPostRepository memoPostRepository;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
 
     //일정 생성
+    @Transactional
     public Schedule create(Long userId, ScheduleCreateRequest request){
 
         User user = userRepository.findById(userId).orElseThrow();
@@ -39,69 +41,71 @@ public class ScheduleService {
                                 new IllegalStateException("개인 캘린더 없음")
                         );
 
-        return scheduleRepository.save(
-                new Schedule(
-                        calendar,
-                        user,
-                        request.getTitle(),
-                        request.getContent(),
-                        request.getStartAt(),
-                        request.getEndAt(),
-                        resolveMemoId(user, request.getMemoId()),
-                        resolvePriority(request.getPriority())
-                )
+        Schedule schedule = new Schedule(
+                calendar,
+                user,
+                request.getTitle(),
+                request.getContent(),
+                request.getStartAt(),
+                request.getEndAt(),
+                resolveMemoId(user, request.getMemoId()),
+                resolvePriority(request.getPriority())
         );
+        scheduleOccurrenceService.applyRule(schedule, request.getRecurrenceRule());
+
+        return scheduleRepository.save(schedule);
     }
 
-    //월별 일정 조회
+    //월별 일정 조회 (반복 일정은 시리즈 행 그대로)
     public List<Schedule> findByMonth(
             Long userId,
             LocalDateTime start,
             LocalDateTime end
     ) {
-        List<Schedule> rangedSchedules = scheduleRepository
-                .findByOwnerIdAndStartAtLessThanEqualAndEndAtGreaterThanEqual(userId, end, start);
-
-        List<Schedule> singleDaySchedules = scheduleRepository
-                .findByOwnerIdAndEndAtIsNullAndStartAtBetween(userId, start, end);
-
-        Map<Long, Schedule> uniqueSchedules = new LinkedHashMap<>();
-        rangedSchedules.forEach(schedule -> uniqueSchedules.put(schedule.getId(), schedule));
-        singleDaySchedules.forEach(schedule -> uniqueSchedules.put(schedule.getId(), schedule));
+        return scheduleRepository.findOverlappingByOwnerId(userId, start, end);
+    }
 
-        return new ArrayList<>(uniqueSchedules.values());
+    // 월별 일정 조회 (캘린더 화면용, 응답 DTO 직접 조회 + 반복 일정 회차 펼침)
+    @Transactional(readOnly = true)
+    public List<ScheduleResponse> findMonthView(
+            Long userId,
+            LocalDateTime start,
+            LocalDateTime end
+    ) {
+        return scheduleOccurrenceService.expand(
+                scheduleRepository.findMonthViewByOwnerId(userId, start, end), start, end);
     }
 
-    public List<Schedule> findByRange(
+    @Transactional(readOnly = true)
+    public List<ScheduleResponse> findByRange(
             Long userId,
             LocalDateTime start,
             LocalDateTime end
     ) {
-        return findByMonth(userId, start, end);
+        return scheduleOccurrenceService.expandEntities(findByMonth(userId, start, end), start, end);
     }
 
+    // 챗봇 기간 등록: 사용자/개인 캘린더는 한 번만 조회하고 insert 는 JDBC batch 로 묶는다.
     @Transactional
-    public Schedule createFromAssistant(
+    public List<Schedule> createAllFromAssistant(
             Long userId,
             String title,
             String content,
-            LocalDateTime startAt,
-            LocalDateTime endAt
+            List<ScheduleSlot> slots
     ) {
+        if (slots == null || slots.isEmpty()) {
+            throw new IllegalArgumentException("등록할 일정이 없습니다.");
+        }
+
         User user = userRepository.findById(userId).orElseThrow();
         Calendar calendar = calendarRepository
                 .findByOwnerIdAndType(userId, "PERSONAL")
                 .orElseThrow(() -> new IllegalStateException("개인 캘린더가 없습니다."));
-        return scheduleRepository.save(new Schedule(
-                calendar,
-                user,
-                title,
-                content,
-                startAt,
-                endAt,
-                null,
-                2
-        ));
+
+        List<Schedule> schedules = slots.stream()
+                .map(slot -> new Schedule(calendar, user, title, content, slot.startAt(), slot.endAt(), null, 2))
+                .toList();
+        return scheduleRepository.saveAll(schedules);
     }
 
     //일정 수정
@@ -112,6 +116,8 @@ public class ScheduleService {
             ScheduleUpdateRequest request
     ) {
         Schedule schedule = getOwnedSchedule(userId, scheduleId);
+        String previousRule = schedule.getRecurrenceRule();
+        LocalDateTime previousStart = schedule.getStartAt();
 
         schedule.update(
                 request.getTitle(),
@@ -121,10 +127,37 @@ public class ScheduleService {
                 resolveMemoId(userRepository.findById(userId).orElseThrow(), request.getMemoId()),
                 resolvePriority(request.getPriority())
         );
+        scheduleOccurrenceService.reapplyRule(
+                schedule,
+                request.getRecurrenceRule() == null ? previousRule : request.getRecurrenceRule(),
+                previousRule,
+                previousStart
+        );
 
         return schedule;
     }
 
+    // 반복 일정 한 회차 수정 (시리즈는 그대로)
+    @Transactional
+    public void updateOccurrence(Long userId, Long scheduleId, ScheduleOccurrenceRequest request) {
+        Schedule schedule = getOwnedSchedule(userId, scheduleId);
+        scheduleOccurrenceService.override(
+                schedule,
+                request.getOriginalStartAt(),
+                request.getTitle(),
+                request.getContent(),
+                request.getStartAt(),
+                request.getEndAt()
+        );
+    }
+
+    // 반복 일정 한 회차 취소
+    @Transactional
+    public void cancelOccurrence(Long userId, Long scheduleId, LocalDateTime originalStartAt) {
+        Schedule schedule = getOwnedSchedule(userId, scheduleId);
+        scheduleOccurrenceService.cancel(schedule, originalStartAt);
+    }
+
     // 메모 우선순위
     private Integer resolvePriority(Integer priority) {
         if (priority == null) {
@@ -153,8 +186,12 @@ public class ScheduleService {
     }
 
     //일정 삭제
+    @Transactional
     public void delete(Long userId, Long scheduleId) {
         Schedule schedule = getOwnedSchedule(userId, scheduleId);
+        if (schedule.isRecurring()) {
+            scheduleOccurrenceService.deleteAll(scheduleId);
+        }
         scheduleRepository.delete(schedule);
     }
 
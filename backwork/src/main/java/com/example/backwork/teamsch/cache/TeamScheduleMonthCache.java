@@ -0,0 +1,226 @@
+package com.example.backwork.teamsch.cache;
+
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/*
+    팀 캘린더 월 단위 조회 캐시
+    key   = (calendarId, YearMonth)
+    value = 직렬화된 ScheduleResponse 목록(JSON) → 적중 시 재직렬화 없이 그대로 응답
+
+    1차: 노드 로컬(Caffeine), 2차: Redis(옵션, app.cache.team-month.redis-enabled)
+    무효화: 일정 변경 트랜잭션 커밋 이후(ScheduleEventPublisher) + schedule:invalidations 수신(RedisSubscriber) 시 로컬 버킷 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamScheduleMonthCache {
+
+    public static final String CACHE_NAME = "teamScheduleMonth";
+
+    // 기간이 이보다 긴 일정은 월 단위로 나누지 않고 캘린더 전체를 무효화한다.
+    private static final int MAX_TRACKED_MONTHS = 24;
+
+    private static final String REDIS_KEY_PREFIX = "cache:team-month:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.team-month.max-size:2000}")
+    private long maxSize;
+
+    @Value("${app.cache.team-month.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${app.cache.team-month.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${app.cache.team-month.redis-ttl-seconds:300}")
+    private long redisTtlSeconds;
+
+    private Cache<MonthKey, String> localCache;
+    private Counter redisHitCounter;
+    private Counter redisMissCounter;
+    private Counter invalidationCounter;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions 등 actuator /metrics 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+
+        redisHitCounter = Counter.builder("team.schedule.month.cache.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        redisMissCounter = Counter.builder("team.schedule.month.cache.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        invalidationCounter = Counter.builder("team.schedule.month.cache.invalidations")
+                .register(meterRegistry);
+    }
+
+    public String getOrLoad(Long calendarId, YearMonth month, Supplier<List<ScheduleResponse>> loader) {
+        MonthKey key = new MonthKey(calendarId, month);
+
+        String cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String remote = readRemote(key);
+        if (remote != null) {
+            localCache.put(key, remote);
+            return remote;
+        }
+
+        String json = objectMapper.writeValueAsString(loader.get());
+        localCache.put(key, json);
+        writeRemote(key, json);
+        return json;
+    }
+
+    /**
+     * 로컬 + Redis 버킷을 제거한다. months 가 비어 있으면 해당 캘린더 전체를 제거한다.
+     */
+    public void evict(Long calendarId, Collection<YearMonth> months) {
+        evictLocal(calendarId, months);
+        evictRemote(calendarId, months);
+    }
+
+    /**
+     * 다른 노드의 변경 이벤트를 받았을 때 사용. Redis 버킷은 발행 노드가 이미 정리했다.
+     */
+    public void evictLocal(Long calendarId, Collection<YearMonth> months) {
+        if (calendarId == null) {
+            return;
+        }
+
+        invalidationCounter.increment();
+        if (months == null || months.isEmpty()) {
+            localCache.asMap().keySet().removeIf(key -> key.calendarId().equals(calendarId));
+            return;
+        }
+
+        for (YearMonth month : months) {
+            localCache.invalidate(new MonthKey(calendarId, month));
+        }
+    }
+
+    /**
+     * 일정 기간이 걸쳐 있는 월 목록. 너무 긴 기간이면 빈 집합(=캘린더 전체 무효화)을 돌려준다.
+     */
+    public static Set<YearMonth> monthsOf(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt == null) {
+            return Set.of();
+        }
+
+        LocalDateTime effectiveEnd = (endAt == null || endAt.isBefore(startAt)) ? startAt : endAt;
+        YearMonth from = YearMonth.from(startAt);
+        YearMonth to = YearMonth.from(effectiveEnd);
+
+        Set<YearMonth> months = new LinkedHashSet<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (months.size() >= MAX_TRACKED_MONTHS) {
+                return Set.of();
+            }
+            months.add(month);
+        }
+        return months;
+    }
+
+    private String readRemote(MonthKey key) {
+        if (!redisEnabled) {
+            return null;
+        }
+
+        try {
+            String value = redisTemplate.opsForValue().get(toRedisKey(key));
+            (value == null ? redisMissCounter : redisHitCounter).increment();
+            return value;
+        } catch (Exception e) {
+            log.debug("team month cache redis read skipped. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(MonthKey key, String json) {
+        if (!redisEnabled) {
+            return;
+        }
+
+        try {
+            Duration ttl = Duration.ofSeconds(redisTtlSeconds);
+            String indexKey = toRedisIndexKey(key.calendarId());
+            redisTemplate.opsForValue().set(toRedisKey(key), json, ttl);
+            redisTemplate.opsForSet().add(indexKey, key.month().toString());
+            redisTemplate.expire(indexKey, ttl);
+        } catch (Exception e) {
+            log.debug("team month cache redis write skipped. key={}", key, e);
+        }
+    }
+
+    private void evictRemote(Long calendarId, Collection<YearMonth> months) {
+        if (!redisEnabled || calendarId == null) {
+            return;
+        }
+
+        try {
+            String indexKey = toRedisIndexKey(calendarId);
+            Collection<String> targetMonths;
+            if (months == null || months.isEmpty()) {
+                Set<String> indexed = redisTemplate.opsForSet().members(indexKey);
+                targetMonths = indexed == null ? Set.of() : indexed;
+                redisTemplate.delete(indexKey);
+            } else {
+                targetMonths = months.stream().map(YearMonth::toString).toList();
+                redisTemplate.opsForSet().remove(indexKey, targetMonths.toArray());
+            }
+
+            List<String> keys = targetMonths.stream()
+                    .map(month -> REDIS_KEY_PREFIX + calendarId + ":" + month)
+                    .toList();
+            if (!keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        } catch (Exception e) {
+            log.debug("team month cache redis evict skipped. calendarId={}", calendarId, e);
+        }
+    }
+
+    private String toRedisKey(MonthKey key) {
+        return REDIS_KEY_PREFIX + key.calendarId() + ":" + key.month();
+    }
+
+    private String toRedisIndexKey(Long calendarId) {
+        return REDIS_KEY_PREFIX + calendarId + ":months";
+    }
+
+    private record MonthKey(Long calendarId, YearMonth month) {
+    }
+}
@@ -3,21 +3,30 @@ package com.example.backwork.teamsch.controller;
 import com.example.backwork.member.SessionUser;
 import com.example.backwork.schedule.dto.ScheduleResponse;
 import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.export.ScheduleExportFormat;
+import com.example.backwork.schedule.export.ScheduleExportService;
 import com.example.backwork.teamsch.dto.TeamScheduleConflictResponse;
 import com.example.backwork.teamsch.dto.TeamScheduleCreateRequest;
+import com.example.backwork.teamsch.dto.TeamScheduleOccurrenceRequest;
 import com.example.backwork.teamsch.dto.TeamScheduleUpdateRequest;
+import com.example.backwork.teamsch.service.TeamScheduleEventReplayService;
 import com.example.backwork.teamsch.service.TeamScheduleService;
 import com.example.backwork.teamsch.service.TeamScheduleVersionConflictException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/team-schedules")
@@ -25,6 +34,8 @@ import java.util.List;
 public class TeamScheduleController {
 
     private final TeamScheduleService teamScheduleService;
+    private final TeamScheduleEventReplayService teamScheduleEventReplayService;
+    private final ScheduleExportService scheduleExportService;
 
     @PostMapping
     public ResponseEntity<?> create(
@@ -49,15 +60,52 @@ public class TeamScheduleController {
         if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 
         YearMonth ym = YearMonth.of(year, month);
-        LocalDateTime start = ym.atDay(1).atStartOfDay();
-        LocalDateTime end = ym.atEndOfMonth().atTime(23, 59, 59);
 
-        List<ScheduleResponse> schedules = teamScheduleService.findByMonth(user.getId(), calendarId, start, end)
-                .stream()
-                .map(ScheduleResponse::new)
-                .toList();
+        // 캐시에 보관된 직렬화 결과를 그대로 내려준다.
+        String schedules = teamScheduleService.findMonthViewJson(user.getId(), calendarId, ym);
 
-        return ResponseEntity.ok(schedules);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(schedules);
+    }
+
+    // WebSocket 재연결 시 마지막 event-id 이후 변경분만 조회 (since 없으면 현재 기준점)
+    @GetMapping("/events")
+    public ResponseEntity<?> eventsSince(
+            @RequestParam Long calendarId,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        return ResponseEntity.ok(teamScheduleEventReplayService.replay(user.getId(), calendarId, since, limit));
+    }
+
+    // 기간 내보내기 (format=ndjson|ics)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam Long calendarId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        teamScheduleService.requireMember(user.getId(), calendarId);
+        ScheduleExportFormat exportFormat = ScheduleExportFormat.from(format);
+        StreamingResponseBody body = scheduleExportService.stream(calendarId, from, to, exportFormat);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(ScheduleExportService.fileName("team-" + calendarId, from, to, exportFormat))
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @PutMapping("/{scheduleId}")
@@ -78,6 +126,34 @@ public class TeamScheduleController {
         return ResponseEntity.ok(new ScheduleResponse(schedule));
     }
 
+    // 반복 일정 한 회차 수정/취소
+    @PutMapping("/{scheduleId}/occurrences")
+    public ResponseEntity<?> updateOccurrence(
+            @PathVariable Long scheduleId,
+            @RequestBody TeamScheduleOccurrenceRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        teamScheduleService.updateOccurrence(user.getId(), scheduleId, request);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{scheduleId}/occurrences")
+    public ResponseEntity<?> cancelOccurrence(
+            @PathVariable Long scheduleId,
+            @RequestParam Long calendarId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartAt,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        teamScheduleService.cancelOccurrence(user.getId(), calendarId, scheduleId, originalStartAt);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{scheduleId}")
     public ResponseEntity<?> delete(
             @PathVariable Long scheduleId,
@@ -13,4 +13,6 @@ public class TeamScheduleCreateRequest {
     private LocalDateTime endAt;
     private Long memoId;
     private Integer priority;
+    // RRULE 형식 (예: FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20261231)
+    private String recurrenceRule;
 }
\ No newline at end of file
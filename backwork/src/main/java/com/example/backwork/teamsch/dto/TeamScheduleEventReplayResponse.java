@@ -0,0 +1,21 @@
+package com.example.backwork.teamsch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import tools.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/*
+    재연결 catch-up 응답
+    reset = true 이면 events 는 비어 있고 클라이언트는 월 전체를 다시 조회한다.
+    lastEventId 는 다음 요청의 since 값 (hasMore 면 이어서 요청)
+ */
+@Getter
+@AllArgsConstructor
+public class TeamScheduleEventReplayResponse {
+    private boolean reset;
+    private String lastEventId;
+    private boolean hasMore;
+    private List<JsonNode> events;
+}
@@ -0,0 +1,15 @@
+package com.example.backwork.teamsch.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TeamScheduleOccurrenceRequest {
+    private Long calendarId;
+    private LocalDateTime originalStartAt;
+    private String title;
+    private String content;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+}
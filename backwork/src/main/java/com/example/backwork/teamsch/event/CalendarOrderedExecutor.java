@@ -0,0 +1,132 @@
+package com.example.backwork.teamsch.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Redis 로 받은 팀 이벤트를 STOMP 로 넘기는 제한된 실행기
+    - lane(단일 스레드 + 제한 큐) 을 calendarId 로 고정 → 같은 캘린더 이벤트는 수신 순서대로 전달
+    - 다른 캘린더는 lane 수만큼 병렬
+    - 큐가 가득 찼을 때 (app.schedule-events.dispatch.overflow)
+        discard-oldest : 가장 오래된 작업을 버리고 넣는다(기본). 클라이언트는 version 비교/재조회로 복구
+        caller-runs    : Redis listener 스레드에서 직접 실행 → listener 큐가 차면 그 단계에서 버린다
+    - 지표: team.schedule.events.dispatch.queue.depth, team.schedule.events.dispatch.dropped
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarOrderedExecutor {
+
+    public static final String OVERFLOW_DISCARD_OLDEST = "discard-oldest";
+    public static final String OVERFLOW_CALLER_RUNS = "caller-runs";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.schedule-events.dispatch.lanes:4}")
+    private int laneCount;
+
+    @Value("${app.schedule-events.dispatch.lane-queue-capacity:2000}")
+    private int laneQueueCapacity;
+
+    @Value("${app.schedule-events.dispatch.overflow:discard-oldest}")
+    private String overflowPolicy;
+
+    private ThreadPoolExecutor[] lanes;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    public void start() {
+        if (laneCount <= 0 || laneQueueCapacity <= 0) {
+            throw new IllegalArgumentException("app.schedule-events.dispatch.lanes / lane-queue-capacity 는 1 이상이어야 합니다.");
+        }
+
+        droppedCounter = Counter.builder("team.schedule.events.dispatch.dropped")
+                .tag("policy", overflowPolicy)
+                .register(meterRegistry);
+        RejectedExecutionHandler rejectedHandler = rejectedHandler(overflowPolicy);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("schedule-dispatch-");
+        threadFactory.setDaemon(true);
+
+        lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ThreadPoolExecutor(
+                    1, 1,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(laneQueueCapacity),
+                    threadFactory,
+                    rejectedHandler
+            );
+        }
+
+        Gauge.builder("team.schedule.events.dispatch.queue.depth", this, CalendarOrderedExecutor::queueDepth)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                lane.awaitTermination(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public void execute(Long calendarId, Runnable task) {
+        lanes[laneOf(calendarId)].execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.debug("schedule event dispatch failed. calendarId={}", calendarId, e);
+            }
+        });
+    }
+
+    public int queueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    private int laneOf(Long calendarId) {
+        return calendarId == null ? 0 : (int) Math.floorMod(calendarId, (long) laneCount);
+    }
+
+    private RejectedExecutionHandler rejectedHandler(String policy) {
+        if (OVERFLOW_CALLER_RUNS.equalsIgnoreCase(policy)) {
+            return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        if (!OVERFLOW_DISCARD_OLDEST.equalsIgnoreCase(policy)) {
+            throw new IllegalArgumentException("지원하지 않는 overflow 정책입니다: " + policy);
+        }
+
+        ThreadPoolExecutor.DiscardOldestPolicy discardOldest = new ThreadPoolExecutor.DiscardOldestPolicy();
+        return (task, executor) -> {
+            if (!executor.isShutdown()) {
+                droppedCounter.increment();
+            }
+            discardOldest.rejectedExecution(task, executor);
+        };
+    }
+}
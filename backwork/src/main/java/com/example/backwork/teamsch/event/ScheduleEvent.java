@@ -0,0 +1,23 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.schedule.dto.ScheduleResponse;
+
+import java.util.List;
+
+/**
+ * /topic/team/{calendarId} 로 전달되는 팀 일정 변경 이벤트.
+ * months 가 비어 있으면 캘린더 전체 월 캐시 무효화를 뜻한다.
+ * schedule 은 커밋된 일정 내용(DELETED 면 null = tombstone), version 은 그 시점의 버전.
+ * 클라이언트는 version 이 자신이 가진 것보다 낮지 않을 때만 로컬 상태에 반영한다.
+ */
+public record ScheduleEvent(
+        String action,
+        Long calendarId,
+        Long scheduleId,
+        Long actorUserId,
+        List<String> months,
+        String timestamp,
+        ScheduleResponse schedule,
+        Long version
+) {
+}
@@ -0,0 +1,180 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.redis.RedisPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+    커밋된 일정 이벤트를 요청 스레드 밖에서 묶어서 발행
+    - 제한된 큐(app.schedule-events.queue-capacity), 가득 차면 버리고 dropped 카운트
+      (다른 노드 월 캐시는 TTL 로 정리, 클라이언트는 다음 이벤트/재조회로 복구)
+    - 첫 이벤트 이후 batch-window-ms 동안 모인 이벤트를 캘린더별 Redis 메시지 1건으로 발행
+      (이벤트 전체는 캘린더 shard 채널, header 는 schedule:invalidations 채널)
+    - 발행 전에 같은 body 를 캘린더 재전송 로그(Redis Stream)에 남기고 그 entry id 를 header 에 싣는다.
+      기록에 실패하면 event-id 없이 발행 → 클라이언트는 event-id 없는 일정 메시지를 받으면 RESYNC
+    - 지표: team.schedule.events.queue.depth, .dropped, .published, .coalesced, .log-append-failed
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleEventBatchPublisher {
+
+    private final RedisPublisher redisPublisher;
+    private final ScheduleEventCodec scheduleEventCodec;
+    private final ScheduleEventChannels scheduleEventChannels;
+    private final ScheduleEventLog scheduleEventLog;
+    private final TeamTopicDispatcher teamTopicDispatcher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.schedule-events.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.schedule-events.batch-window-ms:50}")
+    private long batchWindowMillis;
+
+    @Value("${app.schedule-events.max-batch-size:500}")
+    private int maxBatchSize;
+
+    private BlockingQueue<ScheduleEvent> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private Counter droppedCounter;
+    private Counter publishedCounter;
+    private Counter coalescedCounter;
+    private Counter logAppendFailedCounter;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("team.schedule.events.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("team.schedule.events.dropped").register(meterRegistry);
+        publishedCounter = Counter.builder("team.schedule.events.published").register(meterRegistry);
+        coalescedCounter = Counter.builder("team.schedule.events.coalesced").register(meterRegistry);
+        logAppendFailedCounter = Counter.builder("team.schedule.events.log-append-failed").register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::runLoop, "schedule-event-publisher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 요청 스레드에서는 큐 적재만 한다. 큐가 가득 차면 false.
+     */
+    public boolean offer(ScheduleEvent event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.warn("schedule event queue full. dropped calendarId={} scheduleId={}", event.calendarId(), event.scheduleId());
+        return false;
+    }
+
+    private void runLoop() {
+        List<ScheduleEvent> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                ScheduleEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 같은 창 안에서 들어온 이벤트를 모은다.
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ScheduleEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 중: 남은 이벤트를 비우고 나간다.
+                queue.drainTo(batch, maxBatchSize);
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ScheduleEvent> batch) {
+        Map<Long, List<ScheduleEvent>> byCalendar = new LinkedHashMap<>();
+        for (ScheduleEvent event : batch) {
+            byCalendar.computeIfAbsent(event.calendarId(), id -> new ArrayList<>()).add(event);
+        }
+
+        for (Map.Entry<Long, List<ScheduleEvent>> entry : byCalendar.entrySet()) {
+            List<ScheduleEvent> events = entry.getValue();
+            String body = scheduleEventCodec.writeBatchBody(events);
+            String eventId = appendToLog(entry.getKey(), body);
+            String message = scheduleEventCodec.encodeBatch(entry.getKey(), events, body, eventId);
+            try {
+                // relay 모드에서는 브로커가 fan-out 하므로 shard 채널로 보낼 필요가 없다.
+                if (!teamTopicDispatcher.isRelay()) {
+                    redisPublisher.publishRaw(scheduleEventChannels.channelOf(entry.getKey()), message);
+                }
+                redisPublisher.publishRaw(ScheduleEventChannels.INVALIDATION_CHANNEL, ScheduleEventCodec.headerOf(message));
+                publishedCounter.increment();
+                coalescedCounter.increment(events.size() - 1);
+            } catch (Exception e) {
+                // pub/sub 실패는 비즈니스 처리에 영향주지 않음
+                log.debug("schedule event batch publish skipped. calendarId={} size={}", entry.getKey(), events.size(), e);
+            }
+
+            try {
+                teamTopicDispatcher.onPublished(message);
+            } catch (Exception e) {
+                log.debug("schedule event relay skipped. calendarId={}", entry.getKey(), e);
+            }
+        }
+    }
+
+    // 로그 기록 실패 시에도 실시간 발행은 계속한다.
+    // 이 변경은 replay 로 받을 수 없으므로 event-id 를 비워 보내고, 받은 클라이언트가 월 전체를 다시 조회하게 한다.
+    private String appendToLog(Long calendarId, String body) {
+        try {
+            return scheduleEventLog.append(calendarId, body);
+        } catch (Exception e) {
+            logAppendFailedCounter.increment();
+            log.warn("schedule event log append failed. publishing without event-id. calendarId={}", calendarId, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backwork.teamsch.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+    schedule:updates 채널 구성
+    - schedule:updates:{calendarId % N} : 이벤트 전체(header + body). 해당 shard 에 STOMP 구독자가 있는 노드만 구독
+    - schedule:invalidations            : header 만(body 없음). 모든 노드가 구독해 월 캐시만 정리
+    relay 모드에서는 외부 브로커가 fan-out 하므로 shard 채널은 쓰지 않는다.
+ */
+@Component
+public class ScheduleEventChannels {
+
+    public static final String SHARD_CHANNEL_PREFIX = "schedule:updates:";
+    public static final String INVALIDATION_CHANNEL = "schedule:invalidations";
+
+    private final int shardCount;
+
+    public ScheduleEventChannels(@Value("${app.schedule-events.channel-shards:64}") int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("app.schedule-events.channel-shards 는 1 이상이어야 합니다.");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Long calendarId) {
+        return (int) Math.floorMod(calendarId, (long) shardCount);
+    }
+
+    public String channelOf(Long calendarId) {
+        return channelOfShard(shardOf(calendarId));
+    }
+
+    public String channelOfShard(int shard) {
+        return SHARD_CHANNEL_PREFIX + shard;
+    }
+}
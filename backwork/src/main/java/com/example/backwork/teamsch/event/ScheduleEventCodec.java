@@ -0,0 +1,146 @@
+package com.example.backwork.teamsch.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+    schedule:updates:{shard} 채널 메시지 형식
+      SE1|{calendarId}|{kind}|{yyyy-MM,yyyy-MM,...}|{publishedAtMillis}|{eventId}\n{JSON body}
+    schedule:invalidations 채널은 같은 header 만 보낸다(body 없음).
+    kind = S(일정 변경, 월 캐시 무효화) / L(락 상태, 캐시 영향 없음)
+    publishedAtMillis = 인코딩(발행) 시각, 수신 노드의 전달 지연 측정용 (없으면 측정 생략)
+    eventId = 재전송 로그(ScheduleEventLog) entry id, 일정 변경 배치만 (없으면 빈 값)
+    일정 변경 배치는 body 가 이벤트 JSON 배열, header months 는 배치 전체의 합집합(하나라도 전체면 전체)
+
+    발행 시 JSON 직렬화 1회. 수신 노드는 첫 줄(header)만 읽어 라우팅/캐시 정리를 하고
+    body 바이트는 파싱 없이 그대로 STOMP 로 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleEventCodec {
+
+    private static final String VERSION = "SE1";
+    private static final char SEPARATOR = '|';
+    private static final byte HEADER_END = '\n';
+
+    public static final char KIND_SCHEDULE = 'S';
+    public static final char KIND_LOCK = 'L';
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(ScheduleEvent event) {
+        return header(event.calendarId(), KIND_SCHEDULE, event.months(), null) + objectMapper.writeValueAsString(event);
+    }
+
+    public String encodeBatch(Long calendarId, List<ScheduleEvent> events) {
+        return encodeBatch(calendarId, events, writeBatchBody(events), null);
+    }
+
+    public String writeBatchBody(List<ScheduleEvent> events) {
+        return objectMapper.writeValueAsString(events);
+    }
+
+    /**
+     * 이미 직렬화된 batch body(재전송 로그에 기록한 것과 같은 값)로 메시지를 만든다.
+     */
+    public String encodeBatch(Long calendarId, List<ScheduleEvent> events, String body, String eventId) {
+        Set<String> months = new LinkedHashSet<>();
+        for (ScheduleEvent event : events) {
+            if (event.months() == null || event.months().isEmpty()) {
+                months.clear();
+                break;
+            }
+            months.addAll(event.months());
+        }
+        return header(calendarId, KIND_SCHEDULE, new ArrayList<>(months), eventId) + body;
+    }
+
+    public String encodeLock(Long calendarId, Object payload) {
+        return header(calendarId, KIND_LOCK, List.of(), null) + objectMapper.writeValueAsString(payload);
+    }
+
+    /**
+     * 인코딩된 메시지에서 header 줄만 잘라낸다 (캐시 무효화 채널용).
+     */
+    public static String headerOf(String message) {
+        int headerEnd = message.indexOf((char) HEADER_END);
+        if (headerEnd < 0) {
+            throw new IllegalArgumentException("schedule event header 가 없습니다.");
+        }
+        return message.substring(0, headerEnd + 1);
+    }
+
+    /**
+     * 형식이 맞지 않으면 null.
+     */
+    public static Envelope decode(byte[] raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        int headerEnd = -1;
+        for (int i = 0; i < raw.length; i++) {
+            if (raw[i] == HEADER_END) {
+                headerEnd = i;
+                break;
+            }
+        }
+        if (headerEnd < 0) {
+            return null;
+        }
+
+        String header = new String(raw, 0, headerEnd, StandardCharsets.US_ASCII);
+        String[] parts = header.split("\\|", -1);
+        if (parts.length < 4 || parts.length > 6 || !VERSION.equals(parts[0]) || parts[2].length() != 1) {
+            return null;
+        }
+
+        try {
+            Long calendarId = Long.valueOf(parts[1]);
+            List<YearMonth> months = new ArrayList<>();
+            if (!parts[3].isEmpty()) {
+                for (String month : parts[3].split(",")) {
+                    months.add(YearMonth.parse(month));
+                }
+            }
+            Long publishedAtMillis = (parts.length >= 5 && !parts[4].isEmpty()) ? Long.valueOf(parts[4]) : null;
+            String eventId = (parts.length == 6 && !parts[5].isEmpty()) ? parts[5] : null;
+            byte[] body = Arrays.copyOfRange(raw, headerEnd + 1, raw.length);
+            return new Envelope(calendarId, parts[2].charAt(0), months, publishedAtMillis, eventId, body);
+        } catch (RuntimeException ignored) {
+            return null;
+        }
+    }
+
+    private String header(Long calendarId, char kind, List<String> months, String eventId) {
+        StringBuilder header = new StringBuilder(64)
+                .append(VERSION).append(SEPARATOR)
+                .append(calendarId).append(SEPARATOR)
+                .append(kind).append(SEPARATOR);
+        if (months != null) {
+            header.append(String.join(",", months));
+        }
+        return header.append(SEPARATOR)
+                .append(System.currentTimeMillis())
+                .append(SEPARATOR)
+                .append(eventId == null ? "" : eventId)
+                .append((char) HEADER_END)
+                .toString();
+    }
+
+    public record Envelope(Long calendarId, char kind, List<YearMonth> months, Long publishedAtMillis, String eventId, byte[] body) {
+
+        public boolean isScheduleChange() {
+            return kind == KIND_SCHEDULE;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.backwork.teamsch.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+    팀 일정 이벤트 재전송 로그 (캘린더별 Redis Stream)
+    key   = schedule:stream:{calendarId}
+    entry = 배치 발행 1건의 JSON body(이벤트 배열), entry id 가 곧 event-id (STOMP MESSAGE 헤더로 전달)
+
+    - XADD MAXLEN ~ max-length 로 길이 제한, 마지막 기록 이후 retention-seconds 가 지나면 키 만료
+    - 클라이언트는 연결 시 latestId 를 기준점으로 받고, 재연결하면 마지막 event-id 이후 entry 만 받아 간다.
+      (로그가 아직 없던 캘린더의 기준점은 0-0)
+      로그가 없거나 그 id 가 이미 잘려 나갔으면 reset → 클라이언트가 월 전체를 다시 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleEventLog {
+
+    public static final String INITIAL_ID = "0-0";
+
+    private static final String KEY_PREFIX = "schedule:stream:";
+    private static final String FIELD_BODY = "e";
+    private static final byte[] RAW_FIELD_BODY = FIELD_BODY.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.schedule-events.log.max-length:1000}")
+    private long maxLength;
+
+    @Value("${app.schedule-events.log.retention-seconds:86400}")
+    private long retentionSeconds;
+
+    /**
+     * body 를 캘린더 로그에 추가하고 entry id 를 돌려준다.
+     */
+    public String append(Long calendarId, String body) {
+        byte[] rawKey = keyOf(calendarId).getBytes(StandardCharsets.UTF_8);
+        MapRecord<byte[], byte[], byte[]> record = StreamRecords.newRecord()
+                .in(rawKey)
+                .ofMap(Map.of(RAW_FIELD_BODY, body.getBytes(StandardCharsets.UTF_8)));
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+
+        RecordId recordId = redisTemplate.execute((RedisCallback<RecordId>) connection -> {
+            RecordId added = connection.streamCommands().xAdd(record, options);
+            connection.keyCommands().expire(rawKey, retentionSeconds);
+            return added;
+        });
+        return recordId == null ? null : recordId.getValue();
+    }
+
+    /**
+     * 가장 최근 entry id. 로그가 없으면 INITIAL_ID.
+     */
+    public String latestId(Long calendarId) {
+        List<MapRecord<String, Object, Object>> latest = redisTemplate.opsForStream()
+                .reverseRange(keyOf(calendarId), Range.unbounded(), Limit.limit().count(1));
+        if (latest == null || latest.isEmpty()) {
+            return INITIAL_ID;
+        }
+        return latest.get(0).getId().getValue();
+    }
+
+    /**
+     * sinceId 이후(미포함) entry 를 최대 limit 건 읽는다.
+     */
+    public Replay readSince(Long calendarId, String sinceId, int limit) {
+        RecordId since = parseId(sinceId);
+        String key = keyOf(calendarId);
+
+        List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+                .range(key, Range.unbounded(), Limit.limit().count(1));
+        boolean fromInitial = INITIAL_ID.equals(since.getValue());
+        if (oldest == null || oldest.isEmpty()) {
+            // 기준점 이후 기록이 없었다면 빈 결과, 있었던 로그가 만료/유실됐다면 reset
+            return fromInitial ? new Replay(false, INITIAL_ID, false, List.of()) : Replay.resetRequired();
+        }
+        if (fromInitial) {
+            // 기준점 이후 생성된 로그라도 max-length 에 닿았으면 앞부분이 잘렸을 수 있다.
+            Long size = redisTemplate.opsForStream().size(key);
+            if (size != null && size >= maxLength) {
+                return Replay.resetRequired();
+            }
+        } else if (compare(oldest.get(0).getId(), since) > 0) {
+            // 요청 id 이후 구간의 앞부분이 잘려 나갔을 수 있다.
+            return Replay.resetRequired();
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(key, Range.rightUnbounded(Range.Bound.inclusive(since.getValue())), Limit.limit().count(limit + 1));
+
+        List<String> bodies = new ArrayList<>();
+        String lastEventId = since.getValue();
+        boolean hasMore = false;
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                if (record.getId().equals(since)) {
+                    continue;
+                }
+                if (bodies.size() == limit) {
+                    hasMore = true;
+                    break;
+                }
+                Object body = record.getValue().get(FIELD_BODY);
+                if (body != null) {
+                    bodies.add(body.toString());
+                }
+                lastEventId = record.getId().getValue();
+            }
+        }
+        return new Replay(false, lastEventId, hasMore, bodies);
+    }
+
+    private RecordId parseId(String id) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("since 는 필수입니다.");
+        }
+        try {
+            RecordId recordId = RecordId.of(id);
+            if (recordId.shouldBeAutoGenerated()) {
+                // "*" 는 XADD 전용
+                throw new IllegalArgumentException("올바르지 않은 event id 입니다.");
+            }
+            return recordId;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("올바르지 않은 event id 입니다.");
+        }
+    }
+
+    private int compare(RecordId left, RecordId right) {
+        int byTimestamp = Long.compare(left.getTimestamp(), right.getTimestamp());
+        return byTimestamp != 0 ? byTimestamp : Long.compare(left.getSequence(), right.getSequence());
+    }
+
+    private String keyOf(Long calendarId) {
+        return KEY_PREFIX + calendarId;
+    }
+
+    /**
+     * reset 이면 bodies 는 비어 있고 클라이언트는 전체 재조회해야 한다.
+     */
+    public record Replay(boolean reset, String lastEventId, boolean hasMore, List<String> bodies) {
+
+        static Replay resetRequired() {
+            return new Replay(true, null, false, List.of());
+        }
+    }
+}
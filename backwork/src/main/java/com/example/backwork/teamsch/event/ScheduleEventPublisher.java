@@ -0,0 +1,75 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.redis.RedisPublisher;
+import com.example.backwork.teamsch.cache.TeamScheduleMonthCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/*
+    schedule:updates:{shard} 발행 (일정 변경 / 락 상태)
+    - 일정 변경: 트랜잭션 커밋 이후에만 월 캐시 정리 + 배치 발행 큐 적재 (롤백되면 아무것도 나가지 않음)
+    - 락 상태/문서 색인 상태 : 트랜잭션과 무관하므로 바로 발행 (캐시 영향이 없어 invalidation 채널로는 보내지 않음)
+    pub/sub 실패는 비즈니스 처리에 영향주지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleEventPublisher {
+
+    private final RedisPublisher redisPublisher;
+    private final ScheduleEventCodec scheduleEventCodec;
+    private final ScheduleEventChannels scheduleEventChannels;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TeamScheduleMonthCache teamScheduleMonthCache;
+    private final ScheduleEventBatchPublisher scheduleEventBatchPublisher;
+    private final TeamTopicDispatcher teamTopicDispatcher;
+
+    public void publish(ScheduleEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    // 트랜잭션 밖에서 호출되면 즉시 실행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommitted(ScheduleEvent event) {
+        // 커밋 전에 지우면 그 사이 조회가 이전 데이터를 다시 캐시할 수 있다.
+        teamScheduleMonthCache.evict(event.calendarId(), toYearMonths(event.months()));
+        scheduleEventBatchPublisher.offer(event);
+    }
+
+    public void publishLock(Long calendarId, Object payload) {
+        publishDirect(calendarId, payload, "lock");
+    }
+
+    // 문서 색인 상태 등 일정 캐시와 무관한 팀 토픽 알림 (락 상태와 같은 경로)
+    public void publishStatus(Long calendarId, Object payload) {
+        publishDirect(calendarId, payload, "status");
+    }
+
+    private void publishDirect(Long calendarId, Object payload, String kind) {
+        try {
+            String message = scheduleEventCodec.encodeLock(calendarId, payload);
+            try {
+                if (!teamTopicDispatcher.isRelay()) {
+                    redisPublisher.publishRaw(scheduleEventChannels.channelOf(calendarId), message);
+                }
+            } finally {
+                teamTopicDispatcher.onPublished(message);
+            }
+        } catch (Exception e) {
+            log.debug("{} event publish skipped. calendarId={}", kind, calendarId, e);
+        }
+    }
+
+    private List<YearMonth> toYearMonths(List<String> months) {
+        if (months == null) {
+            return List.of();
+        }
+        return months.stream().map(YearMonth::parse).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.backwork.teamsch.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/*
+    /topic/team/{calendarId} 전달 지점 (broker 모드에 따라 누가 보낼지 결정)
+    - simple : 각 노드가 Redis 브리지로 받은 메시지를 자기 구독자에게 전달
+    - relay  : 외부 브로커가 모든 노드에 fan-out 하므로 발행 노드만 1회 전달 (중복 방지)
+    team.schedule.events.delivery.lag : header 발행 시각 → 이 노드에서 브로커로 넘긴 시각 (노드 간 시계 차이 포함)
+ */
+@Component
+public class TeamTopicDispatcher {
+
+    public static final String EVENT_ID_HEADER = "event-id";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final boolean relay;
+    private final Timer deliveryLagTimer;
+
+    public TeamTopicDispatcher(
+            SimpMessagingTemplate messagingTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.broker.mode:simple}") String brokerMode
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.relay = "relay".equalsIgnoreCase(brokerMode);
+        this.deliveryLagTimer = Timer.builder("team.schedule.events.delivery.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public boolean isRelay() {
+        return relay;
+    }
+
+    // Redis schedule:updates:{shard} 수신 시 (CalendarOrderedExecutor lane 에서 호출)
+    public void onBridgeMessage(ScheduleEventCodec.Envelope envelope) {
+        if (relay) {
+            return;
+        }
+        send(envelope.calendarId(), envelope.body(), envelope.eventId());
+        recordLag(envelope);
+    }
+
+    // 이 노드가 이벤트를 발행한 직후
+    public void onPublished(String encodedMessage) {
+        if (!relay) {
+            return;
+        }
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(encodedMessage.getBytes(StandardCharsets.UTF_8));
+        if (envelope != null) {
+            send(envelope.calendarId(), envelope.body(), envelope.eventId());
+            recordLag(envelope);
+        }
+    }
+
+    // JSON body 바이트를 재직렬화 없이 그대로 전달
+    public void send(Long calendarId, byte[] jsonBody) {
+        send(calendarId, jsonBody, null);
+    }
+
+    // eventId 가 있으면 STOMP MESSAGE 의 event-id 헤더로 내려 재연결 시 since 값으로 쓰게 한다.
+    public void send(Long calendarId, byte[] jsonBody, String eventId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (eventId != null) {
+            accessor.setNativeHeader(EVENT_ID_HEADER, eventId);
+        }
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(
+                "/topic/team/" + calendarId,
+                MessageBuilder.createMessage(jsonBody, accessor.getMessageHeaders())
+        );
+    }
+
+    private void recordLag(ScheduleEventCodec.Envelope envelope) {
+        if (envelope.publishedAtMillis() == null) {
+            return;
+        }
+        long lagMillis = System.currentTimeMillis() - envelope.publishedAtMillis();
+        deliveryLagTimer.record(Duration.ofMillis(Math.max(0, lagMillis)));
+    }
+}
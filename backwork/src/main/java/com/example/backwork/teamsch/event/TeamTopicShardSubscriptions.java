@@ -0,0 +1,179 @@
+package com.example.backwork.teamsch.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    이 노드에 /topic/team/{calendarId} 구독자가 있는 shard 채널만 Redis 에서 구독
+    - STOMP SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 이벤트로 shard 별 구독 수를 세고
+      0 → 1 이 되면 schedule:updates:{shard} 구독, 1 → 0 이 되면 해제
+    - relay 모드에서는 외부 브로커가 전달하므로 아무것도 하지 않는다.
+    - addMessageListener/removeMessageListener 는 Redis 왕복이라 락 안에서 부르지 않는다.
+      락 안에서는 0 → 1 / 1 → 0 전환만 계산해 단일 스레드 실행기에 넣고 (넣는 순서 = 전환 순서)
+      실제 구독/해제는 실행기 스레드가 순서대로 처리 → 느린 Redis 가 inbound 스레드를 줄 세우지 않는다.
+    RedisPubSubConfig 에서 등록 (pub/sub 비활성 시 빈 없음)
+ */
+@Slf4j
+public class TeamTopicShardSubscriptions {
+
+    private static final String TEAM_TOPIC_PREFIX = "/topic/team/";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MessageListener shardListener;
+    private final TaskExecutor subscriptionExecutor;
+    private final ScheduleEventChannels scheduleEventChannels;
+    private final TeamTopicDispatcher teamTopicDispatcher;
+
+    // stompSessionId -> (subscriptionId -> shard)
+    private final Map<String, Map<String, Integer>> sessionSubscriptions = new HashMap<>();
+    // shard -> 이 노드의 구독 수
+    private final Map<Integer, Integer> shardRefCounts = new HashMap<>();
+
+    public TeamTopicShardSubscriptions(
+            RedisMessageListenerContainer listenerContainer,
+            MessageListener shardListener,
+            TaskExecutor subscriptionExecutor,
+            ScheduleEventChannels scheduleEventChannels,
+            TeamTopicDispatcher teamTopicDispatcher,
+            MeterRegistry meterRegistry
+    ) {
+        this.listenerContainer = listenerContainer;
+        this.shardListener = shardListener;
+        this.subscriptionExecutor = subscriptionExecutor;
+        this.scheduleEventChannels = scheduleEventChannels;
+        this.teamTopicDispatcher = teamTopicDispatcher;
+
+        Gauge.builder("team.schedule.events.subscribed-shards", this, TeamTopicShardSubscriptions::subscribedShardCount)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        if (teamTopicDispatcher.isRelay()) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        Integer shard = shardOf(accessor.getDestination());
+        if (sessionId == null || subscriptionId == null || shard == null) {
+            return;
+        }
+
+        synchronized (this) {
+            Integer previous = sessionSubscriptions
+                    .computeIfAbsent(sessionId, id -> new HashMap<>())
+                    .put(subscriptionId, shard);
+            retain(shard);
+            if (previous != null) {
+                release(previous);
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        synchronized (this) {
+            Map<String, Integer> subscriptions = sessionSubscriptions.get(sessionId);
+            if (subscriptions == null) {
+                return;
+            }
+            Integer shard = subscriptions.remove(subscriptionId);
+            if (subscriptions.isEmpty()) {
+                sessionSubscriptions.remove(sessionId);
+            }
+            if (shard != null) {
+                release(shard);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        synchronized (this) {
+            Map<String, Integer> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+            if (subscriptions == null) {
+                return;
+            }
+            for (Integer shard : subscriptions.values()) {
+                release(shard);
+            }
+        }
+    }
+
+    public synchronized int subscribedShardCount() {
+        return shardRefCounts.size();
+    }
+
+    // 호출 측이 this 를 잡고 있다: 전환만 판단하고 Redis 호출은 실행기로
+    private void retain(int shard) {
+        int count = shardRefCounts.merge(shard, 1, Integer::sum);
+        if (count == 1) {
+            subscriptionExecutor.execute(() -> subscribe(shard));
+        }
+    }
+
+    private void release(int shard) {
+        if (!shardRefCounts.containsKey(shard)) {
+            return;
+        }
+        Integer count = shardRefCounts.computeIfPresent(shard, (key, value) -> value > 1 ? value - 1 : null);
+        if (count == null) {
+            subscriptionExecutor.execute(() -> unsubscribe(shard));
+        }
+    }
+
+    private void subscribe(int shard) {
+        try {
+            listenerContainer.addMessageListener(shardListener, topicOf(shard));
+            log.debug("subscribed schedule shard {}", shard);
+        } catch (Exception e) {
+            log.warn("schedule shard subscribe failed. shard={}", shard, e);
+        }
+    }
+
+    private void unsubscribe(int shard) {
+        try {
+            listenerContainer.removeMessageListener(shardListener, topicOf(shard));
+            log.debug("unsubscribed schedule shard {}", shard);
+        } catch (Exception e) {
+            log.warn("schedule shard unsubscribe failed. shard={}", shard, e);
+        }
+    }
+
+    private ChannelTopic topicOf(int shard) {
+        return new ChannelTopic(scheduleEventChannels.channelOfShard(shard));
+    }
+
+    private Integer shardOf(String destination) {
+        if (destination == null || !destination.startsWith(TEAM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return scheduleEventChannels.shardOf(Long.valueOf(destination.substring(TEAM_TOPIC_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
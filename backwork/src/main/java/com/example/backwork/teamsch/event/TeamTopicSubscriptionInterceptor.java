@@ -0,0 +1,94 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.member.SessionUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+    /topic/team/{calendarId} SUBSCRIBE 권한 확인 (clientInboundChannel 인터셉터)
+    - /ws, /ws-native 는 permitAll 이라 handshake 만으로는 누구나 붙을 수 있다.
+    - 팀 토픽에는 일정 본문/락 이벤트/문서 상태가 실리므로 구독 시점에 팀 멤버인지 확인한다.
+      handshake 때 복사된 LOGIN_USER 로 TeamCalendarAccessService.requireMember 를 통과해야 한다.
+    - 와일드카드 구독(/topic/**, /topic/team/* 등)은 simple broker 가 패턴으로 매칭하므로 거절한다.
+    거절 시 예외를 던지면 StompSubProtocolHandler 가 ERROR 프레임을 보내고 구독은 등록되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamTopicSubscriptionInterceptor implements ChannelInterceptor {
+
+    private static final String TEAM_TOPIC_PREFIX = "/topic/team/";
+
+    private final TeamCalendarAccessService accessService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.SUBSCRIBE) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return message;
+        }
+        if (isPattern(destination)) {
+            throw reject(message, destination, "와일드카드 구독은 허용되지 않습니다.");
+        }
+        if (!destination.startsWith(TEAM_TOPIC_PREFIX)) {
+            return message;
+        }
+
+        Long calendarId = parseCalendarId(destination);
+        if (calendarId == null) {
+            throw reject(message, destination, "잘못된 팀 토픽입니다.");
+        }
+
+        SessionUser loginUser = getLoginUser(accessor);
+        if (loginUser == null) {
+            throw reject(message, destination, "로그인이 필요합니다.");
+        }
+
+        try {
+            accessService.requireMember(calendarId, loginUser.getId());
+        } catch (SecurityException | IllegalArgumentException e) {
+            throw reject(message, destination, e.getMessage());
+        }
+        return message;
+    }
+
+    private boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0
+                || destination.indexOf('?') >= 0
+                || destination.indexOf('{') >= 0;
+    }
+
+    private Long parseCalendarId(String destination) {
+        try {
+            return Long.valueOf(destination.substring(TEAM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private MessageDeliveryException reject(Message<?> message, String destination, String reason) {
+        log.debug("team topic subscribe rejected: destination={}, reason={}", destination, reason);
+        return new MessageDeliveryException(message, reason);
+    }
+
+    private SessionUser getLoginUser(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) return null;
+        return (SessionUser) attributes.get("LOGIN_USER");
+    }
+}
@@ -2,6 +2,8 @@ package com.example.backwork.teamsch.lock;
 
 import com.example.backwork.calendar.share.TeamCalendarAccessService;
 import com.example.backwork.member.SessionUser;
+import com.example.backwork.teamsch.lock.dto.LockBatchRequest;
+import com.example.backwork.teamsch.lock.dto.LockBatchResponse;
 import com.example.backwork.teamsch.lock.dto.LockCommandRequest;
 import com.example.backwork.teamsch.lock.dto.LockCommandResponse;
 import com.example.backwork.teamsch.lock.service.LockOwner;
@@ -17,6 +19,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/team-calendars/{calendarId}/locks")
@@ -25,6 +30,10 @@ public class TeamCalendarLockController {
 
     private final TeamCalendarLockService lockService;
     private final TeamCalendarAccessService accessService;
+
+    // 한 번에 잡을 수 있는 최대 락 개수(여러 일정 드래그 편집용)
+    private static final int MAX_BATCH_TARGETS = 50;
+
     @PostMapping("/acquire")
     public ResponseEntity<LockCommandResponse> acquire(
             @PathVariable Long calendarId,
@@ -112,6 +121,88 @@ public class TeamCalendarLockController {
         ));
     }
 
+    @PostMapping("/acquire-batch")
+    public ResponseEntity<LockBatchResponse> acquireBatch(
+            @PathVariable Long calendarId,
+            @RequestBody LockBatchRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        accessService.requireWritable(calendarId, user.getId());
+
+        String sessionId = httpRequest.getSession(false).getId();
+        List<String> lockKeys = toLockKeys(calendarId, request);
+
+        List<LockResult> results = lockService.acquireAll(lockKeys, user.getId(), sessionId, TeamCalendarLockService.LOCK_TTL);
+        boolean acquired = results.stream().allMatch(LockResult::isSuccess);
+        if (acquired) {
+            return ResponseEntity.ok(toBatchResponse(
+                    true,
+                    lockKeys,
+                    results,
+                    user.getId(),
+                    sessionId,
+                    "락을 모두 획득했습니다. heartbeat는 refresh-batch로 한 번에 호출하세요."
+            ));
+        }
+
+        return ResponseEntity.status(HttpStatus.LOCKED)
+                .body(toBatchResponse(false, lockKeys, results, user.getId(), sessionId, "다른 사용자가 편집 중인 일정이 있습니다."));
+    }
+
+    @PostMapping("/refresh-batch")
+    public ResponseEntity<LockBatchResponse> refreshBatch(
+            @PathVariable Long calendarId,
+            @RequestBody LockBatchRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        accessService.requireWritable(calendarId, user.getId());
+
+        String sessionId = httpRequest.getSession(false).getId();
+        List<String> lockKeys = toLockKeys(calendarId, request);
+
+        List<LockResult> results = lockService.refreshAll(lockKeys, user.getId(), sessionId, TeamCalendarLockService.LOCK_TTL);
+        boolean refreshed = results.stream().allMatch(LockResult::isSuccess);
+        if (refreshed) {
+            return ResponseEntity.ok(toBatchResponse(true, lockKeys, results, user.getId(), sessionId, "락 만료 시간을 연장했습니다."));
+        }
+
+        // 일부 키만 실패해도 나머지는 연장된 상태, 키별 결과로 판단
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(toBatchResponse(false, lockKeys, results, user.getId(), sessionId, "일부 락 연장에 실패했습니다."));
+    }
+
+    @PostMapping("/release-batch")
+    public ResponseEntity<LockBatchResponse> releaseBatch(
+            @PathVariable Long calendarId,
+            @RequestBody LockBatchRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SessionUser user = getLoginUser(httpRequest);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        accessService.requireWritable(calendarId, user.getId());
+
+        String sessionId = httpRequest.getSession(false).getId();
+        List<String> lockKeys = toLockKeys(calendarId, request);
+
+        lockService.releaseAll(lockKeys, user.getId(), sessionId);
+
+        List<LockCommandResponse> released = new ArrayList<>(lockKeys.size());
+        for (String lockKey : lockKeys) {
+            released.add(new LockCommandResponse(true, true, lockKey, null, null, 0L, "락을 해제했습니다."));
+        }
+        return ResponseEntity.ok(new LockBatchResponse(true, released, "락을 해제했습니다."));
+    }
+
     @GetMapping
     public ResponseEntity<LockCommandResponse> status(
             @PathVariable Long calendarId,
@@ -132,8 +223,9 @@ public class TeamCalendarLockController {
                 targetId
         );
 
-        LockOwner owner = lockService.getOwner(lockKey).orElse(null);
-        Long ttlSeconds = lockService.getTtlSeconds(lockKey);
+        LockResult current = lockService.inspect(lockKey);
+        LockOwner owner = current.getOwner();
+        Long ttlSeconds = current.getTtlSeconds();
 
         boolean lockedByMe = owner != null
                 && owner.getUserId().equals(user.getId())
@@ -165,18 +257,10 @@ public class TeamCalendarLockController {
         String sessionId = httpRequest.getSession(false).getId();
         String lockKey = TeamCalendarLockKeyFactory.create(calendarId, request.getTargetType(), request.getTargetId());
 
-        try {
-            lockService.requireLockOwner(lockKey, user.getId(), sessionId);
-            return ResponseEntity.ok(new LockCommandResponse(
-                    true,
-                    true,
-                    lockKey,
-                    user.getId(),
-                    sessionId,
-                    lockService.getTtlSeconds(lockKey),
-                    "수정 권한이 확인되었습니다."
-            ));
-        } catch (IllegalStateException e) {
+        // owner + ttl 을 한 번에 조회한 결과로 판정
+        LockResult current = lockService.inspect(lockKey);
+        LockOwner owner = current.getOwner();
+        if (owner == null) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(new LockCommandResponse(
                             false,
@@ -185,9 +269,13 @@ public class TeamCalendarLockController {
                             null,
                             null,
                             0L,
-                            e.getMessage()
+                            "락이 없어 수정할 수 없습니다."
                     ));
-        } catch (SecurityException e) {
+        }
+
+        boolean lockedByMe = owner.getUserId().equals(user.getId())
+                && owner.getSessionId().equals(sessionId);
+        if (!lockedByMe) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new LockCommandResponse(
                             false,
@@ -195,10 +283,20 @@ public class TeamCalendarLockController {
                             lockKey,
                             null,
                             null,
-                            lockService.getTtlSeconds(lockKey),
-                            e.getMessage()
+                            current.getTtlSeconds(),
+                            "락 소유자만 수정할 수 있습니다."
                     ));
         }
+
+        return ResponseEntity.ok(new LockCommandResponse(
+                true,
+                true,
+                lockKey,
+                user.getId(),
+                sessionId,
+                current.getTtlSeconds(),
+                "수정 권한이 확인되었습니다."
+        ));
     }
 
     private LockCommandResponse toResponse(
@@ -220,6 +318,42 @@ public class TeamCalendarLockController {
         );
     }
 
+    private List<String> toLockKeys(Long calendarId, LockBatchRequest request) {
+        if (request == null || request.getTargets() == null || request.getTargets().isEmpty()) {
+            throw new IllegalArgumentException("락 대상 목록은 필수입니다.");
+        }
+        if (request.getTargets().size() > MAX_BATCH_TARGETS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_TARGETS + "개까지 락을 요청할 수 있습니다.");
+        }
+
+        // 같은 대상이 중복으로 들어와도 키는 한 번만 처리
+        LinkedHashSet<String> lockKeys = new LinkedHashSet<>();
+        for (LockCommandRequest target : request.getTargets()) {
+            lockKeys.add(TeamCalendarLockKeyFactory.create(calendarId, target.getTargetType(), target.getTargetId()));
+        }
+        return new ArrayList<>(lockKeys);
+    }
+
+    private LockBatchResponse toBatchResponse(
+            boolean success,
+            List<String> lockKeys,
+            List<LockResult> results,
+            Long userId,
+            String sessionId,
+            String message
+    ) {
+        List<LockCommandResponse> responses = new ArrayList<>(lockKeys.size());
+        for (int i = 0; i < lockKeys.size(); i++) {
+            LockResult result = results.get(i);
+            LockOwner owner = result.getOwner();
+            boolean lockedByMe = owner != null
+                    && owner.getUserId().equals(userId)
+                    && owner.getSessionId().equals(sessionId);
+            responses.add(toResponse(result.isSuccess(), lockedByMe, lockKeys.get(i), result, null));
+        }
+        return new LockBatchResponse(success, responses, message);
+    }
+
     private Duration ttlFromRequest(LockCommandRequest request) {
         return TeamCalendarLockService.LOCK_TTL;
     }
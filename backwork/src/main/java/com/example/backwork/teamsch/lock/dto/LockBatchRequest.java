@@ -0,0 +1,15 @@
+package com.example.backwork.teamsch.lock.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class LockBatchRequest {
+    private List<LockCommandRequest> targets = new ArrayList<>();
+}
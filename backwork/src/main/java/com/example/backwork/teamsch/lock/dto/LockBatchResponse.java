@@ -0,0 +1,14 @@
+package com.example.backwork.teamsch.lock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LockBatchResponse {
+    private boolean success;
+    private List<LockCommandResponse> results;
+    private String message;
+}
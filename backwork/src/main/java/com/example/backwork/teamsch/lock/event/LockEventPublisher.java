@@ -0,0 +1,63 @@
+package com.example.backwork.teamsch.lock.event;
+
+import com.example.backwork.teamsch.event.ScheduleEventPublisher;
+import com.example.backwork.teamsch.lock.service.LockOwner;
+import com.example.backwork.teamsch.lock.support.TeamCalendarLockKeyFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    락 상태 변경 이벤트 → /topic/team/{calendarId}
+    - LOCK_ACQUIRED / LOCK_RELEASED : 락 서비스에서 캘린더 shard 채널로 발행(구독 노드에 전달)
+    - LOCK_EXPIRED                  : Redis keyspace notification 을 각 노드가 받아 로컬 구독자에게 직접 전달(LockExpiryListener)
+    클라이언트는 이 이벤트로 락 표시를 갱신하고 일정 목록은 다시 불러오지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockEventPublisher {
+
+    public static final String LOCK_ACQUIRED = "LOCK_ACQUIRED";
+    public static final String LOCK_RELEASED = "LOCK_RELEASED";
+    public static final String LOCK_EXPIRED = "LOCK_EXPIRED";
+
+    private final ScheduleEventPublisher scheduleEventPublisher;
+
+    public void publish(String action, String lockKey, LockOwner owner, Long ttlSeconds) {
+        Map<String, Object> payload = toPayload(action, lockKey, owner, ttlSeconds);
+        if (payload == null) {
+            return;
+        }
+
+        // 발행 실패는 락 처리 결과에 영향 주지 않음
+        scheduleEventPublisher.publishLock((Long) payload.get("calendarId"), payload);
+    }
+
+    /**
+     * 락 키를 해석할 수 없으면 null.
+     */
+    public static Map<String, Object> toPayload(String action, String lockKey, LockOwner owner, Long ttlSeconds) {
+        TeamCalendarLockKeyFactory.ParsedLockKey parsed = TeamCalendarLockKeyFactory.parse(lockKey);
+        if (parsed == null) {
+            return null;
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("action", action);
+        payload.put("calendarId", parsed.calendarId());
+        payload.put("lockKey", lockKey);
+        payload.put("targetType", parsed.targetType().name());
+        payload.put("targetId", parsed.targetId());
+        payload.put("ownerUserId", owner != null ? owner.getUserId() : null);
+        payload.put("ttlSeconds", ttlSeconds != null ? ttlSeconds : 0L);
+        payload.put("timestamp", LocalDateTime.now().toString());
+        return payload;
+    }
+
+    public static boolean isLockAction(String action) {
+        return action != null && action.startsWith("LOCK_");
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backwork.teamsch.lock.event;
+
+import com.example.backwork.teamsch.event.TeamTopicDispatcher;
+import com.example.backwork.teamsch.lock.support.TeamCalendarLockKeyFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/*
+    __keyevent@*__:expired 수신 → 락 키면 LOCK_EXPIRED 를 이 노드의 구독자에게 전달
+    모든 노드가 같은 만료 이벤트를 받으므로 Redis 로 다시 발행하지 않는다(중복 방지).
+    relay 모드에서는 브로커가 fan-out 하므로 SET NX 로 먼저 잡은 노드 하나만 전달한다.
+    Redis 에 notify-keyspace-events Ex 설정 필요 (RedisPubSubConfig / docker-compose)
+ */
+@RequiredArgsConstructor
+public class LockExpiryListener implements MessageListener {
+
+    private static final String RELAY_CLAIM_PREFIX = "lock-expired:";
+    private static final Duration RELAY_CLAIM_TTL = Duration.ofSeconds(5);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final TeamTopicDispatcher teamTopicDispatcher;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String expiredKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!expiredKey.startsWith(TeamCalendarLockKeyFactory.KEY_PREFIX)) {
+            return;
+        }
+
+        Map<String, Object> payload = LockEventPublisher.toPayload(LockEventPublisher.LOCK_EXPIRED, expiredKey, null, 0L);
+        if (payload == null) {
+            return;
+        }
+
+        if (teamTopicDispatcher.isRelay()) {
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(RELAY_CLAIM_PREFIX + expiredKey, "1", RELAY_CLAIM_TTL);
+            if (!Boolean.TRUE.equals(claimed)) {
+                return;
+            }
+        }
+
+        messagingTemplate.convertAndSend("/topic/team/" + payload.get("calendarId"), payload);
+    }
+}
@@ -1,16 +1,15 @@
 package com.example.backwork.teamsch.lock.service;
 
+import com.example.backwork.teamsch.lock.event.LockEventPublisher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.RedisStringCommands;
-import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -19,56 +18,131 @@ import java.util.concurrent.TimeUnit;
 public class RedisTeamCalendarLockService implements TeamCalendarLockService {
     /*
      * Redis command policy
-     * - acquire : SET key value NX PX 15000
-     * - refresh : Lua (GET == owner) ? PEXPIRE : 0
+     * - acquire : Lua (없음 → SET PX / 본인 → PEXPIRE / 타인) + [status, owner, pttl] 반환 (1 round trip)
+     * - refresh : Lua (GET == owner) ? PEXPIRE : 0 + [status, owner, pttl] 반환
      * - release : Lua (GET == owner) ? DEL : 0
+     * - inspect : Lua GET + PTTL → status / authorize-write 를 1 round trip 으로
      * - owner   : GET key
      * - ttl     : TTL key
+     * - batch   : Lua 한 번으로 여러 키 처리, 키마다 [owner, pttl] 반환
      */
 
+    // 반환: [status, owner, pttl] status = 1(신규 획득) / 2(본인 재진입, 연장) / 0(타인 소유)
+    private static final String ACQUIRE_SCRIPT_TEXT =
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if not current then " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "return {'1', ARGV[1], ARGV[2]} " +
+                    "end " +
+                    "if current == ARGV[1] then " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return {'2', current, ARGV[2]} " +
+                    "end " +
+                    "return {'0', current, tostring(redis.call('PTTL', KEYS[1]))}";
+
+    // 반환: [status, owner, pttl] status = 1(연장) / 0(소유자 아님 또는 만료)
     private static final String REFRESH_SCRIPT_TEXT =
-            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
-                    "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
-                    "else return 0 end";
+            "local current = redis.call('GET', KEYS[1]) " +
+                    "if current == ARGV[1] then " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "return {'1', current, ARGV[2]} " +
+                    "end " +
+                    "return {'0', current or '', tostring(redis.call('PTTL', KEYS[1]))}";
+
+    // 반환: [owner, pttl]
+    private static final String INSPECT_SCRIPT_TEXT =
+            "return {redis.call('GET', KEYS[1]) or '', tostring(redis.call('PTTL', KEYS[1]))}";
 
     private static final String RELEASE_SCRIPT_TEXT =
             "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
                     "return redis.call('DEL', KEYS[1]) " +
                     "else return 0 end";
 
-    private static final DefaultRedisScript<Long> REFRESH_SCRIPT = createLongScript(REFRESH_SCRIPT_TEXT);
+    // 반환: [acquired(1/0), new1, owner1, pttl1, new2, owner2, pttl2, ...] (owner 없으면 빈 문자열)
+    // new = 1(이번에 새로 잡은 키) / 0(이미 본인 소유였던 키 또는 실패)
+    private static final String ACQUIRE_ALL_SCRIPT_TEXT =
+            "local fresh = {} " +
+                    "for i = 1, #KEYS do " +
+                    "local current = redis.call('GET', KEYS[i]) " +
+                    "if current and current ~= ARGV[1] then " +
+                    "local result = {'0'} " +
+                    "for j = 1, #KEYS do " +
+                    "result[#result + 1] = '0' " +
+                    "result[#result + 1] = redis.call('GET', KEYS[j]) or '' " +
+                    "result[#result + 1] = tostring(redis.call('PTTL', KEYS[j])) " +
+                    "end " +
+                    "return result " +
+                    "end " +
+                    "fresh[i] = current and '0' or '1' " +
+                    "end " +
+                    "local result = {'1'} " +
+                    "for i = 1, #KEYS do " +
+                    "redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2]) " +
+                    "result[#result + 1] = fresh[i] " +
+                    "result[#result + 1] = ARGV[1] " +
+                    "result[#result + 1] = ARGV[2] " +
+                    "end " +
+                    "return result";
+
+    // 반환: [refreshed1(1/0), owner1, pttl1, ...] 키별로 독립 처리(heartbeat)
+    private static final String REFRESH_ALL_SCRIPT_TEXT =
+            "local result = {} " +
+                    "for i = 1, #KEYS do " +
+                    "local current = redis.call('GET', KEYS[i]) " +
+                    "if current == ARGV[1] then " +
+                    "redis.call('PEXPIRE', KEYS[i], ARGV[2]) " +
+                    "result[#result + 1] = '1' " +
+                    "else " +
+                    "result[#result + 1] = '0' " +
+                    "end " +
+                    "result[#result + 1] = current or '' " +
+                    "result[#result + 1] = tostring(redis.call('PTTL', KEYS[i])) " +
+                    "end " +
+                    "return result";
+
+    // 반환: 실제로 해제된 키 목록
+    private static final String RELEASE_ALL_SCRIPT_TEXT =
+            "local released = {} " +
+                    "for i = 1, #KEYS do " +
+                    "if redis.call('GET', KEYS[i]) == ARGV[1] then " +
+                    "redis.call('DEL', KEYS[i]) " +
+                    "released[#released + 1] = KEYS[i] " +
+                    "end " +
+                    "end " +
+                    "return released";
+
+    private static final DefaultRedisScript<List> ACQUIRE_SCRIPT = createListScript(ACQUIRE_SCRIPT_TEXT);
+    private static final DefaultRedisScript<List> REFRESH_SCRIPT = createListScript(REFRESH_SCRIPT_TEXT);
+    private static final DefaultRedisScript<List> INSPECT_SCRIPT = createListScript(INSPECT_SCRIPT_TEXT);
     private static final DefaultRedisScript<Long> RELEASE_SCRIPT = createLongScript(RELEASE_SCRIPT_TEXT);
+    private static final DefaultRedisScript<List> ACQUIRE_ALL_SCRIPT = createListScript(ACQUIRE_ALL_SCRIPT_TEXT);
+    private static final DefaultRedisScript<List> REFRESH_ALL_SCRIPT = createListScript(REFRESH_ALL_SCRIPT_TEXT);
+    private static final DefaultRedisScript<List> RELEASE_ALL_SCRIPT = createListScript(RELEASE_ALL_SCRIPT_TEXT);
 
     private final StringRedisTemplate redisTemplate;
+    private final LockEventPublisher lockEventPublisher;
 
     @Override
     public LockResult acquire(String key, Long userId, String sessionId, Duration ttl) {
         validateOwner(userId, sessionId);
         Duration validTtl = normalizeTtl(ttl);
-        String value = toLockValue(userId, sessionId);
 
-        RedisCallback<Boolean> acquireCallback = connection ->
-                connection.stringCommands().set(
-                        key.getBytes(StandardCharsets.UTF_8),
-                        value.getBytes(StandardCharsets.UTF_8),
-                        Expiration.milliseconds(validTtl.toMillis()),
-                        RedisStringCommands.SetOption.ifAbsent()
-                );
+        List<?> raw = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                Collections.singletonList(key),
+                toLockValue(userId, sessionId),
+                String.valueOf(validTtl.toMillis())
+        );
 
-        Boolean acquired = redisTemplate.execute(acquireCallback);
-        if (Boolean.TRUE.equals(acquired)) {
-            return new LockResult(true, new LockOwner(userId, sessionId), validTtl.toSeconds());
-        }
+        // 1(신규), 2(재진입) 모두 성공
+        String status = raw != null && !raw.isEmpty() ? String.valueOf(raw.get(0)) : "0";
+        LockResult result = toLockResult(!"0".equals(status), raw, 1);
 
-        Optional<LockOwner> owner = getOwner(key);
-        if (owner.isPresent()
-                && owner.get().getUserId().equals(userId)
-                && owner.get().getSessionId().equals(sessionId)) {
-            redisTemplate.expire(key, validTtl);
-            return new LockResult(true, owner.get(), validTtl.toSeconds());
+        // 재진입(연장)은 상태 변화가 아니므로 신규 획득만 알린다.
+        if ("1".equals(status)) {
+            lockEventPublisher.publish(LockEventPublisher.LOCK_ACQUIRED, key, result.getOwner(), result.getTtlSeconds());
         }
-
-        return new LockResult(false, owner.orElse(null), getTtlSeconds(key));
+        return result;
     }
 
     @Override
@@ -76,35 +150,139 @@ public class RedisTeamCalendarLockService implements TeamCalendarLockService {
         validateOwner(userId, sessionId);
         Duration validTtl = normalizeTtl(ttl);
 
-        Long result = redisTemplate.execute(
+        List<?> raw = redisTemplate.execute(
                 REFRESH_SCRIPT,
                 Collections.singletonList(key),
                 toLockValue(userId, sessionId),
                 String.valueOf(validTtl.toMillis())
         );
 
-        if (result != null && result > 0) {
-            return new LockResult(true, new LockOwner(userId, sessionId), validTtl.toSeconds());
-        }
+        boolean refreshed = raw != null && !raw.isEmpty() && "1".equals(String.valueOf(raw.get(0)));
+        return toLockResult(refreshed, raw, 1);
+    }
 
-        LockOwner owner = getOwner(key).orElse(null);
-        return new LockResult(false, owner, getTtlSeconds(key));
+    @Override
+    public LockResult inspect(String key) {
+        List<?> raw = redisTemplate.execute(INSPECT_SCRIPT, Collections.singletonList(key));
+        LockResult result = toLockResult(false, raw, 0);
+        return new LockResult(result.getOwner() != null, result.getOwner(), result.getTtlSeconds());
     }
 
     @Override
     public void release(String key, Long userId, String sessionId) {
         validateOwner(userId, sessionId);
 
-        redisTemplate.execute(
+        Long released = redisTemplate.execute(
                 RELEASE_SCRIPT,
                 Collections.singletonList(key),
                 toLockValue(userId, sessionId)
         );
+
+        if (released != null && released > 0) {
+            lockEventPublisher.publish(LockEventPublisher.LOCK_RELEASED, key, new LockOwner(userId, sessionId), 0L);
+        }
+    }
+
+    @Override
+    public List<LockResult> acquireAll(List<String> keys, Long userId, String sessionId, Duration ttl) {
+        validateOwner(userId, sessionId);
+        validateKeys(keys);
+        Duration validTtl = normalizeTtl(ttl);
+
+        List<?> raw = redisTemplate.execute(
+                ACQUIRE_ALL_SCRIPT,
+                keys,
+                toLockValue(userId, sessionId),
+                String.valueOf(validTtl.toMillis())
+        );
+
+        // 첫 원소가 전체 획득 여부, 이후 키마다 [new, owner, pttl]
+        boolean acquired = raw != null && !raw.isEmpty() && "1".equals(String.valueOf(raw.get(0)));
+        List<LockResult> results = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            int offset = 1 + i * 3;
+            LockResult result = toLockResult(acquired, raw, offset + 1);
+            results.add(result);
+            // acquire 와 같이 재진입(연장)한 키는 알리지 않는다.
+            boolean fresh = raw != null && raw.size() > offset && "1".equals(String.valueOf(raw.get(offset)));
+            if (acquired && fresh) {
+                lockEventPublisher.publish(LockEventPublisher.LOCK_ACQUIRED, keys.get(i), result.getOwner(), result.getTtlSeconds());
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public List<LockResult> refreshAll(List<String> keys, Long userId, String sessionId, Duration ttl) {
+        validateOwner(userId, sessionId);
+        validateKeys(keys);
+        Duration validTtl = normalizeTtl(ttl);
+
+        List<?> raw = redisTemplate.execute(
+                REFRESH_ALL_SCRIPT,
+                keys,
+                toLockValue(userId, sessionId),
+                String.valueOf(validTtl.toMillis())
+        );
+
+        // 키마다 [refreshed, owner, pttl]
+        List<LockResult> results = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            int offset = i * 3;
+            boolean refreshed = raw != null && raw.size() > offset && "1".equals(String.valueOf(raw.get(offset)));
+            results.add(toLockResult(refreshed, raw, offset + 1));
+        }
+        return results;
+    }
+
+    @Override
+    public void releaseAll(List<String> keys, Long userId, String sessionId) {
+        validateOwner(userId, sessionId);
+        validateKeys(keys);
+
+        List<?> released = redisTemplate.execute(
+                RELEASE_ALL_SCRIPT,
+                keys,
+                toLockValue(userId, sessionId)
+        );
+
+        if (released == null) {
+            return;
+        }
+        LockOwner owner = new LockOwner(userId, sessionId);
+        for (Object releasedKey : released) {
+            lockEventPublisher.publish(LockEventPublisher.LOCK_RELEASED, String.valueOf(releasedKey), owner, 0L);
+        }
     }
 
     @Override
     public Optional<LockOwner> getOwner(String key) {
-        String value = redisTemplate.opsForValue().get(key);
+        return parseOwner(redisTemplate.opsForValue().get(key));
+    }
+
+    private LockResult toLockResult(boolean success, List<?> raw, int ownerIndex) {
+        if (raw == null || raw.size() <= ownerIndex + 1) {
+            return new LockResult(false, null, 0L);
+        }
+
+        LockOwner owner = parseOwner(String.valueOf(raw.get(ownerIndex))).orElse(null);
+        return new LockResult(success, owner, pttlToSeconds(String.valueOf(raw.get(ownerIndex + 1))));
+    }
+
+    private Long pttlToSeconds(String pttl) {
+        try {
+            long millis = Long.parseLong(pttl);
+            if (millis < 0) {
+                return 0L;
+            }
+            // TTL 명령과 같은 반올림
+            return (millis + 500) / 1000;
+        } catch (NumberFormatException ignored) {
+            return 0L;
+        }
+    }
+
+    private Optional<LockOwner> parseOwner(String value) {
         if (value == null || value.isBlank()) {
             return Optional.empty();
         }
@@ -145,20 +323,22 @@ public class RedisTeamCalendarLockService implements TeamCalendarLockService {
     }
 
     @Override
-    public void requireLockOwner(String key, Long userId, String sessionId) {
+    public LockResult requireLockOwner(String key, Long userId, String sessionId) {
         validateOwner(userId, sessionId);
 
-        Optional<LockOwner> owner = getOwner(key);
-        if (owner.isEmpty()) {
+        LockResult current = inspect(key);
+        LockOwner owner = current.getOwner();
+        if (owner == null) {
             throw new IllegalStateException("락이 없어 수정할 수 없습니다.");
         }
 
-        boolean isOwner = owner.get().getUserId().equals(userId)
-                && owner.get().getSessionId().equals(sessionId);
+        boolean isOwner = owner.getUserId().equals(userId)
+                && owner.getSessionId().equals(sessionId);
 
         if (!isOwner) {
             throw new SecurityException("락 소유자만 수정할 수 있습니다.");
         }
+        return current;
     }
 
     private String toLockValue(Long userId, String sessionId) {
@@ -174,6 +354,12 @@ public class RedisTeamCalendarLockService implements TeamCalendarLockService {
         }
     }
 
+    private void validateKeys(List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new IllegalArgumentException("락 키 목록은 필수입니다.");
+        }
+    }
+
     private Duration normalizeTtl(Duration ttl) {
         if (ttl == null || ttl.isZero() || ttl.isNegative()) {
             return LOCK_TTL;
@@ -192,4 +378,12 @@ public class RedisTeamCalendarLockService implements TeamCalendarLockService {
         script.setResultType(Long.class);
         return script;
     }
+
+    @SuppressWarnings("rawtypes")
+    private static DefaultRedisScript<List> createListScript(String scriptText) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptText(scriptText);
+        script.setResultType(List.class);
+        return script;
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.backwork.teamsch.lock.service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 
 public interface TeamCalendarLockService {
@@ -19,5 +20,17 @@ public interface TeamCalendarLockService {
 
     boolean isLockOwner(String key, Long userId, String sessionId);
 
-    void requireLockOwner(String key, Long userId, String sessionId);
-}
\ No newline at end of file
+    // 소유자 확인 후 현재 owner/ttl 을 함께 돌려준다(추가 TTL 조회 불필요).
+    LockResult requireLockOwner(String key, Long userId, String sessionId);
+
+    // owner + ttl 을 한 번에 조회. success = 락 존재 여부
+    LockResult inspect(String key);
+
+    // 여러 키를 한 번에 처리한다. 결과는 keys 순서와 같다.
+    // acquireAll 은 all-or-nothing: 하나라도 다른 소유자가 있으면 아무 키도 잡지 않는다.
+    List<LockResult> acquireAll(List<String> keys, Long userId, String sessionId, Duration ttl);
+
+    List<LockResult> refreshAll(List<String> keys, Long userId, String sessionId, Duration ttl);
+
+    void releaseAll(List<String> keys, Long userId, String sessionId);
+}
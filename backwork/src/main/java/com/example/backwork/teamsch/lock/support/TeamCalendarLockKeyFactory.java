@@ -4,6 +4,8 @@ import com.example.backwork.teamsch.lock.dto.LockTargetType;
 
 public final class TeamCalendarLockKeyFactory {
 
+    public static final String KEY_PREFIX = "lock:team:";
+
     private TeamCalendarLockKeyFactory() {
     }
 
@@ -26,4 +28,37 @@ public final class TeamCalendarLockKeyFactory {
 
         return String.format("lock:team:%d:create:%s", calendarId, normalizedTargetId);
     }
-}
\ No newline at end of file
+
+    /**
+     * create 로 만든 키를 역으로 해석한다. 형식이 다르면 null.
+     */
+    public static ParsedLockKey parse(String lockKey) {
+        if (lockKey == null || !lockKey.startsWith(KEY_PREFIX)) {
+            return null;
+        }
+
+        // lock:team:{calendarId}:{schedule|create}:{targetId}
+        String[] parts = lockKey.substring(KEY_PREFIX.length()).split(":", 3);
+        if (parts.length < 3) {
+            return null;
+        }
+
+        try {
+            Long calendarId = Long.valueOf(parts[0]);
+            LockTargetType targetType;
+            if ("schedule".equals(parts[1])) {
+                targetType = LockTargetType.SCHEDULE;
+            } else if ("create".equals(parts[1])) {
+                targetType = LockTargetType.CREATE;
+            } else {
+                return null;
+            }
+            return new ParsedLockKey(calendarId, targetType, parts[2]);
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+
+    public record ParsedLockKey(Long calendarId, LockTargetType targetType, String targetId) {
+    }
+}
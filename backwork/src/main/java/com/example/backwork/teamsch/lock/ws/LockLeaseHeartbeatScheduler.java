@@ -0,0 +1,161 @@
+package com.example.backwork.teamsch.lock.ws;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.teamsch.lock.dto.LockCommandResponse;
+import com.example.backwork.teamsch.lock.service.LockOwner;
+import com.example.backwork.teamsch.lock.service.LockResult;
+import com.example.backwork.teamsch.lock.service.TeamCalendarLockService;
+import com.example.backwork.teamsch.lock.support.TeamCalendarLockKeyFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    WebSocket 락 lease 일괄 연장 / 연결 종료 시 해제
+    - HEARTBEAT_INTERVAL_SECONDS 마다 세션별 refreshAll(Lua 1회)
+    - 연장 전에 캘린더별 쓰기 권한을 다시 확인 (CalendarAccessResolver 캐시, 권한 변경 시 노드 간 무효화됨)
+      → 권한이 회수된 캘린더의 키는 바로 해제하고 통지
+    - 연장 실패한 키는 lease 에서 빼고 해당 세션에 /user/queue/locks 로 통지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LockLeaseHeartbeatScheduler {
+
+    private final TeamCalendarLockService lockService;
+    private final TeamCalendarAccessService accessService;
+    private final LockLeaseRegistry leaseRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Scheduled(fixedDelayString = "${app.lock.lease.refresh-interval-ms:3000}")
+    public void refreshLeases() {
+        for (Map.Entry<String, LockLeaseRegistry.Lease> entry : leaseRegistry.snapshot().entrySet()) {
+            String stompSessionId = entry.getKey();
+            LockLeaseRegistry.Lease lease = entry.getValue();
+            List<String> lockKeys = revokeUnwritable(stompSessionId, lease);
+            if (lockKeys.isEmpty()) {
+                continue;
+            }
+
+            try {
+                List<LockResult> results = lockService.refreshAll(
+                        lockKeys,
+                        lease.userId(),
+                        lease.httpSessionId(),
+                        TeamCalendarLockService.LOCK_TTL
+                );
+                for (int i = 0; i < lockKeys.size(); i++) {
+                    if (!results.get(i).isSuccess()) {
+                        leaseRegistry.remove(stompSessionId, lockKeys.get(i));
+                        notifyLost(stompSessionId, lockKeys.get(i), results.get(i));
+                    }
+                }
+            } catch (Exception e) {
+                // Redis 장애 시 다음 주기에 재시도, TTL 안에 복구되지 않으면 락은 만료된다.
+                log.warn("lock lease refresh failed. stompSessionId={}", stompSessionId, e);
+            }
+        }
+    }
+
+    // 쓰기 권한이 없어진 캘린더의 키를 해제하고 남은 키 목록을 돌려준다.
+    private List<String> revokeUnwritable(String stompSessionId, LockLeaseRegistry.Lease lease) {
+        Map<Long, Boolean> writableByCalendar = new HashMap<>();
+        List<String> kept = new ArrayList<>();
+        List<String> revoked = new ArrayList<>();
+        for (String lockKey : lease.keys()) {
+            TeamCalendarLockKeyFactory.ParsedLockKey parsed = TeamCalendarLockKeyFactory.parse(lockKey);
+            boolean writable = parsed != null && writableByCalendar.computeIfAbsent(
+                    parsed.calendarId(),
+                    calendarId -> isWritable(calendarId, lease.userId())
+            );
+            (writable ? kept : revoked).add(lockKey);
+        }
+        if (revoked.isEmpty()) {
+            return kept;
+        }
+
+        for (String lockKey : revoked) {
+            leaseRegistry.remove(stompSessionId, lockKey);
+        }
+        try {
+            lockService.releaseAll(revoked, lease.userId(), lease.httpSessionId());
+        } catch (Exception e) {
+            // 해제 실패 시 더 이상 연장하지 않으므로 TTL 만료로 정리된다.
+            log.warn("revoked lock release failed. stompSessionId={}", stompSessionId, e);
+        }
+        for (String lockKey : revoked) {
+            sendLost(stompSessionId, lockKey, null, 0L, "편집 권한이 없어 락을 해제했습니다.");
+        }
+        return kept;
+    }
+
+    private boolean isWritable(Long calendarId, Long userId) {
+        try {
+            accessService.requireWritable(calendarId, userId);
+            return true;
+        } catch (SecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        LockLeaseRegistry.Lease lease = leaseRegistry.removeSession(event.getSessionId());
+        if (lease == null) {
+            return;
+        }
+
+        List<String> lockKeys = lease.keys();
+        if (lockKeys.isEmpty()) {
+            return;
+        }
+
+        try {
+            lockService.releaseAll(lockKeys, lease.userId(), lease.httpSessionId());
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 만료로 정리된다.
+            log.warn("lock lease release on disconnect failed. stompSessionId={}", event.getSessionId(), e);
+        }
+    }
+
+    private void notifyLost(String stompSessionId, String lockKey, LockResult result) {
+        sendLost(stompSessionId, lockKey, result.getOwner(), result.getTtlSeconds(), "락이 만료되었거나 다른 사용자에게 넘어갔습니다.");
+    }
+
+    private void sendLost(String stompSessionId, String lockKey, LockOwner owner, Long ttlSeconds, String message) {
+        LockCommandResponse response = new LockCommandResponse(
+                false,
+                false,
+                lockKey,
+                owner != null ? owner.getUserId() : null,
+                owner != null ? owner.getSessionId() : null,
+                ttlSeconds,
+                message
+        );
+        messagingTemplate.convertAndSendToUser(
+                stompSessionId,
+                TeamCalendarLockWsController.LOCK_QUEUE,
+                response,
+                sessionHeaders(stompSessionId)
+        );
+    }
+
+    private MessageHeaders sessionHeaders(String stompSessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(stompSessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+}
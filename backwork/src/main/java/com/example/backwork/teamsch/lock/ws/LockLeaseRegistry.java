@@ -0,0 +1,77 @@
+package com.example.backwork.teamsch.lock.ws;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    STOMP 세션 단위 락 lease 목록 (노드 로컬)
+    - 락 값은 HTTP 락과 같은 userId:httpSessionId → 기존 authorize-write / 수정 API 그대로 사용
+    - 연장은 LockLeaseHeartbeatScheduler 가 세션별 refreshAll 한 번으로 처리
+    - 세션 종료(SessionDisconnectEvent) 시 남은 키를 한 번에 해제
+    - 락 획득(Redis) → add 사이에 세션이 끊기면 add 가 죽은 세션의 lease 를 다시 만들어 영원히 연장된다.
+      → removeSession 이 닫힌 세션 id 를 잠시 기록(tombstone)하고, add 는 닫힌 세션이면 거절한다.
+        호출 측(TeamCalendarLockWsController)이 방금 잡은 락을 직접 해제한다.
+ */
+@Component
+public class LockLeaseRegistry {
+
+    // 획득 요청 처리 중 끊긴 세션을 가려낼 만큼만 유지 (Redis 왕복 몇 번이면 충분)
+    static final Duration CLOSED_SESSION_TTL = Duration.ofMinutes(1);
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> closedSessions = Caffeine.newBuilder()
+            .expireAfterWrite(CLOSED_SESSION_TTL)
+            .build();
+
+    /*
+        이미 닫힌 세션이면 false (lease 를 만들지 않는다)
+        tombstone 확인을 compute 안에서 하므로 removeSession 과 순서가 어떻게 섞여도
+        lease 가 남는 경우는 removeSession 보다 먼저 add 가 끝난 경우뿐이다 (→ disconnect 쪽이 해제).
+     */
+    public boolean add(String stompSessionId, Long userId, String httpSessionId, String lockKey) {
+        Lease added = leases.compute(stompSessionId, (id, lease) -> {
+            if (closedSessions.getIfPresent(id) != null) {
+                return lease;
+            }
+            Lease target = lease != null ? lease : new Lease(userId, httpSessionId, ConcurrentHashMap.newKeySet());
+            target.lockKeys().add(lockKey);
+            return target;
+        });
+        return added != null && added.lockKeys().contains(lockKey);
+    }
+
+    public void remove(String stompSessionId, String lockKey) {
+        leases.computeIfPresent(stompSessionId, (id, lease) -> {
+            lease.lockKeys().remove(lockKey);
+            return lease.lockKeys().isEmpty() ? null : lease;
+        });
+    }
+
+    public Lease removeSession(String stompSessionId) {
+        // tombstone 을 먼저 남겨야 진행 중인 add 가 제거 이후에 lease 를 되살리지 못한다.
+        closedSessions.put(stompSessionId, Boolean.TRUE);
+        return leases.remove(stompSessionId);
+    }
+
+    public Map<String, Lease> snapshot() {
+        return Map.copyOf(leases);
+    }
+
+    public int size() {
+        return leases.values().stream().mapToInt(lease -> lease.lockKeys().size()).sum();
+    }
+
+    public record Lease(Long userId, String httpSessionId, Set<String> lockKeys) {
+
+        public List<String> keys() {
+            return List.copyOf(lockKeys);
+        }
+    }
+}
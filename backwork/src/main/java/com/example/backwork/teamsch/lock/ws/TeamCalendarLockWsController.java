@@ -0,0 +1,128 @@
+package com.example.backwork.teamsch.lock.ws;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.member.SessionUser;
+import com.example.backwork.teamsch.lock.dto.LockCommandRequest;
+import com.example.backwork.teamsch.lock.dto.LockCommandResponse;
+import com.example.backwork.teamsch.lock.service.LockOwner;
+import com.example.backwork.teamsch.lock.service.LockResult;
+import com.example.backwork.teamsch.lock.service.TeamCalendarLockService;
+import com.example.backwork.teamsch.lock.support.TeamCalendarLockKeyFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+
+import java.util.Map;
+
+/*
+    WebSocket(STOMP) 세션에 묶인 락 lease
+    - pub  : /app/team/{calendarId}/locks/acquire, /app/team/{calendarId}/locks/release
+    - sub  : /user/queue/locks (요청한 세션에만 결과/만료 통지)
+    - 연장 : 클라이언트 heartbeat 없이 LockLeaseHeartbeatScheduler 가 일괄 처리 (쓰기 권한 재확인 포함)
+    - 해제 : release 요청 또는 연결 종료 시 자동
+ */
+@Controller
+@RequiredArgsConstructor
+public class TeamCalendarLockWsController {
+
+    public static final String LOCK_QUEUE = "/queue/locks";
+
+    private final TeamCalendarLockService lockService;
+    private final TeamCalendarAccessService accessService;
+    private final LockLeaseRegistry leaseRegistry;
+
+    @MessageMapping("/team/{calendarId}/locks/acquire")
+    @SendToUser(destinations = LOCK_QUEUE, broadcast = false)
+    public LockCommandResponse acquire(
+            @DestinationVariable Long calendarId,
+            @Payload LockCommandRequest request,
+            SimpMessageHeaderAccessor accessor
+    ) {
+        SessionUser user = getLoginUser(accessor);
+        String httpSessionId = getHttpSessionId(accessor);
+        if (user == null || httpSessionId == null) {
+            return failure(null, "로그인이 필요합니다.");
+        }
+        // 이후에는 LockLeaseHeartbeatScheduler 가 연장 주기마다 다시 확인한다.
+        accessService.requireWritable(calendarId, user.getId());
+
+        String lockKey = TeamCalendarLockKeyFactory.create(calendarId, request.getTargetType(), request.getTargetId());
+        LockResult result = lockService.acquire(lockKey, user.getId(), httpSessionId, TeamCalendarLockService.LOCK_TTL);
+
+        LockOwner owner = result.getOwner();
+        if (!result.isSuccess()) {
+            return new LockCommandResponse(
+                    false,
+                    false,
+                    lockKey,
+                    owner != null ? owner.getUserId() : null,
+                    owner != null ? owner.getSessionId() : null,
+                    result.getTtlSeconds(),
+                    "다른 사용자가 편집 중입니다."
+            );
+        }
+
+        if (!leaseRegistry.add(accessor.getSessionId(), user.getId(), httpSessionId, lockKey)) {
+            // 락을 잡는 사이 연결이 끊겼다 → 연장할 세션이 없으니 바로 돌려놓는다.
+            lockService.release(lockKey, user.getId(), httpSessionId);
+            return failure(lockKey, "연결이 종료되어 락을 해제했습니다.");
+        }
+        return new LockCommandResponse(
+                true,
+                true,
+                lockKey,
+                user.getId(),
+                httpSessionId,
+                result.getTtlSeconds(),
+                "락을 획득했습니다. 연결이 유지되는 동안 서버가 자동 연장합니다."
+        );
+    }
+
+    @MessageMapping("/team/{calendarId}/locks/release")
+    @SendToUser(destinations = LOCK_QUEUE, broadcast = false)
+    public LockCommandResponse release(
+            @DestinationVariable Long calendarId,
+            @Payload LockCommandRequest request,
+            SimpMessageHeaderAccessor accessor
+    ) {
+        SessionUser user = getLoginUser(accessor);
+        String httpSessionId = getHttpSessionId(accessor);
+        if (user == null || httpSessionId == null) {
+            return failure(null, "로그인이 필요합니다.");
+        }
+
+        String lockKey = TeamCalendarLockKeyFactory.create(calendarId, request.getTargetType(), request.getTargetId());
+        leaseRegistry.remove(accessor.getSessionId(), lockKey);
+        lockService.release(lockKey, user.getId(), httpSessionId);
+
+        return new LockCommandResponse(true, true, lockKey, null, null, 0L, "락을 해제했습니다.");
+    }
+
+    @MessageExceptionHandler({SecurityException.class, IllegalArgumentException.class})
+    @SendToUser(destinations = LOCK_QUEUE, broadcast = false)
+    public LockCommandResponse handleRejected(RuntimeException e) {
+        return failure(null, e.getMessage() != null ? e.getMessage() : "잘못된 요청입니다.");
+    }
+
+    private LockCommandResponse failure(String lockKey, String message) {
+        return new LockCommandResponse(false, false, lockKey, null, null, 0L, message);
+    }
+
+    private SessionUser getLoginUser(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) return null;
+        return (SessionUser) attributes.get("LOGIN_USER");
+    }
+
+    private String getHttpSessionId(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) return null;
+        return (String) attributes.get(HttpSessionHandshakeInterceptor.HTTP_SESSION_ID_ATTR_NAME);
+    }
+}
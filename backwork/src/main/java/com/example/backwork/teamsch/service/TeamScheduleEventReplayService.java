@@ -0,0 +1,64 @@
+package com.example.backwork.teamsch.service;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.teamsch.dto.TeamScheduleEventReplayResponse;
+import com.example.backwork.teamsch.event.ScheduleEventLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    재연결한 클라이언트의 놓친 일정 이벤트 조회
+    - since 없음 : 현재 기준점(lastEventId)만 돌려준다 (최초 연결 시)
+    - since 있음 : 그 이후 이벤트를 발행 순서대로 평탄화해 돌려준다
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamScheduleEventReplayService {
+
+    private static final int DEFAULT_LIMIT = 200;
+    private static final int MAX_LIMIT = 1000;
+
+    private final TeamCalendarAccessService teamCalendarAccessService;
+    private final ScheduleEventLog scheduleEventLog;
+    private final ObjectMapper objectMapper;
+
+    public TeamScheduleEventReplayResponse replay(Long userId, Long calendarId, String since, Integer limit) {
+        teamCalendarAccessService.requireMember(calendarId, userId);
+
+        if (since == null || since.isBlank()) {
+            return new TeamScheduleEventReplayResponse(false, scheduleEventLog.latestId(calendarId), false, List.of());
+        }
+
+        ScheduleEventLog.Replay replay = scheduleEventLog.readSince(calendarId, since, resolveLimit(limit));
+        if (replay.reset()) {
+            return new TeamScheduleEventReplayResponse(true, scheduleEventLog.latestId(calendarId), false, List.of());
+        }
+
+        // entry 하나는 배치 발행 1건(이벤트 배열)
+        List<JsonNode> events = new ArrayList<>();
+        for (String body : replay.bodies()) {
+            JsonNode node = objectMapper.readTree(body);
+            if (node.isArray()) {
+                node.forEach(events::add);
+            } else {
+                events.add(node);
+            }
+        }
+        return new TeamScheduleEventReplayResponse(false, replay.lastEventId(), replay.hasMore(), events);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        return limit;
+    }
+}
@@ -5,21 +5,27 @@ import com.example.backwork.calendar.share.TeamCalendarAccessService;
 import com.example.backwork.member.User;
 import com.example.backwork.member.UserRepository;
 import com.example.backwork.memo.MemoPostRepository;
-import com.example.backwork.redis.RedisPublisher;
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.dto.ScheduleSlot;
 import com.example.backwork.schedule.entity.Schedule;
 import com.example.backwork.schedule.repository.ScheduleRepository;
+import com.example.backwork.schedule.service.ScheduleOccurrenceService;
+import com.example.backwork.teamsch.cache.TeamScheduleMonthCache;
 import com.example.backwork.teamsch.dto.TeamScheduleCreateRequest;
+import com.example.backwork.teamsch.dto.TeamScheduleOccurrenceRequest;
 import com.example.backwork.teamsch.dto.TeamScheduleUpdateRequest;
+import com.example.backwork.teamsch.event.ScheduleEvent;
+import com.example.backwork.teamsch.event.ScheduleEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -29,26 +35,36 @@ public class TeamScheduleService {
     private final UserRepository userRepository;
     private final MemoPostRepository memoPostRepository;
     private final TeamCalendarAccessService teamCalendarAccessService;
-    private final RedisPublisher redisPublisher;
+    private final ScheduleEventPublisher scheduleEventPublisher;
+    private final TeamScheduleMonthCache teamScheduleMonthCache;
+    private final ScheduleOccurrenceService scheduleOccurrenceService;
 
     public List<Schedule> findByMonth(Long userId, Long calendarId, LocalDateTime start, LocalDateTime end) {
         teamCalendarAccessService.requireMember(calendarId, userId);
 
-        List<Schedule> rangedSchedules = scheduleRepository
-                .findByCalendarIdAndStartAtLessThanEqualAndEndAtGreaterThanEqual(calendarId, end, start);
+        return scheduleRepository.findOverlappingByCalendarId(calendarId, start, end);
+    }
 
-        List<Schedule> singleDaySchedules = scheduleRepository
-                .findByCalendarIdAndEndAtIsNullAndStartAtBetween(calendarId, start, end);
+    public void requireMember(Long userId, Long calendarId) {
+        teamCalendarAccessService.requireMember(calendarId, userId);
+    }
 
-        Map<Long, Schedule> uniqueSchedules = new LinkedHashMap<>();
-        rangedSchedules.forEach(schedule -> uniqueSchedules.put(schedule.getId(), schedule));
-        singleDaySchedules.forEach(schedule -> uniqueSchedules.put(schedule.getId(), schedule));
+    // 월 화면 조회: (calendarId, 월) 버킷 캐시에 직렬화된 응답을 보관, 적중 시 DB 조회 없음
+    public String findMonthViewJson(Long userId, Long calendarId, YearMonth month) {
+        teamCalendarAccessService.requireMember(calendarId, userId);
 
-        return new ArrayList<>(uniqueSchedules.values());
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.atEndOfMonth().atTime(23, 59, 59);
+        return teamScheduleMonthCache.getOrLoad(
+                calendarId,
+                month,
+                () -> scheduleOccurrenceService.expand(
+                        scheduleRepository.findMonthViewByCalendarId(calendarId, start, end), start, end)
+        );
     }
 
-    public List<Schedule> findByRange(Long userId, Long calendarId, LocalDateTime start, LocalDateTime end) {
-        return findByMonth(userId, calendarId, start, end);
+    public List<ScheduleResponse> findByRange(Long userId, Long calendarId, LocalDateTime start, LocalDateTime end) {
+        return scheduleOccurrenceService.expandEntities(findByMonth(userId, calendarId, start, end), start, end);
     }
 
     @Transactional
@@ -56,7 +72,7 @@ public class TeamScheduleService {
         Calendar calendar = teamCalendarAccessService.requireWritable(request.getCalendarId(), userId);
         User user = userRepository.findById(userId).orElseThrow();
 
-        Schedule saved = scheduleRepository.save(new Schedule(
+        Schedule schedule = new Schedule(
                 calendar,
                 user,
                 request.getTitle(),
@@ -65,35 +81,44 @@ public class TeamScheduleService {
                 request.getEndAt(),
                 resolveMemoId(user, request.getMemoId()),
                 resolvePriority(request.getPriority())
-        ));
+        );
+        scheduleOccurrenceService.applyRule(schedule, request.getRecurrenceRule());
+        Schedule saved = scheduleRepository.save(schedule);
 
-        publishEvent("CREATED", request.getCalendarId(), saved.getId(), userId);
+        publishEvent("CREATED", request.getCalendarId(), saved, userId, monthsOf(saved));
         return saved;
     }
 
+    /*
+        챗봇 기간 등록 (같은 제목으로 여러 날)
+        - 권한/사용자 확인 1회, insert 는 JDBC batch
+        - 이벤트도 1건(BULK_CREATED, 일정 내용 없음): 월 캐시 정리 1회, 클라이언트는 해당 월을 한 번 다시 조회
+     */
     @Transactional
-    public Schedule createFromAssistant(
+    public List<Schedule> createAllFromAssistant(
             Long userId,
             Long calendarId,
             String title,
             String content,
-            LocalDateTime startAt,
-            LocalDateTime endAt
+            List<ScheduleSlot> slots
     ) {
+        if (slots == null || slots.isEmpty()) {
+            throw new IllegalArgumentException("등록할 일정이 없습니다.");
+        }
+
         Calendar calendar = teamCalendarAccessService.requireWritable(calendarId, userId);
         User user = userRepository.findById(userId).orElseThrow();
 
-        Schedule saved = scheduleRepository.save(new Schedule(
-                calendar,
-                user,
-                title,
-                content,
-                startAt,
-                endAt,
-                null,
-                2
-        ));
-        publishEvent("CREATED", calendarId, saved.getId(), userId);
+        List<Schedule> saved = scheduleRepository.saveAll(slots.stream()
+                .map(slot -> new Schedule(calendar, user, title, content, slot.startAt(), slot.endAt(), null, 2))
+                .toList());
+
+        Set<YearMonth> months = null;
+        for (Schedule schedule : saved) {
+            Set<YearMonth> scheduleMonths = TeamScheduleMonthCache.monthsOf(schedule.getStartAt(), schedule.getEndAt());
+            months = months == null ? scheduleMonths : mergeMonths(months, scheduleMonths);
+        }
+        publishEvent("BULK_CREATED", calendarId, null, null, null, userId, months);
         return saved;
     }
 
@@ -104,6 +129,9 @@ public class TeamScheduleService {
         Schedule schedule = getTeamSchedule(scheduleId, request.getCalendarId());
         requireMatchingVersion(request.getBaseVersion(), schedule.getVersion());
         User user = userRepository.findById(userId).orElseThrow();
+        Set<YearMonth> previousMonths = monthsOf(schedule);
+        String previousRule = schedule.getRecurrenceRule();
+        LocalDateTime previousStart = schedule.getStartAt();
 
         schedule.update(
                 request.getTitle(),
@@ -113,6 +141,12 @@ public class TeamScheduleService {
                 resolveMemoIdForTeamUpdate(user, request.getMemoId(), schedule.getMemoId()),
                 resolvePriority(request.getPriority())
         );
+        scheduleOccurrenceService.reapplyRule(
+                schedule,
+                request.getRecurrenceRule() == null ? previousRule : request.getRecurrenceRule(),
+                previousRule,
+                previousStart
+        );
 
         try {
             scheduleRepository.flush();
@@ -120,16 +154,54 @@ public class TeamScheduleService {
             throw buildVersionConflict(scheduleId);
         }
 
-        publishEvent("UPDATED", request.getCalendarId(), schedule.getId(), userId);
+        publishEvent("UPDATED", request.getCalendarId(), schedule, userId,
+                mergeMonths(previousMonths, monthsOf(schedule)));
         return schedule;
     }
 
+    /*
+        반복 일정 한 회차 수정/취소
+        - 시리즈 행은 바뀌지 않으므로 version 검사 없이 회차 예외만 기록
+        - 이벤트는 일정 내용 없이(UPDATED) 보내 클라이언트가 해당 월을 다시 조회하게 한다.
+     */
+    @Transactional
+    public void updateOccurrence(Long userId, Long scheduleId, TeamScheduleOccurrenceRequest request) {
+        teamCalendarAccessService.requireWritable(request.getCalendarId(), userId);
+
+        Schedule schedule = getTeamSchedule(scheduleId, request.getCalendarId());
+        scheduleOccurrenceService.override(
+                schedule,
+                request.getOriginalStartAt(),
+                request.getTitle(),
+                request.getContent(),
+                request.getStartAt(),
+                request.getEndAt()
+        );
+
+        publishEvent("UPDATED", request.getCalendarId(), scheduleId, null, schedule.getVersion(), userId, Set.of());
+    }
+
+    @Transactional
+    public void cancelOccurrence(Long userId, Long calendarId, Long scheduleId, LocalDateTime originalStartAt) {
+        teamCalendarAccessService.requireWritable(calendarId, userId);
+
+        Schedule schedule = getTeamSchedule(scheduleId, calendarId);
+        scheduleOccurrenceService.cancel(schedule, originalStartAt);
+
+        publishEvent("UPDATED", calendarId, scheduleId, null, schedule.getVersion(), userId, Set.of());
+    }
+
     @Transactional
     public void delete(Long userId, Long calendarId, Long scheduleId, Long baseVersion) {
         teamCalendarAccessService.requireWritable(calendarId, userId);
 
         Schedule schedule = getTeamSchedule(scheduleId, calendarId);
         requireMatchingVersion(baseVersion, schedule.getVersion());
+        Set<YearMonth> affectedMonths = monthsOf(schedule);
+        Long deletedVersion = schedule.getVersion();
+        if (schedule.isRecurring()) {
+            scheduleOccurrenceService.deleteAll(scheduleId);
+        }
         scheduleRepository.delete(schedule);
 
         try {
@@ -138,7 +210,7 @@ public class TeamScheduleService {
             throw buildVersionConflict(scheduleId);
         }
 
-        publishEvent("DELETED", calendarId, scheduleId, userId);
+        publishEvent("DELETED", calendarId, scheduleId, null, deletedVersion, userId, affectedMonths);
     }
 
     private Schedule getTeamSchedule(Long scheduleId, Long calendarId) {
@@ -181,18 +253,51 @@ public class TeamScheduleService {
         return new TeamScheduleVersionConflictException(latestVersion);
     }
 
-    private void publishEvent(String action, Long calendarId, Long scheduleId, Long userId) {
-        try {
-            java.util.Map<String, Object> payload = new java.util.LinkedHashMap<>();
-            payload.put("action", action);
-            payload.put("calendarId", calendarId);
-            payload.put("scheduleId", scheduleId);
-            payload.put("actorUserId", userId);
-            payload.put("timestamp", java.time.LocalDateTime.now().toString());
-            redisPublisher.publish("schedule:updates", payload);
-        } catch (Exception ignored) {
-            // pub/sub 실패는 비즈니스 처리에 영향주지 않음
+    // 반복 일정은 회차가 여러 달에 흩어져 있으므로 캘린더 전체 무효화(빈 집합)
+    private Set<YearMonth> monthsOf(Schedule schedule) {
+        if (schedule.isRecurring()) {
+            return Set.of();
         }
+        return TeamScheduleMonthCache.monthsOf(schedule.getStartAt(), schedule.getEndAt());
+    }
+
+    // 두 기간 중 하나라도 캘린더 전체 무효화(빈 집합)라면 전체 무효화 유지
+    private Set<YearMonth> mergeMonths(Set<YearMonth> previousMonths, Set<YearMonth> currentMonths) {
+        if (previousMonths.isEmpty() || currentMonths.isEmpty()) {
+            return Set.of();
+        }
+        Set<YearMonth> merged = new LinkedHashSet<>(previousMonths);
+        merged.addAll(currentMonths);
+        return merged;
+    }
+
+    // flush 이후의 상태(새 version 포함)를 이벤트에 담아 클라이언트가 월 재조회 없이 반영하도록 한다.
+    // 반복 일정은 시리즈 행만으로 화면을 그릴 수 없으므로 내용 없이 보내 월 재조회를 유도
+    private void publishEvent(String action, Long calendarId, Schedule schedule, Long userId, Set<YearMonth> months) {
+        ScheduleResponse snapshot = schedule.isRecurring() ? null : new ScheduleResponse(schedule);
+        publishEvent(action, calendarId, schedule.getId(), snapshot, schedule.getVersion(), userId, months);
+    }
+
+    private void publishEvent(
+            String action,
+            Long calendarId,
+            Long scheduleId,
+            ScheduleResponse snapshot,
+            Long version,
+            Long userId,
+            Set<YearMonth> months
+    ) {
+        // 커밋 이후 월 캐시 정리 + 배치 발행 (ScheduleEventPublisher), 다른 노드는 header 의 months 로 정리
+        scheduleEventPublisher.publish(new ScheduleEvent(
+                action,
+                calendarId,
+                scheduleId,
+                userId,
+                months.stream().map(YearMonth::toString).toList(),
+                LocalDateTime.now().toString(),
+                snapshot,
+                version
+        ));
     }
 
     private Long resolveMemoId(User user, Long memoId) {
@@ -0,0 +1,108 @@
+package com.example.backwork.admin;
+
+import com.example.backwork.admin.dto.AdminDashboardTodayResponse;
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.rag.PythonRagClient;
+import com.example.backwork.rag.RagDocument;
+import com.example.backwork.rag.RagDocumentRepository;
+import com.example.backwork.rag.internal.PythonQueryRequest;
+import com.example.backwork.rag.internal.PythonQueryResponse;
+import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.repository.ScheduleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdminDashboardServiceTest {
+
+    private ScheduleRepository scheduleRepository;
+    private RagDocumentRepository ragDocumentRepository;
+    private PythonRagClient pythonRagClient;
+    private AdminDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        ragDocumentRepository = mock(RagDocumentRepository.class);
+        pythonRagClient = mock(PythonRagClient.class);
+        service = new AdminDashboardService(
+                mock(UserRepository.class),
+                scheduleRepository,
+                ragDocumentRepository,
+                pythonRagClient,
+                mock(PlatformTransactionManager.class)
+        );
+        ReflectionTestUtils.setField(service, "insightConcurrency", 4);
+        ReflectionTestUtils.setField(service, "insightQueueCapacity", 16);
+        ReflectionTestUtils.setField(service, "insightDeadlineMs", 300L);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void slow_calendar_is_dropped_at_deadline_and_rest_returned_in_parallel() {
+        Calendar fast = calendar(1L, "빠른팀");
+        Calendar slow = calendar(2L, "느린팀");
+        Calendar other = calendar(3L, "다른팀");
+        when(scheduleRepository.findByCreatedAtBetweenWithCalendarAndOwner(any(), any())).thenReturn(List.of(
+                schedule(fast, "fast"), schedule(slow, "slow"), schedule(other, "other")));
+        when(ragDocumentRepository.findByCalendarIdInAndStatus(anyList(), any())).thenReturn(List.of(
+                document(10L, fast), document(20L, slow), document(30L, other)));
+        when(pythonRagClient.query(any())).thenAnswer(invocation -> {
+            PythonQueryRequest request = invocation.getArgument(0);
+            // 빠른 두 캘린더도 150ms 씩 걸린다 → 순차면 마감(300ms) 안에 둘 다 못 온다.
+            Thread.sleep(request.calendarId() == 2L ? 5000 : 150);
+            return new PythonQueryResponse("요약-" + request.calendarId(),
+                    List.of(new PythonQueryResponse.PythonRetrieval("k", 0.1, Map.of())));
+        });
+
+        long startedAt = System.currentTimeMillis();
+        AdminDashboardTodayResponse response = service.getTodayDashboard();
+        long elapsed = System.currentTimeMillis() - startedAt;
+
+        assertTrue(elapsed < 1000, "elapsed=" + elapsed);
+        assertEquals("PARTIAL", response.summaryStatus());
+        assertTrue(response.summary().contains("[빠른팀] 요약-1"));
+        assertTrue(response.summary().contains("[다른팀] 요약-3"));
+        assertFalse(response.summary().contains("요약-2"));
+        assertEquals(2, response.sourceCount());
+        assertEquals(3, response.calendarCount());
+    }
+
+    private Calendar calendar(Long id, String name) {
+        Calendar calendar = new Calendar(name, "TEAM", null);
+        ReflectionTestUtils.setField(calendar, "id", id);
+        return calendar;
+    }
+
+    private Schedule schedule(Calendar calendar, String title) {
+        LocalDateTime startAt = LocalDateTime.now().withHour(10).withMinute(0);
+        return new Schedule(calendar, null, title, null, startAt, startAt.plusHours(1), null, 2);
+    }
+
+    private RagDocument document(Long id, Calendar calendar) {
+        RagDocument document = new RagDocument(null, calendar, "doc", "raw", "key", "text/plain", null,
+                "private", "vec", "idx", "model");
+        ReflectionTestUtils.setField(document, "id", id);
+        return document;
+    }
+}
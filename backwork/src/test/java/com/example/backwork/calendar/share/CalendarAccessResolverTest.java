@@ -0,0 +1,80 @@
+package com.example.backwork.calendar.share;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.redis.RedisPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CalendarAccessResolverTest {
+
+    private CalendarRepository calendarRepository;
+    private ShareMemberRepository shareMemberRepository;
+    private CalendarAccessResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        calendarRepository = mock(CalendarRepository.class);
+        shareMemberRepository = mock(ShareMemberRepository.class);
+        resolver = new CalendarAccessResolver(
+                calendarRepository,
+                shareMemberRepository,
+                mock(RedisPublisher.class),
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(resolver, "maxSize", 100L);
+        ReflectionTestUtils.setField(resolver, "ttlSeconds", 30L);
+        resolver.init();
+
+        User owner = mock(User.class);
+        when(owner.getId()).thenReturn(1L);
+        Calendar calendar = mock(Calendar.class);
+        when(calendar.getType()).thenReturn("TEAM");
+        when(calendar.getOwner()).thenReturn(owner);
+        when(calendarRepository.findById(10L)).thenReturn(Optional.of(calendar));
+    }
+
+    @Test
+    void membership_is_resolved_once_until_access_changes() {
+        when(shareMemberRepository.findByCalendarIdAndUserId(10L, 2L))
+                .thenReturn(Optional.of(new ShareMember(10L, 2L, RoleRw.READ)));
+
+        CalendarAccess first = resolver.resolve(10L, 2L);
+        CalendarAccess second = resolver.resolve(10L, 2L);
+
+        assertEquals(first, second);
+        assertTrue(first.isMember());
+        assertFalse(first.isWritable());
+        verify(calendarRepository, times(1)).findById(10L);
+        verify(shareMemberRepository, times(1)).findByCalendarIdAndUserId(10L, 2L);
+
+        when(shareMemberRepository.findByCalendarIdAndUserId(10L, 2L))
+                .thenReturn(Optional.of(new ShareMember(10L, 2L, RoleRw.WRITE)));
+        resolver.onAccessChanged(new CalendarAccessChangedEvent(10L, 2L));
+
+        assertTrue(resolver.resolve(10L, 2L).isWritable());
+        verify(shareMemberRepository, times(2)).findByCalendarIdAndUserId(10L, 2L);
+    }
+
+    @Test
+    void owner_skips_share_member_lookup() {
+        CalendarAccess access = resolver.resolve(10L, 1L);
+
+        assertTrue(access.owner());
+        assertTrue(access.isWritable());
+        verify(shareMemberRepository, times(0)).findByCalendarIdAndUserId(10L, 1L);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.backwork.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+    동시 구독 10k 유지 테스트 (실행 중인 서버 필요, 기본 실행 제외)
+    WS_LOAD_TEST_URL=ws://localhost:8080/ws-native ./gradlew test --tests '*WebSocketSubscriptionLoadTest'
+
+    연결 수 × 연결당 구독 수 = 총 구독 수 (기본 500 × 20 = 10,000)
+    모든 SUBSCRIBE 에 receipt 를 요청해 브로커(simple / relay)가 실제로 등록했는지 확인한 뒤
+    WS_LOAD_TEST_HOLD_SECONDS 동안 유지하며 heartbeat 로 연결이 끊기지 않는지 본다.
+ */
+@EnabledIfEnvironmentVariable(named = "WS_LOAD_TEST_URL", matches = ".+")
+class WebSocketSubscriptionLoadTest {
+
+    private static final int CONNECTIONS = intEnv("WS_LOAD_TEST_CONNECTIONS", 500);
+    private static final int SUBSCRIPTIONS_PER_CONNECTION = intEnv("WS_LOAD_TEST_SUBSCRIPTIONS", 20);
+    private static final int HOLD_SECONDS = intEnv("WS_LOAD_TEST_HOLD_SECONDS", 30);
+    private static final int CALENDAR_SPREAD = 1000;
+
+    private final List<StompSession> sessions = new ArrayList<>();
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @AfterEach
+    void tearDown() {
+        for (StompSession session : sessions) {
+            try {
+                session.disconnect();
+            } catch (Exception ignored) {
+                // 이미 끊긴 세션
+            }
+        }
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    @Test
+    void holdsTenThousandConcurrentSubscriptions() throws Exception {
+        String url = System.getenv("WS_LOAD_TEST_URL");
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(4);
+        taskScheduler.setThreadNamePrefix("ws-load-");
+        taskScheduler.initialize();
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setTaskScheduler(taskScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+        stompClient.setReceiptTimeLimit(30_000);
+
+        int total = CONNECTIONS * SUBSCRIPTIONS_PER_CONNECTION;
+        CountDownLatch receipts = new CountDownLatch(total);
+        AtomicInteger lostReceipts = new AtomicInteger();
+        AtomicInteger transportErrors = new AtomicInteger();
+
+        StompSessionHandlerAdapter handler = new StompSessionHandlerAdapter() {
+            @Override
+            public void handleTransportError(StompSession session, Throwable exception) {
+                transportErrors.incrementAndGet();
+            }
+        };
+
+        long startedAt = System.nanoTime();
+        for (int c = 0; c < CONNECTIONS; c++) {
+            StompSession session = stompClient.connectAsync(url, handler).get(10, TimeUnit.SECONDS);
+            session.setAutoReceipt(true);
+            sessions.add(session);
+
+            for (int s = 0; s < SUBSCRIPTIONS_PER_CONNECTION; s++) {
+                long calendarId = ((long) c * SUBSCRIPTIONS_PER_CONNECTION + s) % CALENDAR_SPREAD + 1;
+                StompHeaders headers = new StompHeaders();
+                headers.setDestination("/topic/team/" + calendarId);
+
+                StompSession.Receiptable receiptable = session.subscribe(headers, handler);
+                receiptable.addReceiptTask(receipts::countDown);
+                receiptable.addReceiptLostTask(() -> {
+                    lostReceipts.incrementAndGet();
+                    receipts.countDown();
+                });
+            }
+        }
+
+        assertTrue(receipts.await(60, TimeUnit.SECONDS), "구독 receipt 대기 시간 초과");
+        long subscribeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        System.out.printf("subscriptions=%d connections=%d elapsed=%dms lostReceipts=%d%n",
+                total, CONNECTIONS, subscribeMillis, lostReceipts.get());
+
+        assertEquals(0, lostReceipts.get(), "receipt 를 받지 못한 구독이 있음");
+
+        TimeUnit.SECONDS.sleep(HOLD_SECONDS);
+
+        long connected = sessions.stream().filter(StompSession::isConnected).count();
+        assertEquals(CONNECTIONS, connected, "유지 기간 중 끊긴 연결이 있음");
+        assertEquals(0, transportErrors.get(), "transport 오류 발생");
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value);
+    }
+}
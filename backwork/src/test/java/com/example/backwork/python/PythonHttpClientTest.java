@@ -0,0 +1,183 @@
+package com.example.backwork.python;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 로컬 스텁 서버(JDK HttpServer)로 timeout / 회로 차단 / bulkhead 동작 확인
+class PythonHttpClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger failHits = new AtomicInteger();
+    private final CountDownLatch releaseBlocked = new CountDownLatch(1);
+    private final CountDownLatch blockedArrived = new CountDownLatch(1);
+
+    private HttpServer server;
+    private PythonHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/ok", exchange -> respond(exchange, 200, "{\"answer\":\"hi\"}"));
+        server.createContext("/stream", exchange -> respond(exchange, 200,
+                "{\"type\":\"sources\"}\n{\"type\":\"delta\",\"text\":\"안녕\"}\n\n{\"type\":\"done\"}\n"));
+        server.createContext("/stream-error", exchange -> respond(exchange, 200,
+                "{\"type\":\"sources\"}\n{\"type\":\"error\",\"message\":\"embedding failed\"}\n"));
+        server.createContext("/slow", exchange -> {
+            sleep(1000);
+            respond(exchange, 200, "{}");
+        });
+        server.createContext("/fail", exchange -> {
+            failHits.incrementAndGet();
+            respond(exchange, 500, "{}");
+        });
+        server.createContext("/blocked", exchange -> {
+            blockedArrived.countDown();
+            await(releaseBlocked);
+            respond(exchange, 200, "{}");
+        });
+        server.start();
+
+        client = new PythonHttpClient(meterRegistry, JsonMapper.builder().build());
+        ReflectionTestUtils.setField(client, "pythonApiBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "internalApiToken", "test-token");
+        ReflectionTestUtils.setField(client, "connectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(client, "bulkheadWaitMs", 0L);
+        ReflectionTestUtils.setField(client, "failureThreshold", 2);
+        ReflectionTestUtils.setField(client, "circuitOpenMs", 60000L);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocked.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void posts_json_and_records_latency() {
+        PythonEndpoint endpoint = client.endpoint("ok", "/ok", Duration.ofSeconds(2), 4);
+
+        Map<?, ?> body = endpoint.post(Map.of("question", "q"), Map.class);
+
+        assertEquals("hi", body.get("answer"));
+        assertEquals(1L, meterRegistry.timer("python.api.requests", "endpoint", "ok", "outcome", "success").count());
+    }
+
+    @Test
+    void stream_delivers_ndjson_lines_in_order() {
+        PythonEndpoint endpoint = client.endpoint("stream", "/stream", Duration.ofSeconds(2), 4);
+        List<String> lines = new ArrayList<>();
+
+        endpoint.stream(Map.of("question", "q"), lines::add);
+
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1).contains("안녕"));
+        assertEquals(1L, meterRegistry.timer("python.api.requests", "endpoint", "stream", "outcome", "success").count());
+    }
+
+    @Test
+    void stream_error_line_counts_as_failure() {
+        PythonEndpoint endpoint = client.endpoint("stream-error", "/stream-error", Duration.ofSeconds(2), 4);
+        Consumer<String> handler = line -> {
+            if (line.contains("\"error\"")) {
+                throw new PythonStreamErrorException("embedding failed");
+            }
+        };
+
+        assertThrows(PythonStreamErrorException.class, () -> endpoint.stream(Map.of(), handler));
+        assertThrows(PythonStreamErrorException.class, () -> endpoint.stream(Map.of(), handler));
+
+        assertTrue(endpoint.isOpen());
+        assertEquals(2L, meterRegistry.timer("python.api.requests", "endpoint", "stream-error", "outcome", "server_error").count());
+    }
+
+    @Test
+    void read_timeout_fails_fast() {
+        PythonEndpoint endpoint = client.endpoint("slow", "/slow", Duration.ofMillis(100), 4);
+
+        long startedAt = System.nanoTime();
+        assertThrows(ResourceAccessException.class, () -> endpoint.post(Map.of(), Map.class));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 900);
+        assertEquals(1L, meterRegistry.timer("python.api.requests", "endpoint", "slow", "outcome", "io_error").count());
+    }
+
+    @Test
+    void circuit_opens_after_consecutive_failures() {
+        PythonEndpoint endpoint = client.endpoint("fail", "/fail", Duration.ofSeconds(2), 4);
+
+        assertThrows(HttpServerErrorException.class, () -> endpoint.post(Map.of(), Map.class));
+        assertThrows(HttpServerErrorException.class, () -> endpoint.post(Map.of(), Map.class));
+        assertThrows(PythonApiUnavailableException.class, () -> endpoint.post(Map.of(), Map.class));
+
+        assertTrue(endpoint.isOpen());
+        assertEquals(2, failHits.get());
+        assertEquals(1.0, meterRegistry.counter("python.api.rejected", "endpoint", "fail", "reason", "circuit_open").count());
+    }
+
+    @Test
+    void bulkhead_rejects_calls_over_limit() throws Exception {
+        PythonEndpoint endpoint = client.endpoint("blocked", "/blocked", Duration.ofSeconds(5), 1);
+
+        CompletableFuture<Map> first = CompletableFuture.supplyAsync(() -> endpoint.post(Map.of(), Map.class));
+        assertTrue(blockedArrived.await(2, TimeUnit.SECONDS));
+
+        assertThrows(PythonApiUnavailableException.class, () -> endpoint.post(Map.of(), Map.class));
+
+        releaseBlocked.countDown();
+        first.get(2, TimeUnit.SECONDS);
+        assertEquals(1.0, meterRegistry.counter("python.api.rejected", "endpoint", "blocked", "reason", "bulkhead").count());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.backwork.rag;
+
+import com.example.backwork.rag.internal.PythonIngestRequest;
+import com.example.backwork.rag.internal.PythonIngestResponse;
+import com.example.backwork.teamsch.event.ScheduleEventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IngestJobWorkerTest {
+
+    private IngestJobStore ingestJobStore;
+    private PythonRagClient pythonRagClient;
+    private ScheduleEventPublisher scheduleEventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private IngestJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        ingestJobStore = mock(IngestJobStore.class);
+        pythonRagClient = mock(PythonRagClient.class);
+        scheduleEventPublisher = mock(ScheduleEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new IngestJobWorker(ingestJobStore, pythonRagClient, scheduleEventPublisher, meterRegistry);
+        ReflectionTestUtils.setField(worker, "enabled", false);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "backoffBaseMs", 1000L);
+        ReflectionTestUtils.setField(worker, "backoffMaxMs", 10000L);
+        worker.start();
+    }
+
+    @Test
+    void success_marks_ready_and_pushes_status_to_team_topic() {
+        when(pythonRagClient.ingest(any())).thenReturn(new PythonIngestResponse("SUCCESS", 10L, 12));
+
+        worker.process(job(1, true));
+
+        verify(ingestJobStore).markSucceeded(1L, 12);
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(scheduleEventPublisher, atLeastOnce()).publishStatus(eq(7L), payload.capture());
+        Map<?, ?> last = (Map<?, ?>) payload.getValue();
+        assertEquals(IngestJobWorker.STATUS_ACTION, last.get("action"));
+        assertEquals("READY", last.get("status"));
+        assertEquals(1.0, meterRegistry.counter("rag.ingest.jobs", "result", "success").count());
+    }
+
+    @Test
+    void transient_failure_is_requeued_with_backoff() {
+        when(pythonRagClient.ingest(any())).thenThrow(new ResourceAccessException("timeout"));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.process(job(2, false));
+
+        ArgumentCaptor<LocalDateTime> nextAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(ingestJobStore).scheduleRetry(eq(1L), anyString(), nextAt.capture());
+        verify(ingestJobStore, never()).markFailed(anyLong(), anyString());
+        // attempts=2 → 2000ms 상한, 절반 이상은 고정
+        assertTrue(!nextAt.getValue().isBefore(before.plusSeconds(1)));
+        verify(scheduleEventPublisher, never()).publishStatus(any(), any());
+    }
+
+    @Test
+    void exhausted_attempts_or_client_error_fail_immediately() {
+        when(pythonRagClient.ingest(any())).thenThrow(new ResourceAccessException("timeout"));
+        worker.process(job(3, false));
+
+        when(pythonRagClient.ingest(any())).thenThrow(HttpClientErrorException.create(
+                HttpStatus.BAD_REQUEST, "bad", null, null, null));
+        worker.process(job(1, false));
+
+        verify(ingestJobStore, never()).scheduleRetry(anyLong(), anyString(), any());
+        assertEquals(2.0, meterRegistry.counter("rag.ingest.jobs", "result", "failed").count());
+    }
+
+    @Test
+    void backoff_grows_exponentially_and_is_capped() {
+        for (int i = 0; i < 50; i++) {
+            Duration first = worker.backoff(1);
+            Duration capped = worker.backoff(30);
+            assertTrue(first.toMillis() >= 500 && first.toMillis() <= 1000);
+            assertTrue(capped.toMillis() >= 5000 && capped.toMillis() <= 10000);
+        }
+    }
+
+    private IngestJobStore.ClaimedIngestJob job(int attempts, boolean teamCalendar) {
+        return new IngestJobStore.ClaimedIngestJob(
+                1L,
+                10L,
+                7L,
+                teamCalendar,
+                attempts,
+                new PythonIngestRequest(10L, 3L, 7L, "raw", "key", "vec", "idx", "model", List.of())
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.backwork.rag;
+
+import com.example.backwork.rag.dto.ChatQueryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RagAnswerCacheTest {
+
+    private RagAnswerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RagAnswerCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        cache.init();
+    }
+
+    @Test
+    void same_question_with_different_spacing_hits_cache() {
+        AtomicInteger loads = new AtomicInteger();
+        List<RagDocument> docs = List.of(document(2L), document(1L));
+
+        cache.getOrLoad(RagAnswerCache.keyOf(5L, docs, "이번 달 회의 요약", 6), () -> load(loads, "요약"));
+        ChatQueryResponse second = cache.getOrLoad(
+                RagAnswerCache.keyOf(5L, List.of(document(1L), document(2L)), "  이번  달 회의 요약? ", 6),
+                () -> load(loads, "다른 답"));
+
+        assertEquals("요약", second.answer());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void reindexed_document_or_evicted_calendar_misses() {
+        AtomicInteger loads = new AtomicInteger();
+        RagDocument doc = document(1L);
+
+        cache.getOrLoad(RagAnswerCache.keyOf(5L, List.of(doc), "q", 6), () -> load(loads, "a"));
+        doc.markReady(3);
+        cache.getOrLoad(RagAnswerCache.keyOf(5L, List.of(doc), "q", 6), () -> load(loads, "a"));
+        cache.evictCalendar(5L);
+        cache.getOrLoad(RagAnswerCache.keyOf(5L, List.of(doc), "q", 6), () -> load(loads, "a"));
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void missing_answer_is_not_cached() {
+        AtomicInteger loads = new AtomicInteger();
+        RagAnswerCache.AnswerKey key = RagAnswerCache.keyOf(5L, List.of(document(1L)), "q", 6);
+
+        cache.getOrLoad(key, () -> load(loads, null));
+        cache.getOrLoad(key, () -> load(loads, null));
+
+        assertEquals(2, loads.get());
+    }
+
+    private ChatQueryResponse load(AtomicInteger loads, String answer) {
+        loads.incrementAndGet();
+        return new ChatQueryResponse(answer, List.of());
+    }
+
+    private RagDocument document(Long id) {
+        RagDocument document = new RagDocument(null, null, "doc", "raw", "key", "text/plain", null,
+                "private", "vec", "idx", "model");
+        ReflectionTestUtils.setField(document, "id", id);
+        return document;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.backwork.schedule.export;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.entity.ScheduleOccurrence;
+import com.example.backwork.schedule.repository.ScheduleOccurrenceRepository;
+import com.example.backwork.schedule.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// page-size 를 작게 잡아 keyset 페이지 경계(같은 시작 시각 포함)를 여러 번 넘기게 한다.
+@SpringBootTest(properties = "app.schedule-export.page-size=3")
+@ActiveProfiles("test")
+@Transactional
+class ScheduleExportServiceTest {
+
+    private static final LocalDateTime RANGE_START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime RANGE_END = LocalDateTime.of(2026, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private ScheduleExportService scheduleExportService;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CalendarRepository calendarRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+
+    private User user;
+    private Calendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("export-user", "pw"));
+        calendar = calendarRepository.save(new Calendar("team", "TEAM", user));
+
+        save(user, "crossing", LocalDateTime.of(2025, 12, 30, 9, 0), LocalDateTime.of(2026, 1, 2, 9, 0));
+        save(user, "outside", LocalDateTime.of(2025, 11, 1, 9, 0), null);
+        // 같은 시작 시각 4건 → 페이지 경계에서 id 로 이어져야 함
+        for (int i = 0; i < 4; i++) {
+            save(user, "same-" + i, LocalDateTime.of(2026, 3, 1, 9, 0), null);
+        }
+        save(user, "last", LocalDateTime.of(2026, 12, 31, 18, 0), null);
+
+        Schedule weekly = new Schedule(calendar, user, "weekly; standup", null,
+                LocalDateTime.of(2025, 6, 2, 10, 0), LocalDateTime.of(2025, 6, 2, 10, 30), null, 2);
+        weekly.applyRecurrence("FREQ=WEEKLY;BYDAY=MO", null);
+        scheduleRepository.save(weekly);
+
+        entityManager.flush();
+    }
+
+    @Test
+    void ndjson_export_pages_through_range_in_start_order() throws Exception {
+        List<String> lines = Arrays.asList(export(ScheduleExportFormat.NDJSON).split("\n"));
+
+        assertEquals(7, lines.size());
+        assertTrue(lines.get(0).contains("\"weekly; standup\""));
+        assertTrue(lines.get(0).contains("\"exceptions\":[]"));
+        assertTrue(lines.get(1).contains("\"crossing\""));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(lines.get(2 + i).contains("\"same-" + i + "\""));
+        }
+        assertTrue(lines.get(6).contains("\"last\""));
+    }
+
+    @Test
+    void ics_export_keeps_recurrence_rule_and_escapes_text() throws Exception {
+        String ics = export(ScheduleExportFormat.ICS);
+
+        assertTrue(ics.startsWith("BEGIN:VCALENDAR\r\n"));
+        assertTrue(ics.endsWith("END:VCALENDAR\r\n"));
+        assertEquals(7, ics.split("BEGIN:VEVENT", -1).length - 1);
+        assertTrue(ics.contains("RRULE:FREQ=WEEKLY;BYDAY=MO\r\n"));
+        assertTrue(ics.contains("SUMMARY:weekly\\; standup\r\n"));
+        assertTrue(ics.contains("DTSTART:20251230T090000\r\n"));
+    }
+
+    @Test
+    void ics_export_writes_date_time_until_and_keeps_duration_for_moved_occurrence() throws Exception {
+        Schedule daily = new Schedule(calendar, user, "daily", null,
+                LocalDateTime.of(2026, 5, 4, 9, 0), LocalDateTime.of(2026, 5, 4, 9, 45), null, 2);
+        daily.applyRecurrence("FREQ=DAILY;UNTIL=20260508", LocalDateTime.of(2026, 5, 8, 23, 59, 59));
+        scheduleRepository.save(daily);
+        ScheduleOccurrence moved = new ScheduleOccurrence(daily.getId(), LocalDateTime.of(2026, 5, 6, 9, 0));
+        moved.override(null, null, LocalDateTime.of(2026, 5, 6, 13, 0), null);
+        scheduleOccurrenceRepository.save(moved);
+        entityManager.flush();
+
+        String ics = export(ScheduleExportFormat.ICS);
+
+        // DTSTART 가 DATE-TIME 이므로 UNTIL 도 DATE-TIME
+        assertTrue(ics.contains("RRULE:FREQ=DAILY;UNTIL=20260508T235959\r\n"));
+        assertTrue(ics.contains("RECURRENCE-ID:20260506T090000\r\nDTSTART:20260506T130000\r\nDTEND:20260506T134500\r\n"));
+    }
+
+    @Test
+    void owned_export_matches_personal_month_view_scope() throws Exception {
+        Calendar personal = calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+        scheduleRepository.save(new Schedule(personal, user, "personal", null,
+                LocalDateTime.of(2026, 4, 1, 9, 0), null, null, 2));
+        entityManager.flush();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scheduleExportService.export(
+                ScheduleExportService.Scope.OWNER, user.getId(), RANGE_START, RANGE_END, ScheduleExportFormat.NDJSON, out);
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+
+        // 작성자 기준: 개인 캘린더 일정 + 내가 만든 팀 일정
+        assertEquals(8, ndjson.split("\n").length);
+        assertTrue(ndjson.contains("\"personal\""));
+        assertTrue(ndjson.contains("\"crossing\""));
+    }
+
+    private String export(ScheduleExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        scheduleExportService.export(calendar.getId(), RANGE_START, RANGE_END, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private void save(User user, String title, LocalDateTime startAt, LocalDateTime endAt) {
+        scheduleRepository.save(new Schedule(calendar, user, title, null, startAt, endAt, null, 2));
+    }
+}
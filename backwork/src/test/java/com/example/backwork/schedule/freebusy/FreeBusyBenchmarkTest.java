@@ -0,0 +1,147 @@
+package com.example.backwork.schedule.freebusy;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.calendar.share.RoleRw;
+import com.example.backwork.calendar.share.ShareMember;
+import com.example.backwork.calendar.share.ShareMemberRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.repository.ScheduleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+    free/busy 집계 비교 (기본 실행 제외)
+    FREE_BUSY_BENCH=true ./gradlew test --tests '*FreeBusyBenchmarkTest'
+
+    데이터: 팀원 50명 x 1년 (개인 캘린더 평일 2건 + 공유 팀 캘린더 매일 1건)
+    before : 멤버 x 캘린더 x 월 단위 월 화면 조회 후 애플리케이션에서 병합 (클라이언트가 하던 방식)
+    after  : FreeBusyService 한 번의 조회 + sweep 병합
+ */
+@EnabledIfEnvironmentVariable(named = "FREE_BUSY_BENCH", matches = "true")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FreeBusyBenchmarkTest {
+
+    private static final int MEMBERS = 50;
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 12, 31);
+    private static final String INSERT_SQL = "INSERT INTO schedule " +
+            "(id, version, calendar_id, created_by, title, start_datetime, end_datetime, priority, created_at) " +
+            "VALUES (?, 0, ?, ?, 'bench', ?, ?, 2, ?)";
+
+    @Autowired
+    private FreeBusyService freeBusyService;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CalendarRepository calendarRepository;
+    @Autowired
+    private ShareMemberRepository shareMemberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long nextId = 50_000_000L;
+
+    @Test
+    void single_query_free_busy_outperforms_per_month_fetches() {
+        List<User> members = new ArrayList<>();
+        List<Calendar> personals = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            User user = userRepository.save(new User("free-busy-bench-" + i, "pw"));
+            members.add(user);
+            personals.add(calendarRepository.save(new Calendar("개인", "PERSONAL", user)));
+        }
+        Calendar team = calendarRepository.save(new Calendar("팀", "TEAM", members.get(0)));
+        for (int i = 1; i < MEMBERS; i++) {
+            shareMemberRepository.save(new ShareMember(team.getId(), members.get(i).getId(), RoleRw.WRITE));
+        }
+        calendarRepository.flush();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (LocalDate day = FROM; !day.isAfter(TO); day = day.plusDays(1)) {
+            rows.add(row(team, members.get(0), day.atTime(16, 0), Duration.ofHours(1)));
+            if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                continue;
+            }
+            for (int i = 0; i < MEMBERS; i++) {
+                rows.add(row(personals.get(i), members.get(i), day.atTime(9 + i % 3, 0), Duration.ofMinutes(90)));
+                rows.add(row(personals.get(i), members.get(i), day.atTime(13, 30), Duration.ofMinutes(45)));
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        List<Long> memberIds = members.stream().map(User::getId).toList();
+
+        // 워밍업
+        freeBusyService.compute(memberIds, FROM, TO);
+        perMonthFetch(members, personals, team);
+
+        long beforeNanos = timed(() -> perMonthFetch(members, personals, team));
+        long[] afterResult = new long[1];
+        long afterNanos = timed(() -> afterResult[0] = freeBusyService.compute(memberIds, FROM, TO).members().size());
+
+        System.out.printf("schedules=%d before(per-month)=%d ms after(free/busy)=%d ms%n",
+                rows.size(), TimeUnit.NANOSECONDS.toMillis(beforeNanos), TimeUnit.NANOSECONDS.toMillis(afterNanos));
+        assertEquals(MEMBERS, afterResult[0]);
+        assertTrue(afterNanos < beforeNanos, "single query free/busy should be faster");
+    }
+
+    private void perMonthFetch(List<User> members, List<Calendar> personals, Calendar team) {
+        for (int i = 0; i < members.size(); i++) {
+            List<int[]> intervals = new ArrayList<>();
+            for (YearMonth month = YearMonth.from(FROM); !month.isAfter(YearMonth.from(TO)); month = month.plusMonths(1)) {
+                LocalDateTime start = month.atDay(1).atStartOfDay();
+                LocalDateTime end = month.atEndOfMonth().atTime(23, 59, 59);
+                for (Long calendarId : List.of(personals.get(i).getId(), team.getId())) {
+                    for (ScheduleResponse schedule : scheduleRepository.findMonthViewByCalendarId(calendarId, start, end)) {
+                        int from = (int) Duration.between(FROM.atStartOfDay(), schedule.getStartAt()).toMinutes();
+                        int to = (int) Duration.between(FROM.atStartOfDay(), schedule.getEndAt()).toMinutes();
+                        intervals.add(new int[]{from, to});
+                    }
+                }
+            }
+            FreeBusyService.merge(intervals);
+        }
+    }
+
+    private Object[] row(Calendar calendar, User owner, LocalDateTime startAt, Duration duration) {
+        return new Object[]{
+                nextId++,
+                calendar.getId(),
+                owner.getId(),
+                Timestamp.valueOf(startAt),
+                Timestamp.valueOf(startAt.plus(duration)),
+                Timestamp.valueOf(startAt)
+        };
+    }
+
+    private long timed(Runnable work) {
+        long startedAt = System.nanoTime();
+        work.run();
+        return System.nanoTime() - startedAt;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backwork.schedule.freebusy;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.calendar.share.RoleRw;
+import com.example.backwork.calendar.share.ShareMember;
+import com.example.backwork.calendar.share.ShareMemberRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FreeBusyServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private FreeBusyService freeBusyService;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CalendarRepository calendarRepository;
+    @Autowired
+    private ShareMemberRepository shareMemberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void merges_personal_and_shared_team_calendars_per_member() {
+        User owner = userRepository.save(new User("free-busy-owner", "pw"));
+        User member = userRepository.save(new User("free-busy-member", "pw"));
+        Calendar ownerPersonal = calendarRepository.save(new Calendar("개인", "PERSONAL", owner));
+        Calendar memberPersonal = calendarRepository.save(new Calendar("개인", "PERSONAL", member));
+        Calendar team = calendarRepository.save(new Calendar("팀", "TEAM", owner));
+        shareMemberRepository.save(new ShareMember(team.getId(), member.getId(), RoleRw.WRITE));
+
+        // 팀 09:00-10:00 + 개인 09:30-11:00 → 09:00-11:00 하나로
+        save(team, owner, at(9, 0), at(10, 0));
+        save(ownerPersonal, owner, at(9, 30), at(11, 0));
+        // member 개인: 맞닿은 두 구간 → 13:00-15:00, 종료 없는 일정 → 기본 60분
+        save(memberPersonal, member, at(13, 0), at(14, 0));
+        save(memberPersonal, member, at(14, 0), at(15, 0));
+        save(memberPersonal, member, at(17, 0), null);
+        // 다른 날
+        save(memberPersonal, member, at(9, 0).plusDays(1), at(10, 0).plusDays(1));
+
+        entityManager.flush();
+
+        FreeBusyResponse response = freeBusyService.compute(List.of(owner.getId(), member.getId()), DAY, DAY);
+
+        assertArrayEquals(new int[]{540, 660}, response.members().get(0).busy());
+        assertArrayEquals(new int[]{540, 600, 780, 900, 1020, 1080}, response.members().get(1).busy());
+    }
+
+    @Test
+    void merge_sweeps_unsorted_and_nested_intervals() {
+        int[] merged = FreeBusyService.merge(List.of(
+                new int[]{50, 60},
+                new int[]{0, 10},
+                new int[]{5, 20},
+                new int[]{52, 55},
+                new int[]{20, 30}
+        ));
+
+        assertArrayEquals(new int[]{0, 30, 50, 60}, merged);
+    }
+
+    private LocalDateTime at(int hour, int minute) {
+        return DAY.atTime(hour, minute);
+    }
+
+    private void save(Calendar calendar, User user, LocalDateTime startAt, LocalDateTime endAt) {
+        scheduleRepository.save(new Schedule(calendar, user, "busy", null, startAt, endAt, null, 2));
+    }
+}
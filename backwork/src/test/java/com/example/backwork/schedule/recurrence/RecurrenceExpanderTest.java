@@ -0,0 +1,115 @@
+package com.example.backwork.schedule.recurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecurrenceExpanderTest {
+
+    private static final LocalDateTime FEB_START = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final LocalDateTime FEB_END = LocalDateTime.of(2026, 2, 28, 23, 59, 59);
+
+    @Test
+    void weekly_by_day_expands_only_requested_month() {
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;BYDAY=WE,MO");
+
+        List<RecurrenceExpander.Occurrence> occurrences = RecurrenceExpander.expand(
+                LocalDateTime.of(2026, 1, 5, 10, 0),
+                LocalDateTime.of(2026, 1, 5, 11, 0),
+                rule,
+                FEB_START,
+                FEB_END
+        );
+
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,WE", rule.format());
+        assertEquals(List.of(2, 4, 9, 11, 16, 18, 23, 25), occurrences.stream()
+                .map(occurrence -> occurrence.startAt().getDayOfMonth())
+                .toList());
+        assertEquals(LocalDateTime.of(2026, 2, 2, 11, 0), occurrences.get(0).endAt());
+    }
+
+    @Test
+    void long_running_daily_series_jumps_to_window() {
+        List<RecurrenceExpander.Occurrence> occurrences = RecurrenceExpander.expand(
+                LocalDateTime.of(2000, 1, 1, 9, 0),
+                null,
+                RecurrenceRule.parse("FREQ=DAILY"),
+                FEB_START,
+                FEB_END
+        );
+
+        assertEquals(28, occurrences.size());
+        assertEquals(LocalDateTime.of(2026, 2, 1, 9, 0), occurrences.get(0).startAt());
+        assertNull(occurrences.get(0).endAt());
+    }
+
+    @Test
+    void count_stops_series_inside_window() {
+        List<RecurrenceExpander.Occurrence> occurrences = RecurrenceExpander.expand(
+                LocalDateTime.of(2026, 1, 30, 9, 0),
+                null,
+                RecurrenceRule.parse("FREQ=DAILY;COUNT=3"),
+                FEB_START,
+                FEB_END
+        );
+
+        assertEquals(List.of(LocalDateTime.of(2026, 2, 1, 9, 0)), occurrences.stream()
+                .map(RecurrenceExpander.Occurrence::startAt)
+                .toList());
+    }
+
+    @Test
+    void monthly_skips_months_without_start_day() {
+        List<RecurrenceExpander.Occurrence> occurrences = RecurrenceExpander.expand(
+                LocalDateTime.of(2026, 1, 31, 9, 0),
+                null,
+                RecurrenceRule.parse("FREQ=MONTHLY;UNTIL=20260630"),
+                LocalDateTime.of(2026, 1, 1, 0, 0),
+                LocalDateTime.of(2026, 12, 31, 23, 59, 59)
+        );
+
+        assertEquals(List.of(1, 3, 5), occurrences.stream()
+                .map(occurrence -> occurrence.startAt().getMonthValue())
+                .toList());
+    }
+
+    @Test
+    void multi_day_occurrence_started_before_window_is_included() {
+        List<RecurrenceExpander.Occurrence> occurrences = RecurrenceExpander.expand(
+                LocalDateTime.of(2026, 1, 30, 10, 0),
+                LocalDateTime.of(2026, 2, 2, 10, 0),
+                RecurrenceRule.parse("FREQ=WEEKLY"),
+                FEB_START,
+                FEB_END
+        );
+
+        assertEquals(5, occurrences.size());
+        assertEquals(LocalDateTime.of(2026, 1, 30, 10, 0), occurrences.get(0).startAt());
+    }
+
+    @Test
+    void series_last_end_follows_count() {
+        LocalDateTime lastEnd = RecurrenceExpander.seriesLastEnd(
+                LocalDateTime.of(2026, 2, 2, 10, 0),
+                LocalDateTime.of(2026, 2, 2, 11, 0),
+                RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE;COUNT=3")
+        );
+
+        assertEquals(LocalDateTime.of(2026, 2, 9, 11, 0), lastEnd);
+        assertNull(RecurrenceExpander.seriesLastEnd(
+                LocalDateTime.of(2026, 2, 2, 10, 0), null, RecurrenceRule.parse("FREQ=DAILY")));
+    }
+
+    @Test
+    void parse_rejects_invalid_rules() {
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20261231"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+        assertNull(RecurrenceRule.parse(" "));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.backwork.schedule.service;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.schedule.dto.ScheduleSlot;
+import com.example.backwork.schedule.entity.Schedule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+    일정 bulk insert 처리량 비교 (실제 MySQL 필요, 기본 실행 제외)
+    BATCH_BENCH_MYSQL_URL='jdbc:mysql://localhost:3306/backwork_bench?user=..&password=..' \
+      ./gradlew test --tests '*ScheduleBulkInsertBenchmarkTest*'
+
+    실제 Schedule 엔티티 매핑으로 createAllFromAssistant(saveAll) 를 그대로 호출한다.
+    before : id 만 IDENTITY 로 되돌린 매핑 (bench/schedule-identity-orm.xml) → 행마다 INSERT 즉시 실행
+    after  : 현재 매핑 (id_generator 50개 선점) + hibernate.jdbc.batch_size + rewriteBatchedStatements=true
+    ddl-auto=create 로 테이블을 다시 만들므로 비어 있는 벤치용 스키마에서만 실행할 것
+ */
+@EnabledIfEnvironmentVariable(named = "BATCH_BENCH_MYSQL_URL", matches = ".+")
+class ScheduleBulkInsertBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROWS = 200;
+
+    private static final String MYSQL_PROPERTIES = """
+            spring.datasource.url=${BATCH_BENCH_MYSQL_URL}
+            spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver
+            spring.datasource.username=
+            spring.datasource.password=
+            spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect
+            spring.jpa.hibernate.ddl-auto=create
+            spring.jpa.show-sql=false
+            spring.jpa.properties.hibernate.format_sql=false
+            """;
+
+    // rows/s (before, after)
+    private static final Map<String, Double> THROUGHPUT = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void after_is_faster_than_before() {
+        assertEquals(2, THROUGHPUT.size(), "before/after 둘 다 측정되어야 합니다.");
+        double before = THROUGHPUT.get("before");
+        double after = THROUGHPUT.get("after");
+        System.out.printf("schedule saveAll rows=%d before(IDENTITY)=%.0f rows/s after(id_generator+batch)=%.0f rows/s (x%.1f)%n",
+                ROWS, before, after, after / before);
+        assertTrue(after > before, "batched insert should be faster");
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            MYSQL_PROPERTIES,
+            "spring.jpa.mapping-resources=bench/schedule-identity-orm.xml",
+            "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=false"
+    })
+    @ActiveProfiles("test")
+    class IdentityBefore extends BenchmarkRun {
+
+        @Test
+        void identity_inserts_row_by_row() {
+            THROUGHPUT.put("before", measure("bench-identity"));
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            MYSQL_PROPERTIES,
+            "spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true"
+    })
+    @ActiveProfiles("test")
+    class PooledIdAfter extends BenchmarkRun {
+
+        @Test
+        void pooled_ids_insert_in_rewritten_batches() {
+            THROUGHPUT.put("after", measure("bench-pooled"));
+        }
+    }
+
+    abstract static class BenchmarkRun {
+
+        @Autowired
+        private ScheduleService scheduleService;
+        @Autowired
+        private UserRepository userRepository;
+        @Autowired
+        private CalendarRepository calendarRepository;
+
+        double measure(String userid) {
+            User user = userRepository.save(new User(userid, "pw"));
+            calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+
+            // 커넥션 풀 / statement 캐시 / id_generator 첫 할당을 측정 밖에서
+            scheduleService.createAllFromAssistant(user.getId(), "warmup", null, slots(WARMUP_ROWS));
+
+            List<ScheduleSlot> slots = slots(ROWS);
+            long startedAt = System.nanoTime();
+            List<Schedule> created = scheduleService.createAllFromAssistant(user.getId(), "bench", null, slots);
+            long elapsed = System.nanoTime() - startedAt;
+
+            assertEquals(ROWS, created.size());
+            return ROWS / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        private List<ScheduleSlot> slots(int count) {
+            List<ScheduleSlot> slots = new ArrayList<>(count);
+            LocalDateTime day = LocalDateTime.of(2026, 1, 1, 9, 0);
+            for (int i = 0; i < count; i++) {
+                LocalDateTime start = day.plusDays(i % 365);
+                slots.add(new ScheduleSlot(start, start.plusHours(1)));
+            }
+            return slots;
+        }
+    }
+}
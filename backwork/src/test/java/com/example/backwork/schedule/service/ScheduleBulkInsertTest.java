@@ -0,0 +1,67 @@
+package com.example.backwork.schedule.service;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.schedule.dto.ScheduleSlot;
+import com.example.backwork.schedule.entity.Schedule;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ScheduleBulkInsertTest {
+
+    private static final int SCHEDULE_COUNT = 120;
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CalendarRepository calendarRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void bulk_create_sends_inserts_in_jdbc_batches() {
+        User user = userRepository.save(new User("bulk-insert-user", "pw"));
+        calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+        entityManager.flush();
+
+        List<ScheduleSlot> slots = new ArrayList<>();
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        for (int i = 0; i < SCHEDULE_COUNT; i++) {
+            slots.add(new ScheduleSlot(day.plusDays(i).atStartOfDay(), day.plusDays(i).atTime(23, 59, 59)));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<Schedule> created = scheduleService.createAllFromAssistant(user.getId(), "bulk", null, slots);
+        entityManager.flush();
+
+        assertEquals(SCHEDULE_COUNT, created.size());
+        assertEquals(SCHEDULE_COUNT, statistics.getEntityInsertCount());
+        // IDENTITY 였다면 insert 만 120건. batch_size=50 → insert 3회 + 캘린더 조회/id 블록 할당 몇 건
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "prepared statements = " + statistics.getPrepareStatementCount());
+    }
+}
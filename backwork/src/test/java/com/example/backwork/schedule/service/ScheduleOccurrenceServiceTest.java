@@ -0,0 +1,73 @@
+package com.example.backwork.schedule.service;
+
+import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.entity.ScheduleOccurrence;
+import com.example.backwork.schedule.repository.ScheduleOccurrenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleOccurrenceServiceTest {
+
+    private ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    private ScheduleOccurrenceService scheduleOccurrenceService;
+    private Schedule weekly;
+
+    @BeforeEach
+    void setUp() {
+        scheduleOccurrenceRepository = mock(ScheduleOccurrenceRepository.class);
+        when(scheduleOccurrenceRepository.save(any(ScheduleOccurrence.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        scheduleOccurrenceService = new ScheduleOccurrenceService(scheduleOccurrenceRepository);
+
+        // 2026-03-02(월) ~ 4회, 마지막 회차 03-23 10:00~11:00
+        weekly = new Schedule(null, null, "weekly", null,
+                LocalDateTime.of(2026, 3, 2, 10, 0), LocalDateTime.of(2026, 3, 2, 11, 0), null, 2);
+        scheduleOccurrenceService.applyRule(weekly, "FREQ=WEEKLY;BYDAY=MO;COUNT=4");
+    }
+
+    @Test
+    void override_within_series_bounds_is_saved() {
+        scheduleOccurrenceService.override(weekly, LocalDateTime.of(2026, 3, 9, 10, 0), "moved", null,
+                LocalDateTime.of(2026, 3, 10, 14, 0), LocalDateTime.of(2026, 3, 10, 15, 0));
+
+        ArgumentCaptor<ScheduleOccurrence> saved = ArgumentCaptor.forClass(ScheduleOccurrence.class);
+        verify(scheduleOccurrenceRepository).save(saved.capture());
+        assertEquals(LocalDateTime.of(2026, 3, 10, 14, 0), saved.getValue().getStartAt());
+    }
+
+    @Test
+    void override_before_series_start_is_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> scheduleOccurrenceService.override(
+                weekly, LocalDateTime.of(2026, 3, 2, 10, 0), null, null,
+                LocalDateTime.of(2026, 2, 27, 10, 0), LocalDateTime.of(2026, 2, 27, 11, 0)));
+
+        verify(scheduleOccurrenceRepository, never()).save(any());
+    }
+
+    @Test
+    void override_past_recurrence_end_is_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> scheduleOccurrenceService.override(
+                weekly, LocalDateTime.of(2026, 3, 23, 10, 0), null, null,
+                LocalDateTime.of(2026, 3, 30, 10, 0), LocalDateTime.of(2026, 3, 30, 11, 0)));
+
+        verify(scheduleOccurrenceRepository, never()).save(any());
+    }
+
+    @Test
+    void override_without_end_uses_series_duration_for_bounds() {
+        // 시작만 23:30 으로 옮기면 원래 길이(1시간)만큼 마지막 발생(03-23 11:00) 이후로 넘어간다.
+        assertThrows(IllegalArgumentException.class, () -> scheduleOccurrenceService.override(
+                weekly, LocalDateTime.of(2026, 3, 23, 10, 0), null, null,
+                LocalDateTime.of(2026, 3, 23, 23, 30), null));
+    }
+}
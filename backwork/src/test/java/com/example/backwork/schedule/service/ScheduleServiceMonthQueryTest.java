@@ -0,0 +1,187 @@
+package com.example.backwork.schedule.service;
+
+import com.example.backwork.calendar.Calendar;
+import com.example.backwork.calendar.CalendarRepository;
+import com.example.backwork.member.User;
+import com.example.backwork.member.UserRepository;
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import com.example.backwork.schedule.entity.Schedule;
+import com.example.backwork.schedule.entity.ScheduleOccurrence;
+import com.example.backwork.schedule.repository.ScheduleOccurrenceRepository;
+import com.example.backwork.schedule.repository.ScheduleRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class ScheduleServiceMonthQueryTest {
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CalendarRepository calendarRepository;
+    @Autowired
+    private ScheduleOccurrenceRepository scheduleOccurrenceRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void month_view_returns_ranged_and_open_ended_schedules_in_one_statement() {
+        User user = userRepository.save(new User("month-query-user", "pw"));
+        Calendar calendar = calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+
+        save(calendar, user, "ranged", LocalDateTime.of(2026, 1, 28, 0, 0), LocalDateTime.of(2026, 2, 3, 23, 59, 59));
+        save(calendar, user, "single", LocalDateTime.of(2026, 2, 10, 9, 0), null);
+        save(calendar, user, "next-month", LocalDateTime.of(2026, 3, 1, 0, 0), LocalDateTime.of(2026, 3, 2, 0, 0));
+        save(calendar, user, "single-prev-month", LocalDateTime.of(2026, 1, 10, 9, 0), null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<Schedule> schedules = scheduleService.findByMonth(
+                user.getId(),
+                LocalDateTime.of(2026, 2, 1, 0, 0),
+                LocalDateTime.of(2026, 2, 28, 23, 59, 59)
+        );
+
+        assertEquals(List.of("ranged", "single"), schedules.stream().map(Schedule::getTitle).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void month_view_projection_skips_entity_hydration() {
+        User user = userRepository.save(new User("month-view-user", "pw"));
+        Calendar calendar = calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+
+        save(calendar, user, "ranged", LocalDateTime.of(2026, 1, 28, 0, 0), LocalDateTime.of(2026, 2, 3, 23, 59, 59));
+        save(calendar, user, "single", LocalDateTime.of(2026, 2, 10, 9, 0), null);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<ScheduleResponse> schedules = scheduleService.findMonthView(
+                user.getId(),
+                LocalDateTime.of(2026, 2, 1, 0, 0),
+                LocalDateTime.of(2026, 2, 28, 23, 59, 59)
+        );
+
+        assertEquals(List.of("ranged", "single"), schedules.stream().map(ScheduleResponse::getTitle).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void month_view_expands_recurring_series_with_cancelled_and_moved_occurrences() {
+        User user = userRepository.save(new User("month-recurring-user", "pw"));
+        Calendar calendar = calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+
+        // 1월에 시작한 매주 월요일 회의 (행 1개)
+        Schedule weekly = new Schedule(calendar, user, "weekly", null,
+                LocalDateTime.of(2026, 1, 5, 10, 0), LocalDateTime.of(2026, 1, 5, 11, 0), null, 2);
+        weekly.applyRecurrence("FREQ=WEEKLY;BYDAY=MO", null);
+        scheduleRepository.save(weekly);
+        save(calendar, user, "single", LocalDateTime.of(2026, 2, 10, 9, 0), null);
+
+        ScheduleOccurrence cancelled = new ScheduleOccurrence(weekly.getId(), LocalDateTime.of(2026, 2, 9, 10, 0));
+        cancelled.cancel();
+        scheduleOccurrenceRepository.save(cancelled);
+        ScheduleOccurrence moved = new ScheduleOccurrence(weekly.getId(), LocalDateTime.of(2026, 2, 16, 10, 0));
+        moved.override("weekly-moved", null, LocalDateTime.of(2026, 2, 17, 14, 0), LocalDateTime.of(2026, 2, 17, 15, 0));
+        scheduleOccurrenceRepository.save(moved);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<ScheduleResponse> schedules = scheduleService.findMonthView(
+                user.getId(),
+                LocalDateTime.of(2026, 2, 1, 0, 0),
+                LocalDateTime.of(2026, 2, 28, 23, 59, 59)
+        );
+
+        assertEquals(
+                List.of("weekly@2", "single@10", "weekly-moved@17", "weekly@23"),
+                schedules.stream().map(s -> s.getTitle() + "@" + s.getStartAt().getDayOfMonth()).toList()
+        );
+        assertEquals(LocalDateTime.of(2026, 2, 16, 10, 0), schedules.get(2).getOriginalStartAt());
+        // 시리즈/단일 일정 1회 + 회차 예외 IN 조회 1회
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void window_exceptions_skip_rows_outside_the_padded_range() {
+        User user = userRepository.save(new User("month-window-user", "pw"));
+        Calendar calendar = calendarRepository.save(new Calendar("개인 캘린더", "PERSONAL", user));
+
+        // 매일 23:00~다음날 01:00 → 2월 조회 구간은 1월 31일 23:00 회차부터 걸친다.
+        Schedule daily = new Schedule(calendar, user, "daily", null,
+                LocalDateTime.of(2026, 1, 1, 23, 0), LocalDateTime.of(2026, 1, 2, 1, 0), null, 2);
+        daily.applyRecurrence("FREQ=DAILY", null);
+        scheduleRepository.save(daily);
+
+        ScheduleOccurrence oldCancel = new ScheduleOccurrence(daily.getId(), LocalDateTime.of(2026, 1, 10, 23, 0));
+        oldCancel.cancel();
+        scheduleOccurrenceRepository.save(oldCancel);
+        ScheduleOccurrence crossing = new ScheduleOccurrence(daily.getId(), LocalDateTime.of(2026, 1, 31, 23, 0));
+        crossing.cancel();
+        scheduleOccurrenceRepository.save(crossing);
+        ScheduleOccurrence movedIn = new ScheduleOccurrence(daily.getId(), LocalDateTime.of(2026, 3, 5, 23, 0));
+        movedIn.override(null, null, LocalDateTime.of(2026, 2, 20, 9, 0), null);
+        scheduleOccurrenceRepository.save(movedIn);
+        ScheduleOccurrence future = new ScheduleOccurrence(daily.getId(), LocalDateTime.of(2026, 4, 1, 23, 0));
+        future.cancel();
+        scheduleOccurrenceRepository.save(future);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        LocalDateTime rangeStart = LocalDateTime.of(2026, 2, 1, 0, 0);
+        LocalDateTime rangeEnd = LocalDateTime.of(2026, 2, 28, 23, 59, 59);
+        LocalDateTime windowStart = ScheduleOccurrenceService.exceptionWindowStart(
+                List.of(new ScheduleResponse(daily)), rangeStart);
+
+        assertEquals(LocalDateTime.of(2026, 1, 31, 22, 0), windowStart);
+        assertEquals(
+                List.of(LocalDateTime.of(2026, 1, 31, 23, 0), LocalDateTime.of(2026, 3, 5, 23, 0)),
+                scheduleOccurrenceRepository.findWindowExceptions(List.of(daily.getId()), windowStart, rangeEnd)
+                        .stream()
+                        .map(ScheduleOccurrence::getOriginalStart)
+                        .sorted()
+                        .toList()
+        );
+    }
+
+    private void save(Calendar calendar, User user, String title, LocalDateTime startAt, LocalDateTime endAt) {
+        scheduleRepository.save(new Schedule(calendar, user, title, null, startAt, endAt, null, 2));
+    }
+}
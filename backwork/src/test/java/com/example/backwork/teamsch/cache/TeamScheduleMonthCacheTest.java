@@ -0,0 +1,99 @@
+package com.example.backwork.teamsch.cache;
+
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class TeamScheduleMonthCacheTest {
+
+    private static final YearMonth FEB = YearMonth.of(2026, 2);
+    private static final YearMonth MAR = YearMonth.of(2026, 3);
+
+    private TeamScheduleMonthCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TeamScheduleMonthCache(
+                mock(StringRedisTemplate.class),
+                JsonMapper.builder().build(),
+                new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "redisEnabled", false);
+        cache.init();
+    }
+
+    @Test
+    void month_bucket_is_loaded_once_until_evicted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = cache.getOrLoad(11L, FEB, () -> load(loads));
+        String second = cache.getOrLoad(11L, FEB, () -> load(loads));
+
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+        assertTrue(first.contains("\"title\":\"weekly\""));
+
+        cache.evictLocal(11L, Set.of(MAR));
+        cache.getOrLoad(11L, FEB, () -> load(loads));
+        assertEquals(1, loads.get());
+
+        cache.evictLocal(11L, Set.of(FEB));
+        cache.getOrLoad(11L, FEB, () -> load(loads));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void empty_month_set_evicts_whole_calendar_only() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOrLoad(11L, FEB, () -> load(loads));
+        cache.getOrLoad(11L, MAR, () -> load(loads));
+        cache.getOrLoad(12L, FEB, () -> load(loads));
+
+        cache.evictLocal(11L, Set.of());
+
+        cache.getOrLoad(11L, FEB, () -> load(loads));
+        cache.getOrLoad(11L, MAR, () -> load(loads));
+        cache.getOrLoad(12L, FEB, () -> load(loads));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    void months_of_covers_every_spanned_month() {
+        assertEquals(
+                Set.of(YearMonth.of(2026, 1), FEB, MAR),
+                TeamScheduleMonthCache.monthsOf(LocalDateTime.of(2026, 1, 28, 0, 0), LocalDateTime.of(2026, 3, 2, 0, 0))
+        );
+        assertEquals(Set.of(FEB), TeamScheduleMonthCache.monthsOf(LocalDateTime.of(2026, 2, 10, 9, 0), null));
+        assertTrue(TeamScheduleMonthCache.monthsOf(LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)).isEmpty());
+    }
+
+    private List<ScheduleResponse> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of(new ScheduleResponse(
+                1L,
+                "weekly",
+                null,
+                LocalDateTime.of(2026, 2, 10, 9, 0),
+                null,
+                2,
+                null,
+                0L
+        ));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.backwork.teamsch.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CalendarOrderedExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CalendarOrderedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.stop();
+    }
+
+    @Test
+    void same_calendar_events_are_delivered_in_order() throws Exception {
+        executor = executor(4, 1000);
+
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(500);
+        for (int i = 0; i < 500; i++) {
+            int seq = i;
+            executor.execute(7L, () -> {
+                delivered.add(seq);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, delivered.get(i));
+        }
+    }
+
+    @Test
+    void full_lane_discards_oldest_and_counts_drop() throws Exception {
+        executor = executor(1, 1);
+
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        executor.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        });
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        executor.execute(1L, () -> delivered.add("old"));
+        executor.execute(1L, () -> delivered.add("new"));
+
+        CountDownLatch drained = new CountDownLatch(1);
+        executor.execute(1L, drained::countDown);
+        blocker.countDown();
+        assertTrue(drained.await(2, TimeUnit.SECONDS));
+
+        // 용량 1: old → new → drained 순으로 밀려나 마지막 작업만 실행된다.
+        assertTrue(delivered.isEmpty());
+        assertEquals(2.0, meterRegistry.get("team.schedule.events.dispatch.dropped").counter().count());
+    }
+
+    private CalendarOrderedExecutor executor(int lanes, int capacity) {
+        CalendarOrderedExecutor created = new CalendarOrderedExecutor(meterRegistry);
+        ReflectionTestUtils.setField(created, "laneCount", lanes);
+        ReflectionTestUtils.setField(created, "laneQueueCapacity", capacity);
+        ReflectionTestUtils.setField(created, "overflowPolicy", CalendarOrderedExecutor.OVERFLOW_DISCARD_OLDEST);
+        created.start();
+        return created;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.redis.RedisPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduleEventBatchPublisherTest {
+
+    private RedisPublisher redisPublisher;
+    private ScheduleEventLog scheduleEventLog;
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduleEventBatchPublisher batchPublisher;
+
+    @BeforeEach
+    void setUp() {
+        redisPublisher = mock(RedisPublisher.class);
+        scheduleEventLog = mock(ScheduleEventLog.class);
+        when(scheduleEventLog.append(eq(11L), anyString())).thenReturn("1700000000000-0");
+        meterRegistry = new SimpleMeterRegistry();
+        batchPublisher = new ScheduleEventBatchPublisher(
+                redisPublisher,
+                new ScheduleEventCodec(JsonMapper.builder().build()),
+                new ScheduleEventChannels(8),
+                scheduleEventLog,
+                mock(TeamTopicDispatcher.class),
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(batchPublisher, "queueCapacity", 2);
+        ReflectionTestUtils.setField(batchPublisher, "batchWindowMillis", 200L);
+        ReflectionTestUtils.setField(batchPublisher, "maxBatchSize", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchPublisher.stop();
+    }
+
+    @Test
+    void events_for_same_calendar_are_coalesced_into_one_message() {
+        batchPublisher.start();
+
+        assertTrue(batchPublisher.offer(event(11L, 1L, "2026-02")));
+        assertTrue(batchPublisher.offer(event(11L, 2L, "2026-03")));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisPublisher, timeout(2000).times(1)).publishRaw(eq("schedule:updates:3"), message.capture());
+
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(message.getValue().getBytes(StandardCharsets.UTF_8));
+        assertEquals(2, envelope.months().size());
+        assertEquals("1700000000000-0", envelope.eventId());
+        assertTrue(new String(envelope.body(), StandardCharsets.UTF_8).startsWith("["));
+    }
+
+    @Test
+    void invalidation_channel_receives_header_only() {
+        batchPublisher.start();
+
+        assertTrue(batchPublisher.offer(event(11L, 1L, "2026-02")));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisPublisher, timeout(2000).times(1))
+                .publishRaw(eq(ScheduleEventChannels.INVALIDATION_CHANNEL), message.capture());
+
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(message.getValue().getBytes(StandardCharsets.UTF_8));
+        assertEquals(11L, envelope.calendarId());
+        assertEquals(0, envelope.body().length);
+    }
+
+    @Test
+    void log_append_failure_publishes_without_event_id() {
+        when(scheduleEventLog.append(eq(12L), anyString())).thenThrow(new IllegalStateException("XADD failed"));
+        batchPublisher.start();
+
+        assertTrue(batchPublisher.offer(event(12L, 1L, "2026-02")));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisPublisher, timeout(2000).times(1))
+                .publishRaw(eq(ScheduleEventChannels.INVALIDATION_CHANNEL), message.capture());
+
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(message.getValue().getBytes(StandardCharsets.UTF_8));
+        assertEquals(12L, envelope.calendarId());
+        assertNull(envelope.eventId());
+        assertEquals(1.0, meterRegistry.counter("team.schedule.events.log-append-failed").count());
+    }
+
+    private ScheduleEvent event(Long calendarId, Long scheduleId, String month) {
+        return new ScheduleEvent("UPDATED", calendarId, scheduleId, 1L, List.of(month), "2026-02-10T09:00:00", null, 1L);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.schedule.dto.ScheduleResponse;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScheduleEventCodecTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final ScheduleEventCodec codec = new ScheduleEventCodec(objectMapper);
+
+    @Test
+    void header_routes_without_parsing_body() {
+        ScheduleResponse snapshot = new ScheduleResponse(
+                77L, "weekly", null, LocalDateTime.of(2026, 2, 27, 9, 0), LocalDateTime.of(2026, 3, 2, 9, 0), 2, null, 4L
+        );
+        ScheduleEvent event = new ScheduleEvent(
+                "UPDATED", 11L, 77L, 1L, List.of("2026-02", "2026-03"), "2026-02-10T09:00:00", snapshot, 4L
+        );
+
+        byte[] raw = codec.encode(event).getBytes(StandardCharsets.UTF_8);
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(raw);
+
+        assertEquals(11L, envelope.calendarId());
+        assertTrue(envelope.isScheduleChange());
+        assertEquals(List.of(YearMonth.of(2026, 2), YearMonth.of(2026, 3)), envelope.months());
+
+        JsonNode body = objectMapper.readTree(envelope.body());
+        assertEquals("UPDATED", body.get("action").asString());
+        assertEquals(77L, body.get("scheduleId").asLong());
+        assertEquals(4L, body.get("version").asLong());
+        assertEquals("weekly", body.get("schedule").get("title").asString());
+    }
+
+    @Test
+    void lock_events_do_not_touch_month_cache() {
+        byte[] raw = codec.encodeLock(5L, Map.of("action", "LOCK_ACQUIRED", "calendarId", 5L))
+                .getBytes(StandardCharsets.UTF_8);
+        ScheduleEventCodec.Envelope envelope = ScheduleEventCodec.decode(raw);
+
+        assertEquals(5L, envelope.calendarId());
+        assertFalse(envelope.isScheduleChange());
+        assertTrue(envelope.months().isEmpty());
+    }
+
+    @Test
+    void legacy_json_message_is_rejected() {
+        byte[] raw = "{\"action\":\"CREATED\",\"calendarId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertNull(ScheduleEventCodec.decode(raw));
+    }
+}
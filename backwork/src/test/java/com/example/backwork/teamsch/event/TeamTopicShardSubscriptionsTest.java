@@ -0,0 +1,109 @@
+package com.example.backwork.teamsch.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TeamTopicShardSubscriptionsTest {
+
+    private RedisMessageListenerContainer listenerContainer;
+    private MessageListener shardListener;
+    private List<Runnable> queued;
+    private TeamTopicShardSubscriptions subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        shardListener = mock(MessageListener.class);
+        TeamTopicDispatcher teamTopicDispatcher = mock(TeamTopicDispatcher.class);
+        when(teamTopicDispatcher.isRelay()).thenReturn(false);
+        queued = new ArrayList<>();
+
+        subscriptions = new TeamTopicShardSubscriptions(
+                listenerContainer,
+                shardListener,
+                queued::add,
+                new ScheduleEventChannels(4),
+                teamTopicDispatcher,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @Test
+    void redis_subscription_changes_run_outside_the_event_thread() {
+        subscriptions.onSubscribe(subscribe("s1", "sub-0", "/topic/team/5"));
+
+        // ref-count 는 바로 반영되지만 Redis 호출은 아직 없다.
+        assertEquals(1, subscriptions.subscribedShardCount());
+        verifyNoInteractions(listenerContainer);
+
+        drain();
+        verify(listenerContainer).addMessageListener(shardListener, new ChannelTopic("schedule:updates:1"));
+    }
+
+    @Test
+    void only_ref_count_transitions_reach_redis_in_order() {
+        subscriptions.onSubscribe(subscribe("s1", "sub-0", "/topic/team/5"));
+        subscriptions.onSubscribe(subscribe("s2", "sub-0", "/topic/team/9"));   // 같은 shard 1
+        subscriptions.onUnsubscribe(unsubscribe("s1", "sub-0"));
+        subscriptions.onUnsubscribe(unsubscribe("s2", "sub-0"));
+        subscriptions.onSubscribe(subscribe("s3", "sub-0", "/topic/team/6"));  // shard 2
+
+        assertEquals(3, queued.size());
+        drain();
+
+        InOrder order = inOrder(listenerContainer);
+        order.verify(listenerContainer).addMessageListener(shardListener, new ChannelTopic("schedule:updates:1"));
+        order.verify(listenerContainer).removeMessageListener(shardListener, new ChannelTopic("schedule:updates:1"));
+        order.verify(listenerContainer).addMessageListener(shardListener, new ChannelTopic("schedule:updates:2"));
+        verify(listenerContainer, times(2)).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        verify(listenerContainer, never()).removeMessageListener(shardListener, new ChannelTopic("schedule:updates:2"));
+        assertEquals(1, subscriptions.subscribedShardCount());
+    }
+
+    private void drain() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(this, message(accessor, sessionId, subscriptionId));
+    }
+
+    private SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        return new SessionUnsubscribeEvent(this, message(accessor, sessionId, subscriptionId));
+    }
+
+    private Message<byte[]> message(StompHeaderAccessor accessor, String sessionId, String subscriptionId) {
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
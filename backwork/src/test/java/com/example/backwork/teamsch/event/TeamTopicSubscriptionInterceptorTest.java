@@ -0,0 +1,97 @@
+package com.example.backwork.teamsch.event;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.member.SessionUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TeamTopicSubscriptionInterceptorTest {
+
+    private static final Long USER_ID = 10L;
+
+    private TeamCalendarAccessService accessService;
+    private TeamTopicSubscriptionInterceptor interceptor;
+    private MessageChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        accessService = mock(TeamCalendarAccessService.class);
+        interceptor = new TeamTopicSubscriptionInterceptor(accessService);
+        channel = mock(MessageChannel.class);
+    }
+
+    @Test
+    void non_member_subscribe_is_refused() {
+        when(accessService.requireMember(1L, USER_ID))
+                .thenThrow(new SecurityException("팀 캘린더 접근 권한이 없습니다."));
+
+        Message<byte[]> message = subscribe("/topic/team/1", loggedIn());
+
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    void member_subscribe_passes() {
+        Message<byte[]> message = subscribe("/topic/team/1", loggedIn());
+
+        assertSame(message, interceptor.preSend(message, channel));
+        verify(accessService).requireMember(1L, USER_ID);
+    }
+
+    @Test
+    void anonymous_subscribe_is_refused() {
+        Message<byte[]> message = subscribe("/topic/team/1", new HashMap<>());
+
+        assertThrows(MessageDeliveryException.class, () -> interceptor.preSend(message, channel));
+        verify(accessService, never()).requireMember(any(), anyLong());
+    }
+
+    @Test
+    void wildcard_subscribe_is_refused() {
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(subscribe("/topic/team/*", loggedIn()), channel));
+        assertThrows(MessageDeliveryException.class,
+                () -> interceptor.preSend(subscribe("/topic/**", loggedIn()), channel));
+    }
+
+    @Test
+    void other_destinations_are_not_checked() {
+        Message<byte[]> message = subscribe("/user/queue/locks", loggedIn());
+
+        assertSame(message, interceptor.preSend(message, channel));
+        verify(accessService, never()).requireMember(any(), anyLong());
+    }
+
+    private Message<byte[]> subscribe(String destination, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId("stomp-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        accessor.setSessionAttributes(sessionAttributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Map<String, Object> loggedIn() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("LOGIN_USER", new SessionUser(USER_ID, "member", "USER"));
+        return attributes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.backwork.teamsch.lock.service;
+
+import com.example.backwork.teamsch.lock.event.LockEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/*
+    경합 상황에서 acquire p99 측정 (실제 Redis 필요, 기본 실행 제외)
+    LOCK_LOAD_TEST_REDIS_HOST=localhost ./gradlew test --tests '*RedisTeamCalendarLockLoadTest'
+    LOCK_LOAD_TEST_P99_MILLIS 로 허용치 조정(기본 20ms)
+ */
+@EnabledIfEnvironmentVariable(named = "LOCK_LOAD_TEST_REDIS_HOST", matches = ".+")
+class RedisTeamCalendarLockLoadTest {
+
+    private static final int THREADS = 32;
+    private static final int ITERATIONS_PER_THREAD = 2000;
+    private static final int CONTENDED_KEYS = 8;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTeamCalendarLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv("LOCK_LOAD_TEST_REDIS_HOST");
+        int port = Integer.parseInt(System.getenv().getOrDefault("LOCK_LOAD_TEST_REDIS_PORT", "6379"));
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        lockService = new RedisTeamCalendarLockService(redisTemplate, mock(LockEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < CONTENDED_KEYS; i++) {
+            new StringRedisTemplate(connectionFactory).delete(key(i));
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void acquire_p99_under_contention() throws Exception {
+        long[] latencies = new long[THREADS * ITERATIONS_PER_THREAD];
+        AtomicInteger cursor = new AtomicInteger();
+        AtomicInteger acquired = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long userId = t + 1L;
+            String sessionId = "load-session-" + t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < ITERATIONS_PER_THREAD; i++) {
+                    String key = key(i % CONTENDED_KEYS);
+
+                    long begin = System.nanoTime();
+                    LockResult result = lockService.acquire(key, userId, sessionId, TeamCalendarLockService.LOCK_TTL);
+                    latencies[cursor.getAndIncrement()] = System.nanoTime() - begin;
+
+                    if (result.isSuccess()) {
+                        acquired.incrementAndGet();
+                        lockService.release(key, userId, sessionId);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        Arrays.sort(latencies);
+        double p50 = latencies[(int) (latencies.length * 0.50)] / 1_000_000.0;
+        double p99 = latencies[(int) (latencies.length * 0.99)] / 1_000_000.0;
+        System.out.printf("lock acquire: n=%d acquired=%d p50=%.2fms p99=%.2fms%n",
+                latencies.length, acquired.get(), p50, p99);
+
+        long limitMillis = Long.parseLong(System.getenv().getOrDefault("LOCK_LOAD_TEST_P99_MILLIS", "20"));
+        assertTrue(p99 <= limitMillis, "acquire p99 " + p99 + "ms > " + limitMillis + "ms");
+    }
+
+    private String key(int index) {
+        return "lock:team:0:schedule:load-test-" + index;
+    }
+}
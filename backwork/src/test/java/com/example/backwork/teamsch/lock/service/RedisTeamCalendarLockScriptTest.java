@@ -0,0 +1,135 @@
+package com.example.backwork.teamsch.lock.service;
+
+import com.example.backwork.teamsch.lock.event.LockEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/*
+    batch Lua 스크립트(acquireAll / refreshAll / releaseAll) 동작 확인 (실제 Redis 필요, 기본 실행 제외)
+    LOCK_LOAD_TEST_REDIS_HOST=localhost ./gradlew test --tests '*RedisTeamCalendarLockScriptTest'
+ */
+@EnabledIfEnvironmentVariable(named = "LOCK_LOAD_TEST_REDIS_HOST", matches = ".+")
+class RedisTeamCalendarLockScriptTest {
+
+    private static final Long USER_A = 1L;
+    private static final String SESSION_A = "script-session-a";
+    private static final Long USER_B = 2L;
+    private static final String SESSION_B = "script-session-b";
+
+    private static final String KEY_1 = "lock:team:0:schedule:script-test-1";
+    private static final String KEY_2 = "lock:team:0:schedule:script-test-2";
+    private static final String KEY_3 = "lock:team:0:schedule:script-test-3";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private LockEventPublisher lockEventPublisher;
+    private RedisTeamCalendarLockService lockService;
+
+    @BeforeEach
+    void setUp() {
+        String host = System.getenv("LOCK_LOAD_TEST_REDIS_HOST");
+        int port = Integer.parseInt(System.getenv().getOrDefault("LOCK_LOAD_TEST_REDIS_PORT", "6379"));
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.delete(List.of(KEY_1, KEY_2, KEY_3));
+        lockEventPublisher = mock(LockEventPublisher.class);
+        lockService = new RedisTeamCalendarLockService(redisTemplate, lockEventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(List.of(KEY_1, KEY_2, KEY_3));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void acquire_all_is_all_or_nothing() {
+        lockService.acquire(KEY_2, USER_B, SESSION_B, TeamCalendarLockService.LOCK_TTL);
+        clearInvocations(lockEventPublisher);
+
+        List<LockResult> results = lockService.acquireAll(
+                List.of(KEY_1, KEY_2, KEY_3), USER_A, SESSION_A, TeamCalendarLockService.LOCK_TTL);
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().noneMatch(LockResult::isSuccess));
+        // 실패한 키의 현재 소유자를 키 순서대로 돌려준다.
+        assertNull(results.get(0).getOwner());
+        assertEquals(USER_B, results.get(1).getOwner().getUserId());
+        assertTrue(results.get(1).getTtlSeconds() > 0);
+        // 하나라도 막히면 아무 키도 잡지 않는다.
+        assertNull(redisTemplate.opsForValue().get(KEY_1));
+        assertNull(redisTemplate.opsForValue().get(KEY_3));
+        verify(lockEventPublisher, never()).publish(anyString(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    void acquire_all_publishes_only_newly_acquired_keys() {
+        lockService.acquire(KEY_1, USER_A, SESSION_A, TeamCalendarLockService.LOCK_TTL);
+        clearInvocations(lockEventPublisher);
+
+        List<LockResult> results = lockService.acquireAll(
+                List.of(KEY_1, KEY_2), USER_A, SESSION_A, TeamCalendarLockService.LOCK_TTL);
+
+        assertTrue(results.stream().allMatch(LockResult::isSuccess));
+        assertEquals(USER_A, results.get(0).getOwner().getUserId());
+        assertEquals(SESSION_A, results.get(1).getOwner().getSessionId());
+        verify(lockEventPublisher, never()).publish(eq(LockEventPublisher.LOCK_ACQUIRED), eq(KEY_1), any(), anyLong());
+        verify(lockEventPublisher, times(1)).publish(eq(LockEventPublisher.LOCK_ACQUIRED), eq(KEY_2), any(), anyLong());
+    }
+
+    @Test
+    void refresh_all_handles_each_key_independently() {
+        lockService.acquire(KEY_1, USER_A, SESSION_A, TeamCalendarLockService.LOCK_TTL);
+        lockService.acquire(KEY_2, USER_B, SESSION_B, TeamCalendarLockService.LOCK_TTL);
+
+        List<LockResult> results = lockService.refreshAll(
+                List.of(KEY_1, KEY_2, KEY_3), USER_A, SESSION_A, TeamCalendarLockService.LOCK_TTL);
+
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(USER_B, results.get(1).getOwner().getUserId());
+        assertFalse(results.get(2).isSuccess());
+        assertNull(results.get(2).getOwner());
+        // 연장이 다른 사람 락을 건드리지 않는다.
+        assertEquals(USER_B + ":" + SESSION_B, redisTemplate.opsForValue().get(KEY_2));
+    }
+
+    @Test
+    void release_all_releases_only_own_keys() {
+        lockService.acquire(KEY_1, USER_A, SESSION_A, TeamCalendarLockService.LOCK_TTL);
+        lockService.acquire(KEY_2, USER_B, SESSION_B, TeamCalendarLockService.LOCK_TTL);
+        clearInvocations(lockEventPublisher);
+
+        lockService.releaseAll(List.of(KEY_1, KEY_2, KEY_3), USER_A, SESSION_A);
+
+        assertNull(redisTemplate.opsForValue().get(KEY_1));
+        assertEquals(USER_B + ":" + SESSION_B, redisTemplate.opsForValue().get(KEY_2));
+        verify(lockEventPublisher, times(1)).publish(eq(LockEventPublisher.LOCK_RELEASED), eq(KEY_1), any(), anyLong());
+        verify(lockEventPublisher, never()).publish(eq(LockEventPublisher.LOCK_RELEASED), eq(KEY_2), any(), anyLong());
+        verify(lockEventPublisher, never()).publish(eq(LockEventPublisher.LOCK_RELEASED), eq(KEY_3), any(), anyLong());
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.backwork.teamsch.lock.ws;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.teamsch.lock.dto.LockCommandResponse;
+import com.example.backwork.teamsch.lock.dto.LockTargetType;
+import com.example.backwork.teamsch.lock.service.LockOwner;
+import com.example.backwork.teamsch.lock.service.LockResult;
+import com.example.backwork.teamsch.lock.service.TeamCalendarLockService;
+import com.example.backwork.teamsch.lock.support.TeamCalendarLockKeyFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LockLeaseHeartbeatSchedulerTest {
+
+    private static final String STOMP_SESSION = "stomp-1";
+    private static final String HTTP_SESSION = "http-1";
+    private static final Long USER_ID = 10L;
+
+    private TeamCalendarLockService lockService;
+    private TeamCalendarAccessService accessService;
+    private SimpMessagingTemplate messagingTemplate;
+    private LockLeaseRegistry leaseRegistry;
+    private LockLeaseHeartbeatScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        lockService = mock(TeamCalendarLockService.class);
+        accessService = mock(TeamCalendarAccessService.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        leaseRegistry = new LockLeaseRegistry();
+        scheduler = new LockLeaseHeartbeatScheduler(lockService, accessService, leaseRegistry, messagingTemplate);
+    }
+
+    @Test
+    void registry_groups_keys_per_stomp_session() {
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, key(1L, "100"));
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, key(1L, "101"));
+        leaseRegistry.add("stomp-2", 20L, "http-2", key(1L, "200"));
+
+        assertEquals(3, leaseRegistry.size());
+
+        leaseRegistry.remove(STOMP_SESSION, key(1L, "100"));
+        leaseRegistry.remove(STOMP_SESSION, key(1L, "101"));
+
+        // 마지막 키가 빠지면 세션 lease 도 정리된다.
+        assertFalse(leaseRegistry.snapshot().containsKey(STOMP_SESSION));
+        assertEquals(1, leaseRegistry.size());
+    }
+
+    @Test
+    void refresh_extends_all_keys_once_per_session() {
+        String first = key(1L, "100");
+        String second = key(1L, "101");
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, first);
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, second);
+        when(lockService.refreshAll(anyList(), eq(USER_ID), eq(HTTP_SESSION), any()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream()
+                        .map(k -> new LockResult(true, new LockOwner(USER_ID, HTTP_SESSION), 6L))
+                        .toList());
+
+        scheduler.refreshLeases();
+
+        verify(lockService).refreshAll(anyList(), eq(USER_ID), eq(HTTP_SESSION), eq(TeamCalendarLockService.LOCK_TTL));
+        verify(accessService).requireWritable(1L, USER_ID);
+        verifyNoInteractions(messagingTemplate);
+        assertEquals(2, leaseRegistry.size());
+    }
+
+    @Test
+    void lost_key_is_removed_and_notified() {
+        String lockKey = key(1L, "100");
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, lockKey);
+        when(lockService.refreshAll(anyList(), eq(USER_ID), eq(HTTP_SESSION), any()))
+                .thenReturn(List.of(new LockResult(false, new LockOwner(20L, "http-2"), 5L)));
+
+        scheduler.refreshLeases();
+
+        assertEquals(0, leaseRegistry.size());
+        LockCommandResponse response = captureNotification();
+        assertFalse(response.isSuccess());
+        assertEquals(lockKey, response.getLockKey());
+        assertEquals(20L, response.getOwnerUserId());
+    }
+
+    @Test
+    void revoked_access_releases_keys_instead_of_refreshing() {
+        String revokedKey = key(1L, "100");
+        String keptKey = key(2L, "300");
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, revokedKey);
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, keptKey);
+        doThrow(new SecurityException("쓰기 권한이 없습니다."))
+                .when(accessService).requireWritable(1L, USER_ID);
+        when(lockService.refreshAll(anyList(), eq(USER_ID), eq(HTTP_SESSION), any()))
+                .thenReturn(List.of(new LockResult(true, new LockOwner(USER_ID, HTTP_SESSION), 6L)));
+
+        scheduler.refreshLeases();
+
+        verify(lockService).releaseAll(List.of(revokedKey), USER_ID, HTTP_SESSION);
+        verify(lockService).refreshAll(eq(List.of(keptKey)), eq(USER_ID), eq(HTTP_SESSION), any());
+        assertEquals(1, leaseRegistry.size());
+        LockCommandResponse response = captureNotification();
+        assertFalse(response.isSuccess());
+        assertEquals(revokedKey, response.getLockKey());
+    }
+
+    @Test
+    void fully_revoked_session_skips_refresh() {
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, key(1L, "100"));
+        doThrow(new SecurityException("팀 캘린더 멤버가 아닙니다."))
+                .when(accessService).requireWritable(1L, USER_ID);
+
+        scheduler.refreshLeases();
+
+        verify(lockService).releaseAll(anyList(), eq(USER_ID), eq(HTTP_SESSION));
+        verify(lockService, never()).refreshAll(anyList(), anyLong(), anyString(), any());
+        assertNull(leaseRegistry.snapshot().get(STOMP_SESSION));
+    }
+
+    @Test
+    void disconnect_releases_remaining_keys() {
+        String first = key(1L, "100");
+        String second = key(1L, "101");
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, first);
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, second);
+
+        scheduler.onDisconnect(disconnect(STOMP_SESSION));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(lockService).releaseAll(keys.capture(), eq(USER_ID), eq(HTTP_SESSION));
+        assertEquals(2, keys.getValue().size());
+        assertEquals(0, leaseRegistry.size());
+    }
+
+    @Test
+    void disconnect_without_lease_is_noop() {
+        scheduler.onDisconnect(disconnect("unknown"));
+
+        verifyNoInteractions(lockService);
+    }
+
+    private LockCommandResponse captureNotification() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(STOMP_SESSION),
+                eq(TeamCalendarLockWsController.LOCK_QUEUE),
+                payload.capture(),
+                any(MessageHeaders.class)
+        );
+        return (LockCommandResponse) payload.getValue();
+    }
+
+    private static SessionDisconnectEvent disconnect(String stompSessionId) {
+        return new SessionDisconnectEvent(
+                new Object(),
+                MessageBuilder.withPayload(new byte[0]).build(),
+                stompSessionId,
+                CloseStatus.NORMAL
+        );
+    }
+
+    private static String key(Long calendarId, String targetId) {
+        return TeamCalendarLockKeyFactory.create(calendarId, LockTargetType.SCHEDULE, targetId);
+    }
+}
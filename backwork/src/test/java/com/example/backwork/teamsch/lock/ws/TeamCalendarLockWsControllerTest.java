@@ -0,0 +1,144 @@
+package com.example.backwork.teamsch.lock.ws;
+
+import com.example.backwork.calendar.share.TeamCalendarAccessService;
+import com.example.backwork.member.SessionUser;
+import com.example.backwork.teamsch.lock.dto.LockCommandRequest;
+import com.example.backwork.teamsch.lock.dto.LockCommandResponse;
+import com.example.backwork.teamsch.lock.service.LockOwner;
+import com.example.backwork.teamsch.lock.service.LockResult;
+import com.example.backwork.teamsch.lock.service.TeamCalendarLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TeamCalendarLockWsControllerTest {
+
+    private static final String STOMP_SESSION = "stomp-1";
+    private static final String HTTP_SESSION = "http-1";
+    private static final Long USER_ID = 10L;
+    private static final String LOCK_KEY = "lock:team:1:schedule:100";
+
+    private TeamCalendarLockService lockService;
+    private TeamCalendarAccessService accessService;
+    private LockLeaseRegistry leaseRegistry;
+    private TeamCalendarLockWsController controller;
+
+    @BeforeEach
+    void setUp() {
+        lockService = mock(TeamCalendarLockService.class);
+        accessService = mock(TeamCalendarAccessService.class);
+        leaseRegistry = new LockLeaseRegistry();
+        controller = new TeamCalendarLockWsController(lockService, accessService, leaseRegistry);
+    }
+
+    @Test
+    void acquire_registers_lease_for_stomp_session() {
+        when(lockService.acquire(LOCK_KEY, USER_ID, HTTP_SESSION, TeamCalendarLockService.LOCK_TTL))
+                .thenReturn(new LockResult(true, new LockOwner(USER_ID, HTTP_SESSION), 6L));
+
+        LockCommandResponse response = controller.acquire(1L, request("100"), loggedIn());
+
+        assertTrue(response.isSuccess());
+        assertTrue(response.isLockedByMe());
+        LockLeaseRegistry.Lease lease = leaseRegistry.snapshot().get(STOMP_SESSION);
+        assertEquals(USER_ID, lease.userId());
+        assertEquals(HTTP_SESSION, lease.httpSessionId());
+        assertTrue(lease.lockKeys().contains(LOCK_KEY));
+    }
+
+    @Test
+    void acquire_held_by_other_does_not_register_lease() {
+        when(lockService.acquire(LOCK_KEY, USER_ID, HTTP_SESSION, TeamCalendarLockService.LOCK_TTL))
+                .thenReturn(new LockResult(false, new LockOwner(20L, "http-2"), 4L));
+
+        LockCommandResponse response = controller.acquire(1L, request("100"), loggedIn());
+
+        assertFalse(response.isSuccess());
+        assertEquals(20L, response.getOwnerUserId());
+        assertEquals(0, leaseRegistry.size());
+    }
+
+    @Test
+    void disconnect_before_lease_add_releases_acquired_lock() {
+        // Redis 락은 잡혔지만 lease 등록 전에 SessionDisconnectEvent 가 먼저 처리된 경우
+        when(lockService.acquire(LOCK_KEY, USER_ID, HTTP_SESSION, TeamCalendarLockService.LOCK_TTL))
+                .thenAnswer(invocation -> {
+                    leaseRegistry.removeSession(STOMP_SESSION);
+                    return new LockResult(true, new LockOwner(USER_ID, HTTP_SESSION), 6L);
+                });
+
+        LockCommandResponse response = controller.acquire(1L, request("100"), loggedIn());
+
+        assertFalse(response.isSuccess());
+        verify(lockService).release(LOCK_KEY, USER_ID, HTTP_SESSION);
+        assertEquals(0, leaseRegistry.size());
+        assertTrue(leaseRegistry.snapshot().isEmpty());
+    }
+
+    @Test
+    void acquire_without_write_access_is_rejected_before_locking() {
+        doThrow(new SecurityException("쓰기 권한이 없습니다."))
+                .when(accessService).requireWritable(1L, USER_ID);
+
+        assertThrows(SecurityException.class, () -> controller.acquire(1L, request("100"), loggedIn()));
+
+        verify(lockService, never()).acquire(anyString(), anyLong(), anyString(), any());
+        assertEquals(0, leaseRegistry.size());
+    }
+
+    @Test
+    void acquire_without_login_fails() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(STOMP_SESSION);
+        accessor.setSessionAttributes(new HashMap<>());
+
+        LockCommandResponse response = controller.acquire(1L, request("100"), accessor);
+
+        assertFalse(response.isSuccess());
+        verify(lockService, never()).acquire(anyString(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    void release_removes_lease_and_lock() {
+        leaseRegistry.add(STOMP_SESSION, USER_ID, HTTP_SESSION, LOCK_KEY);
+
+        LockCommandResponse response = controller.release(1L, request("100"), loggedIn());
+
+        assertTrue(response.isSuccess());
+        verify(lockService).release(LOCK_KEY, USER_ID, HTTP_SESSION);
+        assertEquals(0, leaseRegistry.size());
+    }
+
+    private static LockCommandRequest request(String targetId) {
+        LockCommandRequest request = new LockCommandRequest();
+        request.setTargetId(targetId);
+        return request;
+    }
+
+    private static SimpMessageHeaderAccessor loggedIn() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("LOGIN_USER", new SessionUser(USER_ID, "user10", "USER"));
+        attributes.put(HttpSessionHandshakeInterceptor.HTTP_SESSION_ID_ATTR_NAME, HTTP_SESSION);
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(STOMP_SESSION);
+        accessor.setSessionAttributes(attributes);
+        return accessor;
+    }
+}
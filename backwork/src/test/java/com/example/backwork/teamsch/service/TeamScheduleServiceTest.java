@@ -6,27 +6,35 @@ import com.example.backwork.member.User;
 import com.example.backwork.member.UserRepository;
 import com.example.backwork.memo.MemoPost;
 import com.example.backwork.memo.MemoPostRepository;
-import com.example.backwork.redis.RedisPublisher;
+import com.example.backwork.schedule.dto.ScheduleSlot;
 import com.example.backwork.schedule.entity.Schedule;
 import com.example.backwork.schedule.repository.ScheduleRepository;
+import com.example.backwork.schedule.service.ScheduleOccurrenceService;
+import com.example.backwork.teamsch.cache.TeamScheduleMonthCache;
 import com.example.backwork.teamsch.dto.TeamScheduleUpdateRequest;
+import com.example.backwork.teamsch.event.ScheduleEvent;
+import com.example.backwork.teamsch.event.ScheduleEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +50,11 @@ class TeamScheduleServiceTest {
     @Mock
     private TeamCalendarAccessService teamCalendarAccessService;
     @Mock
-    private RedisPublisher redisPublisher;
+    private ScheduleEventPublisher scheduleEventPublisher;
+    @Mock
+    private TeamScheduleMonthCache teamScheduleMonthCache;
+    @Mock
+    private ScheduleOccurrenceService scheduleOccurrenceService;
 
     private TeamScheduleService teamScheduleService;
 
@@ -53,7 +65,9 @@ class TeamScheduleServiceTest {
                 userRepository,
                 memoPostRepository,
                 teamCalendarAccessService,
-                redisPublisher
+                scheduleEventPublisher,
+                teamScheduleMonthCache,
+                scheduleOccurrenceService
         );
     }
 
@@ -131,6 +145,36 @@ class TeamScheduleServiceTest {
         assertThrows(TeamScheduleVersionConflictException.class, () -> teamScheduleService.update(1L, 77L, request));
     }
 
+    @Test
+    void bulk_create_resolves_access_once_and_publishes_single_event() {
+        User user = new User("user-1", "pw");
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Calendar calendar = new Calendar("team", "TEAM", user);
+        ReflectionTestUtils.setField(calendar, "id", 11L);
+        when(teamCalendarAccessService.requireWritable(11L, 1L)).thenReturn(calendar);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(scheduleRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // 2월 말 ~ 3월 초에 걸친 3일
+        List<ScheduleSlot> slots = List.of(
+                new ScheduleSlot(LocalDateTime.of(2026, 2, 27, 0, 0), LocalDateTime.of(2026, 2, 27, 23, 59, 59)),
+                new ScheduleSlot(LocalDateTime.of(2026, 2, 28, 0, 0), LocalDateTime.of(2026, 2, 28, 23, 59, 59)),
+                new ScheduleSlot(LocalDateTime.of(2026, 3, 1, 0, 0), LocalDateTime.of(2026, 3, 1, 23, 59, 59))
+        );
+
+        List<Schedule> created = teamScheduleService.createAllFromAssistant(1L, 11L, "workshop", null, slots);
+
+        assertEquals(3, created.size());
+        verify(teamCalendarAccessService, times(1)).requireWritable(11L, 1L);
+        verify(userRepository, times(1)).findById(1L);
+
+        ArgumentCaptor<ScheduleEvent> event = ArgumentCaptor.forClass(ScheduleEvent.class);
+        verify(scheduleEventPublisher, times(1)).publish(event.capture());
+        assertEquals("BULK_CREATED", event.getValue().action());
+        assertEquals(List.of("2026-02", "2026-03"), event.getValue().months());
+        assertNull(event.getValue().schedule());
+    }
+
     private Fixture fixture(Long calendarId, Long userId, Long existingMemoId) {
         User user = new User("user-" + userId, "pw");
         ReflectionTestUtils.setField(user, "id", userId);
@@ -0,0 +1,22 @@
+-- Schedule / MemoPost / RagDocument / IngestJob id 생성을 IDENTITY → @TableGenerator(id_generator, allocationSize=50) 로 전환 (DatabaseInitializer에서도 자동 보정)
+CREATE TABLE IF NOT EXISTS id_generator (
+    gen_name  VARCHAR(255) NOT NULL PRIMARY KEY,
+    gen_value BIGINT
+);
+
+-- 기존 최대 id + allocationSize 이후부터 발급되도록 시작값 등록
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'schedule', COALESCE(MAX(id), 0) + 51 FROM schedule
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE gen_name = 'schedule');
+
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'memopost', COALESCE(MAX(id), 0) + 51 FROM memopost
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE gen_name = 'memopost');
+
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'documents', COALESCE(MAX(id), 0) + 51 FROM documents
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE gen_name = 'documents');
+
+INSERT INTO id_generator (gen_name, gen_value)
+SELECT 'ingest_jobs', COALESCE(MAX(id), 0) + 51 FROM ingest_jobs
+WHERE NOT EXISTS (SELECT 1 FROM id_generator WHERE gen_name = 'ingest_jobs');
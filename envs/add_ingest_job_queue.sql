@@ -0,0 +1,6 @@
+-- RAG 색인 비동기 대기열 (DatabaseInitializer에서도 자동 보정)
+-- worker 는 SELECT ... FOR UPDATE SKIP LOCKED 로 작업을 가져간다 (MySQL 8 이상)
+ALTER TABLE ingest_jobs ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE ingest_jobs ADD COLUMN next_attempt_at DATETIME NULL;
+
+CREATE INDEX idx_ingest_jobs_claim ON ingest_jobs (job_status, next_attempt_at);
@@ -0,0 +1,17 @@
+-- 일정 내보내기 keyset 페이지용 인덱스 (DatabaseInitializer에서도 자동 보정)
+-- ScheduleExportService 는 ORDER BY start_datetime, id 로 페이지를 넘긴다.
+-- 기간 인덱스 (…, start_datetime, end_datetime) 는 end_datetime 이 사이에 있어 이 순서를 주지 못해 페이지마다 filesort 가 생긴다.
+CREATE INDEX idx_schedule_calendar_start_id ON schedule (calendar_id, start_datetime, id);
+CREATE INDEX idx_schedule_owner_start_id ON schedule (created_by, start_datetime, id);
+
+-- 확인용: key 컬럼에 idx_schedule_calendar_start_id 가 잡히고 Extra 에 Using filesort 가 없어야 한다.
+-- EXPLAIN SELECT id, title, content, start_datetime, end_datetime, priority, memo_id, version, recurrence_rule
+--   FROM schedule
+--  WHERE calendar_id = 1
+--    AND start_datetime <= '2026-12-31 23:59:59'
+--    AND (COALESCE(end_datetime, start_datetime) >= '2026-01-01 00:00:00'
+--         OR (recurrence_rule IS NOT NULL AND (recurrence_end IS NULL OR recurrence_end >= '2026-01-01 00:00:00')))
+--    AND (start_datetime > '2026-03-01 09:00:00' OR (start_datetime = '2026-03-01 09:00:00' AND id > 1200))
+--  ORDER BY start_datetime ASC, id ASC
+--  LIMIT 500;
+-- 개인 내보내기는 calendar_id 대신 created_by 로 바꿔 idx_schedule_owner_start_id 를 확인한다.
@@ -0,0 +1,14 @@
+-- 반복 일정 회차 예외 구간 조회용 인덱스 (DatabaseInitializer에서도 자동 보정)
+-- 원래 회차 시각은 uk_schedule_occurrence_original (schedule_id, original_start) 로 찾고
+-- 옮긴 회차는 시작/종료 시각으로 찾는다.
+CREATE INDEX idx_schedule_occurrence_start ON schedule_occurrence (schedule_id, start_datetime);
+CREATE INDEX idx_schedule_occurrence_end ON schedule_occurrence (schedule_id, end_datetime);
+
+-- 확인용: 세 조건이 각각 인덱스 범위 스캔이 되어야 한다 (type=index_merge, Using union(...)
+-- 또는 행이 적으면 uk_schedule_occurrence_original range).
+-- from = 조회 시작 - 시리즈 길이, to = 조회 끝
+-- EXPLAIN SELECT * FROM schedule_occurrence
+--  WHERE schedule_id IN (10, 11)
+--    AND (original_start BETWEEN '2026-01-31 22:00:00' AND '2026-02-28 23:59:59'
+--         OR start_datetime BETWEEN '2026-01-31 22:00:00' AND '2026-02-28 23:59:59'
+--         OR end_datetime BETWEEN '2026-01-31 22:00:00' AND '2026-02-28 23:59:59');
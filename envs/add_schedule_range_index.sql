@@ -0,0 +1,9 @@
+-- 월/기간 조회용 복합 인덱스 (DatabaseInitializer에서도 자동 보정)
+CREATE INDEX idx_schedule_calendar_period ON schedule (calendar_id, start_datetime, end_datetime);
+CREATE INDEX idx_schedule_owner_period ON schedule (created_by, start_datetime, end_datetime);
+
+-- 확인용: key 컬럼에 idx_schedule_calendar_period 가 잡혀야 한다.
+-- EXPLAIN SELECT * FROM schedule
+--  WHERE calendar_id = 1
+--    AND start_datetime <= '2026-02-28 23:59:59'
+--    AND COALESCE(end_datetime, start_datetime) >= '2026-02-01 00:00:00';
@@ -0,0 +1,16 @@
+-- 반복 일정: 시리즈 1행 + 회차 예외 (DatabaseInitializer에서도 자동 보정)
+ALTER TABLE schedule ADD COLUMN recurrence_rule VARCHAR(255) NULL;
+ALTER TABLE schedule ADD COLUMN recurrence_end DATETIME NULL;
+
+-- (schedule_id, original_start) 로 회차 식별, cancelled=1 이면 해당 회차 숨김
+CREATE TABLE IF NOT EXISTS schedule_occurrence (
+    id             BIGINT       NOT NULL PRIMARY KEY,
+    schedule_id    BIGINT       NOT NULL,
+    original_start DATETIME     NOT NULL,
+    cancelled      TINYINT(1)   NOT NULL DEFAULT 0,
+    title          VARCHAR(255) NULL,
+    content        TEXT         NULL,
+    start_datetime DATETIME     NULL,
+    end_datetime   DATETIME     NULL,
+    UNIQUE KEY uk_schedule_occurrence_original (schedule_id, original_start)
+);
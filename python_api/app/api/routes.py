@@ -1,6 +1,7 @@
 import logging
 
 from fastapi import APIRouter, Depends, Request
+from fastapi.responses import StreamingResponse
 from sqlalchemy.orm import Session
 
 from app.core.config import get_settings
@@ -134,6 +135,16 @@ def query_rag(
     return RagService().query(payload)
 
 
+@internal_router.post("/internal/rag/query/stream", include_in_schema=False)
+def query_rag_stream(
+    payload: QueryRequest,
+    request: Request,
+) -> StreamingResponse:
+    # 토큰 단위 스트리밍 (NDJSON). Spring 이 SSE 로 바꿔 브라우저에 전달한다.
+    _assert_internal_token(request)
+    return StreamingResponse(RagService().query_stream(payload), media_type="application/x-ndjson")
+
+
 @internal_router.post("/internal/assistant/parse", response_model=AssistantParseResponse, include_in_schema=False)
 def parse_assistant(
     payload: AssistantParseRequest,
@@ -1,3 +1,7 @@
+import json
+import logging
+from collections.abc import Iterator
+
 import boto3
 from openai import OpenAI
 
@@ -7,6 +11,9 @@ from app.schemas.rag import IngestRequest, IngestResponse, QueryRequest, QueryRe
 from app.services.vector_store_adapter import VectorRecord, build_vector_store_adapter
 
 
+logger = logging.getLogger(__name__)
+
+
 class RagService:
     def __init__(self) -> None:
         self.settings = get_settings()
@@ -48,6 +55,38 @@ class RagService:
         )
 
     def query(self, payload: QueryRequest) -> QueryResponse:
+        retrievals, context = self._retrieve(payload)
+        answer = self._answer(payload.question, context)
+        return QueryResponse(answer=answer, retrievals=retrievals)
+
+    def query_stream(self, payload: QueryRequest) -> Iterator[str]:
+        # NDJSON 한 줄씩: sources(검색 결과) → delta(토큰) ... → done. 실패 시 error 줄을 보내고 종료한다.
+        try:
+            retrievals, context = self._retrieve(payload)
+            yield self._line({"type": "sources", "retrievals": [item.model_dump() for item in retrievals]})
+
+            if not context.strip():
+                yield self._line({"type": "delta", "text": "검색된 문맥이 없어 답변을 생성할 수 없습니다."})
+                yield self._line({"type": "done"})
+                return
+
+            stream = self.client.responses.create(
+                model=self.settings.openai_model,
+                input=[{"role": "user", "content": self._prompt(payload.question, context)}],
+                timeout=self.settings.openai_timeout_seconds,
+                stream=True,
+            )
+            for event in stream:
+                if getattr(event, "type", None) == "response.output_text.delta" and event.delta:
+                    yield self._line({"type": "delta", "text": event.delta})
+            yield self._line({"type": "done"})
+        except AppError as exc:
+            yield self._line({"type": "error", **exc.detail})
+        except Exception:
+            logger.exception("rag query stream failed")
+            yield self._line({"type": "error", "code": "STREAM_FAILED", "message": "Failed to generate answer."})
+
+    def _retrieve(self, payload: QueryRequest) -> tuple[list[RetrievalItem], str]:
         query_embedding = self._embed(payload.question, payload.embedding_model)
         hits = self.vector_store.query_vectors(
             vector_bucket=payload.vector_bucket,
@@ -64,8 +103,11 @@ class RagService:
             for hit in hits
         ]
         context = "\n\n".join([hit.metadata.get("chunk_text", "") for hit in hits])[:6000]
-        answer = self._answer(payload.question, context)
-        return QueryResponse(answer=answer, retrievals=retrievals)
+        return retrievals, context
+
+    @staticmethod
+    def _line(event: dict) -> str:
+        return json.dumps(event, ensure_ascii=False) + "\n"
 
     def _embed(self, text: str, model: str) -> list[float]:
         response = self.client.embeddings.create(model=model, input=text)
@@ -77,14 +119,9 @@ class RagService:
         if not context.strip():
             return "검색된 문맥이 없어 답변을 생성할 수 없습니다."
 
-        prompt = (
-            "You are a retrieval assistant for a calendar and memo app. "
-            "Answer only from the given context. If context is insufficient, say so briefly.\n\n"
-            f"[Context]\n{context}\n\n[Question]\n{question}"
-        )
         response = self.client.responses.create(
             model=self.settings.openai_model,
-            input=[{"role": "user", "content": prompt}],
+            input=[{"role": "user", "content": self._prompt(question, context)}],
             timeout=self.settings.openai_timeout_seconds,
         )
         text = getattr(response, "output_text", None)
@@ -92,6 +129,14 @@ class RagService:
             return text.strip()
         return "관련 문맥이 부족해 정확한 답변을 생성하지 못했습니다."
 
+    @staticmethod
+    def _prompt(question: str, context: str) -> str:
+        return (
+            "You are a retrieval assistant for a calendar and memo app. "
+            "Answer only from the given context. If context is insufficient, say so briefly.\n\n"
+            f"[Context]\n{context}\n\n[Question]\n{question}"
+        )
+
     def _build_s3_client(self):
         kwargs: dict = {"region_name": self.settings.aws_region}
         if self.settings.aws_access_key_id and self.settings.aws_secret_access_key:
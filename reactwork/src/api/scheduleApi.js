@@ -14,6 +14,14 @@ export const getTeamMonthSchedules = (calendarId, year, month) => {
   });
 };
 
+// since 없이 호출하면 현재 기준 event-id 만 받는다.
+export const getTeamScheduleEventsSince = (calendarId, since) => {
+  return api.get("/team-schedules/events", {
+    params: { calendarId, since: since || undefined },
+    withCredentials: true,
+  });
+};
+
 export const createTeamSchedule = (scheduleData) => {
   return api.post("/team-schedules", scheduleData, {
     withCredentials: true,
@@ -20,6 +20,26 @@ export const releaseTeamCalendarLock = (calendarId, targetId, targetType = "SCHE
     withCredentials: true,
   });
 
+// targets: [{ targetId, targetType }] - 여러 일정을 한 번의 요청으로 처리
+const buildBatchBody = (targets) => ({
+  targets: targets.map(({ targetId, targetType = "SCHEDULE" }) => buildBody(targetId, targetType)),
+});
+
+export const acquireTeamCalendarLocks = (calendarId, targets) =>
+  api.post(`/team-calendars/${calendarId}/locks/acquire-batch`, buildBatchBody(targets), {
+    withCredentials: true,
+  });
+
+export const refreshTeamCalendarLocks = (calendarId, targets) =>
+  api.post(`/team-calendars/${calendarId}/locks/refresh-batch`, buildBatchBody(targets), {
+    withCredentials: true,
+  });
+
+export const releaseTeamCalendarLocks = (calendarId, targets) =>
+  api.post(`/team-calendars/${calendarId}/locks/release-batch`, buildBatchBody(targets), {
+    withCredentials: true,
+  });
+
 export const authorizeTeamCalendarWrite = (calendarId, targetId, targetType = "SCHEDULE") =>
   api.post(`/team-calendars/${calendarId}/locks/authorize-write`, buildBody(targetId, targetType), {
     withCredentials: true,
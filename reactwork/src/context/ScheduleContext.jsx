@@ -224,6 +224,46 @@ export function ScheduleProvider({ children }) {
         }
       }, [activeCalendarId, getCalendarStorageKey, mapScheduleToDateEvents]);
 
+    // 실시간 이벤트(schedule/version 포함)로 캐시된 월 데이터를 직접 갱신
+    // 반영할 수 없는 이벤트(내용 없음)면 false → 호출측에서 월 재조회
+    const applyRealtimeScheduleEvent = useCallback((calendarId, payload) => {
+        const scheduleId = Number(payload?.scheduleId);
+        if (!scheduleId) return false;
+        if (payload.action !== "DELETED" && !payload.schedule) return false;
+
+        const calendarKey = getCalendarStorageKey(calendarId);
+        const incomingVersion = payload.version ?? 0;
+        const mapped = payload.schedule ? mapScheduleToDateEvents(payload.schedule) : [];
+
+        setServerEvents((prev) => {
+            const next = { ...prev };
+            Object.keys(prev).forEach((monthKey) => {
+                if (!monthKey.startsWith(`${calendarKey}:`)) return;
+                const [year, month] = monthKey.slice(calendarKey.length + 1).split("-").map(Number);
+                const monthEvents = prev[monthKey] || {};
+
+                // 이미 더 최신 버전을 가지고 있으면 늦게 도착한 이벤트는 무시
+                const stale = Object.values(monthEvents).some((items) =>
+                    items.some((ev) => Number(ev.id) === scheduleId && (ev.version ?? 0) > incomingVersion));
+                if (stale) return;
+
+                const patched = {};
+                Object.entries(monthEvents).forEach(([dateKey, items]) => {
+                    const kept = items.filter((ev) => Number(ev.id) !== scheduleId);
+                    if (kept.length) patched[dateKey] = kept;
+                });
+                mapped.forEach(({ dateKey, event }) => {
+                    const [y, m] = dateKey.split("-").map(Number);
+                    if (y !== year || m !== month) return;
+                    patched[dateKey] = [...(patched[dateKey] || []), event];
+                });
+                next[monthKey] = patched;
+            });
+            return next;
+        });
+        return true;
+    }, [getCalendarStorageKey, mapScheduleToDateEvents]);
+
     // 특정 년/월의 스케줄 가져오기
     const getSchedulesForMonth = useCallback((year, month, calendarId = activeCalendarId) => {
         const key = `${getCalendarStorageKey(calendarId)}:${year}-${month}`;
@@ -539,6 +579,7 @@ export function ScheduleProvider({ children }) {
                 // 서버 스케줄
                 serverEvents,
                 fetchSchedules,
+                applyRealtimeScheduleEvent,
                 getSchedulesForMonth,
                 isScheduleLoading,
                 createEvent,
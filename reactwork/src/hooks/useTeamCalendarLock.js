@@ -7,6 +7,28 @@ import {
 } from "../api/teamCalendarLock";
 
 const HEARTBEAT_INTERVAL_MS = 5000;
+// STOMP 응답 대기 시간. 넘기면 HTTP 락으로 대체한다.
+const WS_ACK_TIMEOUT_MS = 3000;
+const LOCK_QUEUE = "/user/queue/locks";
+
+const buildWsUrl = () => {
+  const protocol = window.location.protocol === "https:" ? "wss" : "ws";
+  return `${protocol}://${window.location.host}/ws-native`;
+};
+
+const sendFrame = (socket, command, headers = {}, body = "") => {
+  const headerLines = Object.entries(headers).map(([k, v]) => `${k}:${v}`);
+  const frame = `${command}\n${headerLines.join("\n")}\n\n${body}\0`;
+  socket.send(frame);
+};
+
+// 서버 TeamCalendarLockKeyFactory 와 같은 형식 (/user/queue/locks 응답을 내 대상 것만 고르기 위함)
+const buildLockKey = (calendarId, targetId) => `lock:team:${calendarId}:schedule:${String(targetId).trim()}`;
+
+/*
+  락 획득/해제는 STOMP(/app/team/{id}/locks/acquire|release)로 보내고, 연장은 서버가 연결 단위로 처리한다.
+  STOMP 연결이 안 되거나 끊기면 HTTP 락 + 주기적 refresh 로 대체한다.
+*/
 
 export default function useTeamCalendarLock({ calendarId, targetId, enabled = true }) {
   const [lockState, setLockState] = useState({
@@ -16,6 +38,14 @@ export default function useTeamCalendarLock({ calendarId, targetId, enabled = tr
   });
 
   const intervalRef = useRef(null);
+  const socketRef = useRef(null);
+  const connectedRef = useRef(false);
+  const connectingRef = useRef(null);
+  const pendingRef = useRef(null);
+  // 현재 락을 쥐고 있는 경로: "ws" | "http" | null
+  const modeRef = useRef(null);
+  const disposedRef = useRef(false);
+  const fallbackRef = useRef(null);
 
   const usable = useMemo(
     () => Boolean(enabled && calendarId !== null && calendarId !== undefined && targetId),
@@ -68,11 +98,12 @@ export default function useTeamCalendarLock({ calendarId, targetId, enabled = tr
     }, HEARTBEAT_INTERVAL_MS);
   }, [refreshHeartbeat, stopHeartbeat]);
 
-  const acquireForEdit = useCallback(async () => {
+  const acquireViaHttp = useCallback(async () => {
     if (!usable) return false;
 
     try {
       const res = await acquireTeamCalendarLock(calendarId, targetId);
+      modeRef.current = "http";
       setLockState({
         status: "acquired",
         message: res.data?.message || "Lock acquired.",
@@ -109,6 +140,164 @@ export default function useTeamCalendarLock({ calendarId, targetId, enabled = tr
     }
   }, [usable, calendarId, targetId, startHeartbeat]);
 
+  const handleLockMessage = useCallback((body) => {
+    if (body?.lockKey && body.lockKey !== buildLockKey(calendarId, targetId)) return;
+
+    const pending = pendingRef.current;
+    if (pending) {
+      pendingRef.current = null;
+      pending(body);
+      return;
+    }
+
+    // 요청하지 않은 통지 = 서버 일괄 연장 실패(만료/권한 회수/다른 사용자에게 넘어감)
+    if (modeRef.current === "ws" && !body?.success) {
+      modeRef.current = null;
+      setLockState({
+        status: "lost",
+        message: body?.message || "Lock expired or moved to another user.",
+        ttlSeconds: 0,
+      });
+    }
+  }, [calendarId, targetId]);
+
+  const ensureSocket = useCallback(() => {
+    if (connectedRef.current && socketRef.current?.readyState === WebSocket.OPEN) {
+      return Promise.resolve(true);
+    }
+    if (connectingRef.current) return connectingRef.current;
+    if (typeof WebSocket === "undefined") return Promise.resolve(false);
+
+    connectingRef.current = new Promise((resolve) => {
+      let settled = false;
+      const settle = (ok) => {
+        if (settled) return;
+        settled = true;
+        connectingRef.current = null;
+        resolve(ok);
+      };
+      const timer = setTimeout(() => settle(false), WS_ACK_TIMEOUT_MS);
+
+      let socket;
+      try {
+        socket = new WebSocket(buildWsUrl());
+      } catch {
+        clearTimeout(timer);
+        settle(false);
+        return;
+      }
+      socketRef.current = socket;
+
+      socket.onopen = () => {
+        sendFrame(socket, "CONNECT", {
+          "accept-version": "1.2",
+          host: window.location.host,
+        });
+      };
+
+      socket.onmessage = (event) => {
+        String(event.data || "").split("\0").filter(Boolean).forEach((frame) => {
+          if (frame.startsWith("CONNECTED")) {
+            connectedRef.current = true;
+            sendFrame(socket, "SUBSCRIBE", { id: "team-locks", destination: LOCK_QUEUE });
+            clearTimeout(timer);
+            settle(true);
+            return;
+          }
+          if (!frame.startsWith("MESSAGE")) return;
+          const bodyStart = frame.indexOf("\n\n");
+          if (bodyStart < 0) return;
+          try {
+            handleLockMessage(JSON.parse(frame.slice(bodyStart + 2)));
+          } catch {
+            // Ignore malformed frames.
+          }
+        });
+      };
+
+      socket.onclose = () => {
+        clearTimeout(timer);
+        connectedRef.current = false;
+        if (socketRef.current === socket) socketRef.current = null;
+        settle(false);
+
+        const pending = pendingRef.current;
+        pendingRef.current = null;
+        pending?.(null);
+
+        // 연결이 끊기면 서버가 이 연결의 lease 를 해제한다 → HTTP 락으로 다시 잡는다.
+        if (!disposedRef.current && modeRef.current === "ws") {
+          modeRef.current = null;
+          fallbackRef.current?.();
+        }
+      };
+    });
+    return connectingRef.current;
+  }, [handleLockMessage]);
+
+  const sendLockCommand = useCallback(async (action) => {
+    const ok = await ensureSocket();
+    const socket = socketRef.current;
+    if (!ok || !socket) return null;
+
+    return new Promise((resolve) => {
+      const timer = setTimeout(() => {
+        if (pendingRef.current === resolver) pendingRef.current = null;
+        resolve(null);
+      }, WS_ACK_TIMEOUT_MS);
+      const resolver = (body) => {
+        clearTimeout(timer);
+        resolve(body);
+      };
+      pendingRef.current = resolver;
+
+      try {
+        sendFrame(socket, "SEND", {
+          destination: `/app/team/${calendarId}/locks/${action}`,
+          "content-type": "application/json",
+        }, JSON.stringify({ targetType: "SCHEDULE", targetId: String(targetId) }));
+      } catch {
+        pendingRef.current = null;
+        clearTimeout(timer);
+        resolve(null);
+      }
+    });
+  }, [ensureSocket, calendarId, targetId]);
+
+  const acquireForEdit = useCallback(async () => {
+    if (!usable) return false;
+
+    const body = await sendLockCommand("acquire");
+    if (!body) {
+      // STOMP 불가 → HTTP 락 + heartbeat
+      return acquireViaHttp();
+    }
+
+    if (body.success) {
+      modeRef.current = "ws";
+      stopHeartbeat();
+      setLockState({
+        status: "acquired",
+        message: body.message || "Lock acquired.",
+        ttlSeconds: body.ttlSeconds || 15,
+      });
+      return true;
+    }
+
+    setLockState({
+      status: "blocked",
+      message: body.message || "Another user is editing this schedule.",
+      ttlSeconds: body.ttlSeconds || 0,
+    });
+    return false;
+  }, [usable, sendLockCommand, acquireViaHttp, stopHeartbeat]);
+
+  useEffect(() => {
+    fallbackRef.current = () => {
+      acquireViaHttp();
+    };
+  }, [acquireViaHttp]);
+
   const authorizeWriteBeforeSave = useCallback(async () => {
     if (!usable) return false;
 
@@ -155,8 +344,14 @@ export default function useTeamCalendarLock({ calendarId, targetId, enabled = tr
 
   const releaseLock = useCallback(async () => {
     if (!usable) return;
+    const mode = modeRef.current;
+    modeRef.current = null;
     try {
-      await releaseTeamCalendarLock(calendarId, targetId);
+      if (mode === "ws" && connectedRef.current) {
+        await sendLockCommand("release");
+      } else {
+        await releaseTeamCalendarLock(calendarId, targetId);
+      }
     } catch {
       // best-effort
     } finally {
@@ -167,11 +362,23 @@ export default function useTeamCalendarLock({ calendarId, targetId, enabled = tr
         ttlSeconds: 0,
       });
     }
-  }, [usable, calendarId, targetId, stopHeartbeat]);
+  }, [usable, calendarId, targetId, sendLockCommand, stopHeartbeat]);
 
   useEffect(() => {
+    disposedRef.current = false;
     return () => {
+      disposedRef.current = true;
       stopHeartbeat();
+      // 연결을 닫으면 서버가 남은 lease 를 해제한다.
+      const socket = socketRef.current;
+      socketRef.current = null;
+      connectedRef.current = false;
+      try {
+        if (socket?.readyState === WebSocket.OPEN) sendFrame(socket, "DISCONNECT");
+        socket?.close();
+      } catch {
+        // no-op
+      }
     };
   }, [stopHeartbeat]);
 
@@ -1,4 +1,5 @@
 import { useEffect, useRef } from "react";
+import { getTeamScheduleEventsSince } from "../api/scheduleApi";
 
 const buildWsUrl = () => {
   const protocol = window.location.protocol === "https:" ? "wss" : "ws";
@@ -17,13 +18,43 @@ export default function useTeamScheduleRealtime({ calendarId, onUpdate }) {
   const retryCountRef = useRef(0);
   const connectedRef = useRef(false);
   const disposedRef = useRef(false);
+  // 마지막으로 받은 event-id (재연결 시 이후 변경분만 받아 온다)
+  const lastEventIdRef = useRef(null);
 
   useEffect(() => {
     if (!calendarId) return undefined;
 
     disposedRef.current = false;
+    lastEventIdRef.current = null;
     let socket = null;
 
+    const emit = (payload) => {
+      if (Number(payload?.calendarId) !== Number(calendarId)) return;
+      onUpdate?.(payload);
+    };
+
+    // 최초 연결: 기준점만 받는다. 재연결: 기준점 이후 변경분을 받아 적용, 로그가 잘렸으면 전체 재조회 요청
+    const catchUp = async () => {
+      let since = lastEventIdRef.current;
+      try {
+        for (;;) {
+          const { data } = await getTeamScheduleEventsSince(calendarId, since);
+          if (disposedRef.current) return;
+          if (data?.reset) {
+            lastEventIdRef.current = data.lastEventId || null;
+            emit({ calendarId, action: "RESYNC" });
+            return;
+          }
+          (data?.events || []).forEach(emit);
+          lastEventIdRef.current = data?.lastEventId || lastEventIdRef.current;
+          if (!since || !data?.hasMore) return;
+          since = lastEventIdRef.current;
+        }
+      } catch {
+        if (since) emit({ calendarId, action: "RESYNC" });
+      }
+    };
+
     const clearReconnectTimer = () => {
       if (reconnectTimerRef.current) {
         clearTimeout(reconnectTimerRef.current);
@@ -56,6 +87,8 @@ export default function useTeamScheduleRealtime({ calendarId, onUpdate }) {
             id: `team-${calendarId}`,
             destination: `/topic/team/${calendarId}`,
           });
+          // 구독 이후에 조회해야 사이에 발생한 이벤트를 놓치지 않는다(중복은 version 비교로 무시됨).
+          catchUp();
           return;
         }
 
@@ -63,10 +96,20 @@ export default function useTeamScheduleRealtime({ calendarId, onUpdate }) {
         const bodyStart = frame.indexOf("\n\n");
         if (bodyStart < 0) return;
 
+        const eventIdLine = frame.slice(0, bodyStart).split("\n").find((line) => line.startsWith("event-id:"));
+        if (eventIdLine) {
+          lastEventIdRef.current = eventIdLine.slice("event-id:".length);
+        }
+
         try {
-          const payload = JSON.parse(frame.slice(bodyStart + 2));
-          if (Number(payload?.calendarId) !== Number(calendarId)) return;
-          onUpdate?.(payload);
+          // 일정 변경은 같은 캘린더 이벤트가 배열로 묶여 올 수 있다(락 이벤트는 단건).
+          const parsed = JSON.parse(frame.slice(bodyStart + 2));
+          const payloads = Array.isArray(parsed) ? parsed : [parsed];
+          payloads.forEach(emit);
+          // event-id 없는 일정 배치 = 서버가 재전송 로그에 남기지 못한 변경 → replay 로 복구할 수 없으니 전체 재조회
+          if (Array.isArray(parsed) && !eventIdLine) {
+            emit({ calendarId, action: "RESYNC" });
+          }
         } catch {
           // Ignore malformed frames.
         }
@@ -13,7 +13,7 @@ import "./CalendarPage.css";
 
 export default function CalendarPage() {
   const { currentDate, setCurrentDate, setActiveCalendarId } = useCalendar();
-  const { initializeTeamCalendar, removeTeamCalendar, fetchSchedules, createEvent } = useSchedule();
+  const { initializeTeamCalendar, removeTeamCalendar, fetchSchedules, applyRealtimeScheduleEvent, createEvent } = useSchedule();
   const { teamId } = useParams();
   const { teams, removeTeam } = useTeamCalendar();
   const { user } = useAuth();
@@ -52,6 +52,11 @@ export default function CalendarPage() {
   const handleRealtimeUpdate = useCallback((payload) => {
     setLatestRealtimeEvent(payload || null);
     if (!teamIdNum) return;
+    // 락 상태 이벤트(LOCK_ACQUIRED/RELEASED/EXPIRED), 문서 색인 상태(DOCUMENT_STATUS)는 일정 변경이 아니므로 다시 불러오지 않는다.
+    const action = String(payload?.action || "");
+    if (action.startsWith("LOCK_") || action.startsWith("DOCUMENT_")) return;
+    // 이벤트에 커밋된 일정 내용이 있으면 로컬 상태만 고치고 월 재조회는 하지 않는다.
+    if (applyRealtimeScheduleEvent(teamIdNum, payload)) return;
 
     if (realtimeFetchTimerRef.current) {
       clearTimeout(realtimeFetchTimerRef.current);
@@ -64,7 +69,7 @@ export default function CalendarPage() {
         // Ignore background refresh errors to avoid noisy UX.
       });
     }, 300);
-  }, [teamIdNum, fetchSchedules, currentDate]);
+  }, [teamIdNum, fetchSchedules, applyRealtimeScheduleEvent, currentDate]);
 
   useEffect(() => {
     return () => {